@@ -27,10 +27,12 @@ dependencies {
     implementation("io.projectreactor:reactor-core")
     implementation("io.projectreactor.addons:reactor-extra")
     compileOnly("org.projectlombok:lombok")
+    compileOnly("io.micrometer:micrometer-core")
     annotationProcessor("org.projectlombok:lombok")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("io.projectreactor:reactor-test")
+    testImplementation("io.micrometer:micrometer-core")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -0,0 +1,147 @@
+package io.github.javirub.deezerspringbootstarter;
+
+import io.github.javirub.deezerspringbootstarter.domain.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variant of {@link DeezerClient}, returning {@link CompletableFuture}s.
+ *
+ * <p>Each call runs the blocking client on its own virtual thread, so thousands of lookups can be
+ * outstanding at once without holding as many platform threads. Futures complete exceptionally with the
+ * exception the blocking client would have thrown, wrapped in a {@link java.util.concurrent.CompletionException}.
+ */
+public interface AsyncDeezerClient {
+    /**
+     * Get an album by its ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/album/{id}">https://api.deezer.com/album/{id}</a>
+     *
+     * @param albumId The album ID
+     * @return A future completing with the album
+     */
+    CompletableFuture<Album> getAlbumById(Long albumId);
+
+    /**
+     * Get an artist by its ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/artist/{id}">https://api.deezer.com/artist/{id}</a>
+     *
+     * @param artistId The artist ID
+     * @return A future completing with the artist
+     */
+    CompletableFuture<Artist> getArtistById(Long artistId);
+
+    /**
+     * Get an editorial by its ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/editorial/{id}">https://api.deezer.com/editorial/{id}</a>
+     *
+     * @param editorialId The editorial ID
+     * @return A future completing with the editorial
+     */
+    CompletableFuture<Editorial> getEditorialById(Long editorialId);
+
+    /**
+     * Get a genre by its ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/genre/{id}">https://api.deezer.com/genre/{id}</a>
+     *
+     * @param genreId The genre ID
+     * @return A future completing with the genre
+     */
+    CompletableFuture<Genre> getGenreById(Long genreId);
+
+    /**
+     * Get a playlist by its ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/playlist/{id}">https://api.deezer.com/playlist/{id}</a>
+     *
+     * @param playlistId The playlist ID
+     * @return A future completing with the playlist
+     */
+    CompletableFuture<Playlist> getPlaylistById(Long playlistId);
+
+    /**
+     * Get a radio by its ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/radio/{id}">https://api.deezer.com/radio/{id}</a>
+     *
+     * @param radioId The radio ID
+     * @return A future completing with the radio
+     */
+    CompletableFuture<Radio> getRadioById(Long radioId);
+
+    /**
+     * Get a track by its ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/track/{id}">https://api.deezer.com/track/{id}</a>
+     *
+     * @param trackId The track ID
+     * @return A future completing with the track
+     */
+    CompletableFuture<Track> getTrackById(Long trackId);
+
+    /**
+     * Get a user by its ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/user/{id}">https://api.deezer.com/user/{id}</a>
+     *
+     * @param userId The user ID
+     * @return A future completing with the user
+     */
+    CompletableFuture<User> getUserById(Long userId);
+
+    /**
+     * Get several albums by their IDs, keyed by ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/album/{id}">https://api.deezer.com/album/{id}</a>, for each ID missing from the cache
+     *
+     * @param albumIds The album IDs
+     * @return A future completing with the albums by ID, in the order of the IDs; unknown IDs are absent
+     * @see DeezerClient#getAlbumsByIds(Collection)
+     */
+    CompletableFuture<Map<Long, Album>> getAlbumsByIds(Collection<Long> albumIds);
+
+    /**
+     * Get several artists by their IDs, keyed by ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/artist/{id}">https://api.deezer.com/artist/{id}</a>, for each ID missing from the cache
+     *
+     * @param artistIds The artist IDs
+     * @return A future completing with the artists by ID, in the order of the IDs; unknown IDs are absent
+     * @see DeezerClient#getArtistsByIds(Collection)
+     */
+    CompletableFuture<Map<Long, Artist>> getArtistsByIds(Collection<Long> artistIds);
+
+    /**
+     * Get several playlists by their IDs, keyed by ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/playlist/{id}">https://api.deezer.com/playlist/{id}</a>, for each ID missing from the cache
+     *
+     * @param playlistIds The playlist IDs
+     * @return A future completing with the playlists by ID, in the order of the IDs; unknown IDs are absent
+     * @see DeezerClient#getPlaylistsByIds(Collection)
+     */
+    CompletableFuture<Map<Long, Playlist>> getPlaylistsByIds(Collection<Long> playlistIds);
+
+    /**
+     * Get several tracks by their IDs, keyed by ID (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/track/{id}">https://api.deezer.com/track/{id}</a>, for each ID missing from the cache
+     *
+     * @param trackIds The track IDs
+     * @return A future completing with the tracks by ID, in the order of the IDs; unknown IDs are absent
+     * @see DeezerClient#getTracksByIds(Collection)
+     */
+    CompletableFuture<Map<Long, Track>> getTracksByIds(Collection<Long> trackIds);
+
+    /**
+     * Search for tracks on Deezer using the provided search options (asynchronous).
+     * Endpoint: GET <a href="https://api.deezer.com/search?q={query}&amp;strict={strict}&amp;order={order}">https://api.deezer.com/search?q={query}&amp;strict={strict}&amp;order={order}</a>
+     *
+     * @param options The search options built using SearchOptions.builder()
+     * @return A future completing with the search results
+     * @see SearchOptions
+     */
+    CompletableFuture<Search> search(SearchOptions options);
+
+    /**
+     * Convenience method for simple searches (asynchronous).
+     * Equivalent to search(SearchOptions.builder().query(query).build())
+     *
+     * @param query The search query
+     * @return A future completing with the search results
+     */
+    CompletableFuture<Search> search(String query);
+}
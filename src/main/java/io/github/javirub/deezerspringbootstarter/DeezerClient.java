@@ -2,6 +2,9 @@ package io.github.javirub.deezerspringbootstarter;
 
 import io.github.javirub.deezerspringbootstarter.domain.*;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Common interface for Deezer API clients.
  * This interface defines methods that can be implemented by both reactive and non-reactive clients.
@@ -79,6 +82,54 @@ public interface DeezerClient {
      */
     User getUserById(Long userId);
 
+    /**
+     * Get several albums by their IDs, keyed by ID (blocking).
+     * Endpoint: GET <a href="https://api.deezer.com/album/{id}">https://api.deezer.com/album/{id}</a>, for each ID missing from the cache
+     *
+     * <p>IDs are de-duplicated, the cached albums are resolved with one multi-get per batch, and only the
+     * misses are fetched, with bounded concurrency and under the rate limit.
+     *
+     * @param albumIds The album IDs
+     * @return The albums by ID, in the order of the IDs; unknown IDs are absent
+     */
+    Map<Long, Album> getAlbumsByIds(Collection<Long> albumIds);
+
+    /**
+     * Get several artists by their IDs, keyed by ID (blocking).
+     * Endpoint: GET <a href="https://api.deezer.com/artist/{id}">https://api.deezer.com/artist/{id}</a>, for each ID missing from the cache
+     *
+     * <p>IDs are de-duplicated, the cached artists are resolved with one multi-get per batch, and only the
+     * misses are fetched, with bounded concurrency and under the rate limit.
+     *
+     * @param artistIds The artist IDs
+     * @return The artists by ID, in the order of the IDs; unknown IDs are absent
+     */
+    Map<Long, Artist> getArtistsByIds(Collection<Long> artistIds);
+
+    /**
+     * Get several playlists by their IDs, keyed by ID (blocking).
+     * Endpoint: GET <a href="https://api.deezer.com/playlist/{id}">https://api.deezer.com/playlist/{id}</a>, for each ID missing from the cache
+     *
+     * <p>IDs are de-duplicated, the cached playlists are resolved with one multi-get per batch, and only the
+     * misses are fetched, with bounded concurrency and under the rate limit.
+     *
+     * @param playlistIds The playlist IDs
+     * @return The playlists by ID, in the order of the IDs; unknown IDs are absent
+     */
+    Map<Long, Playlist> getPlaylistsByIds(Collection<Long> playlistIds);
+
+    /**
+     * Get several tracks by their IDs, keyed by ID (blocking).
+     * Endpoint: GET <a href="https://api.deezer.com/track/{id}">https://api.deezer.com/track/{id}</a>, for each ID missing from the cache
+     *
+     * <p>IDs are de-duplicated, the cached tracks are resolved with one multi-get per batch, and only the
+     * misses are fetched, with bounded concurrency and under the rate limit.
+     *
+     * @param trackIds The track IDs
+     * @return The tracks by ID, in the order of the IDs; unknown IDs are absent
+     */
+    Map<Long, Track> getTracksByIds(Collection<Long> trackIds);
+
     /**
      * Search for tracks on Deezer using the provided search options (blocking).
      * Endpoint: GET <a href="https://api.deezer.com/search?q={query}&amp;strict={strict}&amp;order={order}">https://api.deezer.com/search?q={query}&amp;strict={strict}&amp;order={order}</a>
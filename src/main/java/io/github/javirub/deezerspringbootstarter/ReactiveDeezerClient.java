@@ -1,8 +1,13 @@
 package io.github.javirub.deezerspringbootstarter;
 
 import io.github.javirub.deezerspringbootstarter.domain.*;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Common interface for Deezer API clients.
  * This interface defines methods that can be implemented by both reactive and non-reactive clients.
@@ -80,6 +85,156 @@ public interface ReactiveDeezerClient {
      */
     Mono<User> getUserById(Long userId);
 
+    /**
+     * Get several albums by their IDs (reactive).
+     * Endpoint: GET https://api.deezer.com/album/{id}, for each ID missing from the cache
+     *
+     * <p>IDs are de-duplicated, the cached albums are resolved with one multi-get per batch, and only the
+     * misses are fetched, with bounded concurrency and under the rate limit. Unknown IDs are skipped.
+     *
+     * @param albumIds The album IDs
+     * @return A Flux that emits the albums, in the order of the IDs
+     */
+    Flux<Album> getAlbumsByIds(Publisher<Long> albumIds);
+
+    /**
+     * Get several albums by their IDs, keyed by ID (reactive).
+     *
+     * @param albumIds The album IDs
+     * @return A Mono that emits the albums by ID, in the order of the IDs; unknown IDs are absent
+     * @see #getAlbumsByIds(Publisher)
+     */
+    Mono<Map<Long, Album>> getAlbumsByIds(Collection<Long> albumIds);
+
+    /**
+     * Get several artists by their IDs (reactive).
+     * Endpoint: GET https://api.deezer.com/artist/{id}, for each ID missing from the cache
+     *
+     * <p>IDs are de-duplicated, the cached artists are resolved with one multi-get per batch, and only the
+     * misses are fetched, with bounded concurrency and under the rate limit. Unknown IDs are skipped.
+     *
+     * @param artistIds The artist IDs
+     * @return A Flux that emits the artists, in the order of the IDs
+     */
+    Flux<Artist> getArtistsByIds(Publisher<Long> artistIds);
+
+    /**
+     * Get several artists by their IDs, keyed by ID (reactive).
+     *
+     * @param artistIds The artist IDs
+     * @return A Mono that emits the artists by ID, in the order of the IDs; unknown IDs are absent
+     * @see #getArtistsByIds(Publisher)
+     */
+    Mono<Map<Long, Artist>> getArtistsByIds(Collection<Long> artistIds);
+
+    /**
+     * Get several playlists by their IDs (reactive).
+     * Endpoint: GET https://api.deezer.com/playlist/{id}, for each ID missing from the cache
+     *
+     * <p>IDs are de-duplicated, the cached playlists are resolved with one multi-get per batch, and only the
+     * misses are fetched, with bounded concurrency and under the rate limit. Unknown IDs are skipped.
+     *
+     * @param playlistIds The playlist IDs
+     * @return A Flux that emits the playlists, in the order of the IDs
+     */
+    Flux<Playlist> getPlaylistsByIds(Publisher<Long> playlistIds);
+
+    /**
+     * Get several playlists by their IDs, keyed by ID (reactive).
+     *
+     * @param playlistIds The playlist IDs
+     * @return A Mono that emits the playlists by ID, in the order of the IDs; unknown IDs are absent
+     * @see #getPlaylistsByIds(Publisher)
+     */
+    Mono<Map<Long, Playlist>> getPlaylistsByIds(Collection<Long> playlistIds);
+
+    /**
+     * Get several tracks by their IDs (reactive).
+     * Endpoint: GET https://api.deezer.com/track/{id}, for each ID missing from the cache
+     *
+     * <p>IDs are de-duplicated, the cached tracks are resolved with one multi-get per batch, and only the
+     * misses are fetched, with bounded concurrency and under the rate limit. Unknown IDs are skipped.
+     *
+     * @param trackIds The track IDs
+     * @return A Flux that emits the tracks, in the order of the IDs
+     */
+    Flux<Track> getTracksByIds(Publisher<Long> trackIds);
+
+    /**
+     * Get several tracks by their IDs, keyed by ID (reactive).
+     *
+     * @param trackIds The track IDs
+     * @return A Mono that emits the tracks by ID, in the order of the IDs; unknown IDs are absent
+     * @see #getTracksByIds(Publisher)
+     */
+    Mono<Map<Long, Track>> getTracksByIds(Collection<Long> trackIds);
+
+    /**
+     * Stream all the tracks of an album (reactive).
+     * Endpoint: GET https://api.deezer.com/album/{id}/tracks
+     *
+     * <p>Pages are requested lazily as tracks are consumed, the next page being fetched while the
+     * current one is consumed, and are not cached.
+     *
+     * @param albumId The album ID
+     * @return A Flux that emits the tracks of an album
+     */
+    Flux<Track> getAlbumTracks(Long albumId);
+
+    /**
+     * Stream the first tracks of an album, up to {@code maxResults} (reactive).
+     * Endpoint: GET https://api.deezer.com/album/{id}/tracks
+     *
+     * @param albumId The album ID
+     * @param maxResults The maximum number of tracks to emit
+     * @return A Flux that emits the tracks of an album
+     */
+    Flux<Track> getAlbumTracks(Long albumId, long maxResults);
+
+    /**
+     * Stream all the tracks of a playlist (reactive).
+     * Endpoint: GET https://api.deezer.com/playlist/{id}/tracks
+     *
+     * <p>Pages are requested lazily as tracks are consumed, the next page being fetched while the
+     * current one is consumed, and are not cached.
+     *
+     * @param playlistId The playlist ID
+     * @return A Flux that emits the tracks of a playlist
+     */
+    Flux<Track> getPlaylistTracks(Long playlistId);
+
+    /**
+     * Stream the first tracks of a playlist, up to {@code maxResults} (reactive).
+     * Endpoint: GET https://api.deezer.com/playlist/{id}/tracks
+     *
+     * @param playlistId The playlist ID
+     * @param maxResults The maximum number of tracks to emit
+     * @return A Flux that emits the tracks of a playlist
+     */
+    Flux<Track> getPlaylistTracks(Long playlistId, long maxResults);
+
+    /**
+     * Stream all the top tracks of an artist (reactive).
+     * Endpoint: GET https://api.deezer.com/artist/{id}/top
+     *
+     * <p>Pages are requested lazily as tracks are consumed, the next page being fetched while the
+     * current one is consumed, and are not cached.
+     *
+     * @param artistId The artist ID
+     * @return A Flux that emits the top tracks of an artist
+     */
+    Flux<Track> getArtistTopTracks(Long artistId);
+
+    /**
+     * Stream the first top tracks of an artist, up to {@code maxResults} (reactive).
+     * Endpoint: GET https://api.deezer.com/artist/{id}/top
+     *
+     * @param artistId The artist ID
+     * @param maxResults The maximum number of tracks to emit
+     * @return A Flux that emits the top tracks of an artist
+     */
+    Flux<Track> getArtistTopTracks(Long artistId, long maxResults);
+
     /**
      * Search for tracks on Deezer using the provided search options (reactive).
      * Endpoint: GET https://api.deezer.com/search?q={query}&amp;strict={strict}&amp;order={order}
@@ -98,4 +253,28 @@ public interface ReactiveDeezerClient {
      * @return A Mono that emits the search results
      */
     Mono<Search> search(String query);
+
+    /**
+     * Stream all the tracks matching the search options, following Deezer's paging (reactive).
+     * Endpoint: GET https://api.deezer.com/search?q={query}&amp;index={index}&amp;limit={limit}
+     *
+     * <p>Pages are requested lazily as tracks are consumed, the next page being fetched while the
+     * current one is consumed, and are not cached.
+     *
+     * @param options The search options built using SearchOptions.builder()
+     * @return A Flux that emits the matching tracks
+     * @see SearchOptions
+     */
+    Flux<Track> searchAll(SearchOptions options);
+
+    /**
+     * Stream the first tracks matching the search options, up to {@code maxResults} (reactive).
+     * Endpoint: GET https://api.deezer.com/search?q={query}&amp;index={index}&amp;limit={limit}
+     *
+     * @param options The search options built using SearchOptions.builder()
+     * @param maxResults The maximum number of tracks to emit
+     * @return A Flux that emits the matching tracks
+     * @see SearchOptions
+     */
+    Flux<Track> searchAll(SearchOptions options, long maxResults);
 }
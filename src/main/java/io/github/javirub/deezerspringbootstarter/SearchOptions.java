@@ -195,4 +195,25 @@ public class SearchOptions {
 
         return queryParams;
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds the cache key identifying the results of this search.
+     * Searches sending the same query parameters share the same key.
+     *
+     * @return The cache key, in the {@code search:<query>} form
+     */
+    public String buildCacheKey() {
+        StringBuilder cacheKeyBuilder = new StringBuilder("search:");
+        cacheKeyBuilder.append(buildQueryString());
+
+        if (strict != null) {
+            cacheKeyBuilder.append(":strict=").append(strict);
+        }
+
+        if (order != null) {
+            cacheKeyBuilder.append(":order=").append(order);
+        }
+
+        return cacheKeyBuilder.toString();
+    }
+}
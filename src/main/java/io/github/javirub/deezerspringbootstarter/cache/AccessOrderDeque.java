@@ -0,0 +1,121 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+/**
+ * Intrusive doubly linked list used to keep keys in access order.
+ * All operations are constant time. The deque is not thread-safe; callers must guard it.
+ *
+ * @param <K> The type of keys
+ */
+final class AccessOrderDeque<K> {
+
+    private Node<K> head;
+    private Node<K> tail;
+    private int size;
+
+    /**
+     * Appends a node at the most recently used end.
+     *
+     * @param node The node to append
+     */
+    void addLast(Node<K> node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+    }
+
+    /**
+     * Moves a node already contained in this deque to the most recently used end.
+     *
+     * @param node The node to move
+     */
+    void moveToLast(Node<K> node) {
+        if (node != tail) {
+            remove(node);
+            addLast(node);
+        }
+    }
+
+    /**
+     * Unlinks a node contained in this deque.
+     *
+     * @param node The node to unlink
+     */
+    void remove(Node<K> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    /**
+     * Returns the least recently used node without removing it.
+     *
+     * @return The least recently used node, or null if the deque is empty
+     */
+    Node<K> peekFirst() {
+        return head;
+    }
+
+    /**
+     * Removes and returns the least recently used node.
+     *
+     * @return The least recently used node, or null if the deque is empty
+     */
+    Node<K> pollFirst() {
+        Node<K> first = head;
+        if (first != null) {
+            remove(first);
+        }
+        return first;
+    }
+
+    /**
+     * Returns the number of nodes in the deque.
+     *
+     * @return The deque size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all nodes.
+     */
+    void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Deque node holding a key.
+     *
+     * @param <K> The type of keys
+     */
+    static final class Node<K> {
+
+        final K key;
+        Node<K> prev;
+        Node<K> next;
+        boolean inWindow;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exports the statistics of the Deezer cache as Micrometer meters.
+ *
+ * <p>Lookups are counted per resource, read from the prefix of their key ({@code album}, {@code search}…),
+ * whichever partition holds the resource; keys of other resources are counted under {@code default}:
+ * <ul>
+ *   <li>{@code deezer.cache.gets}: lookups, tagged {@code result=hit} or {@code result=miss}</li>
+ * </ul>
+ * Each in-memory partition gets its own set of meters, tagged with {@code resource} set to the
+ * partition's resource or {@code default} for the partition shared by the resources without their own
+ * {@code deezer.cache.endpoints.<resource>} configuration:
+ * <ul>
+ *   <li>{@code deezer.cache.loads}: loads, tagged {@code result=success} or {@code result=failure}</li>
+ *   <li>{@code deezer.cache.load.duration}: time spent loading values</li>
+ *   <li>{@code deezer.cache.evictions}: entries removed because the partition was full or they expired</li>
+ *   <li>{@code deezer.cache.size}: entries currently cached</li>
+ * </ul>
+ * When compression is enabled, {@code deezer.cache.compression.ratio} reports how many times smaller
+ * compressed entries are, and {@code deezer.cache.compression.decode} the time spent decompressing them.
+ * Meters read the cache counters when they are published, so recording costs nothing beyond the counters.
+ */
+public class CacheMetrics implements MeterBinder {
+
+    private final Map<String, Lookups> lookups;
+    private final Map<String, Supplier<CacheStats>> partitions;
+    private final Supplier<CompressionStats> compressionStats;
+
+    /**
+     * Creates a new CacheMetrics.
+     *
+     * @param lookups The hit and miss counts of each resource, by resource name
+     * @param partitions Supplies the statistics of each partition, by resource name
+     * @param compressionStats Supplies the compression statistics, or null if compression is disabled
+     */
+    private CacheMetrics(Map<String, Lookups> lookups, Map<String, Supplier<CacheStats>> partitions,
+                         Supplier<CompressionStats> compressionStats) {
+        this.lookups = lookups;
+        this.partitions = partitions;
+        this.compressionStats = compressionStats;
+    }
+
+    /**
+     * Creates the metrics of a cache, reported per resource and partition when it is a
+     * {@link PartitionedReactiveCache}, possibly wrapped in a {@link NormalizingReactiveCache},
+     * and as a single {@code default} resource otherwise.
+     *
+     * @param cache The cache
+     * @return The cache metrics
+     */
+    public static CacheMetrics of(ReactiveCache<?, ?> cache) {
+        ReactiveCache<?, ?> unwrapped = cache instanceof NormalizingReactiveCache<?> normalizing
+                ? normalizing.getDelegate()
+                : cache;
+        if (unwrapped instanceof PartitionedReactiveCache<?> partitioned) {
+            Map<String, Lookups> lookups = new TreeMap<>();
+            partitioned.lookupCounters().forEach((resource, counter) ->
+                    lookups.put(resource, new Lookups(counter::hitCount, counter::missCount)));
+            Map<String, Supplier<CacheStats>> partitions = new TreeMap<>();
+            partitioned.partitionsByName().forEach((resource, inMemory) -> partitions.put(resource, inMemory::stats));
+            return new CacheMetrics(lookups, partitions,
+                    partitioned.compressionStats() != null ? partitioned::compressionStats : null);
+        }
+        return new CacheMetrics(
+                Map.of(PartitionedReactiveCache.DEFAULT_PARTITION,
+                        new Lookups(() -> unwrapped.stats().hitCount(), () -> unwrapped.stats().missCount())),
+                Map.of(PartitionedReactiveCache.DEFAULT_PARTITION, unwrapped::stats),
+                null);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String resource : lookups.keySet()) {
+            counter(registry, "deezer.cache.gets", resource, "hit", "Lookups answered from the cache",
+                    metrics -> metrics.lookups.get(resource).hits().getAsLong());
+            counter(registry, "deezer.cache.gets", resource, "miss", "Lookups that waited for a load",
+                    metrics -> metrics.lookups.get(resource).misses().getAsLong());
+        }
+        for (String resource : partitions.keySet()) {
+            counter(registry, "deezer.cache.loads", resource, "success", "Loads that produced a value",
+                    metrics -> metrics.statsOf(resource).loadSuccessCount());
+            counter(registry, "deezer.cache.loads", resource, "failure", "Loads that failed or produced no value",
+                    metrics -> metrics.statsOf(resource).loadFailureCount());
+            FunctionTimer.builder("deezer.cache.load.duration", this,
+                            metrics -> {
+                                CacheStats current = metrics.statsOf(resource);
+                                return current.loadSuccessCount() + current.loadFailureCount();
+                            },
+                            metrics -> metrics.statsOf(resource).totalLoadTime(),
+                            TimeUnit.NANOSECONDS)
+                    .tag("resource", resource)
+                    .description("Time spent loading values")
+                    .register(registry);
+            FunctionCounter.builder("deezer.cache.evictions", this, metrics -> metrics.statsOf(resource).evictionCount())
+                    .tag("resource", resource)
+                    .description("Entries removed because the cache was full or they expired")
+                    .register(registry);
+            Gauge.builder("deezer.cache.size", this, metrics -> metrics.statsOf(resource).size())
+                    .tag("resource", resource)
+                    .description("Entries currently cached")
+                    .register(registry);
+        }
+        if (compressionStats != null) {
+            Gauge.builder("deezer.cache.compression.ratio", this, metrics -> metrics.compressionStats.get().compressionRatio())
+                    .description("Uncompressed size of the compressed entries divided by their compressed size")
+                    .register(registry);
+            FunctionTimer.builder("deezer.cache.compression.decode", this,
+                            metrics -> metrics.compressionStats.get().decodeCount(),
+                            metrics -> metrics.compressionStats.get().totalDecodeTime(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Time spent decompressing entries")
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String resource, String result, String description,
+                         ToDoubleFunction<CacheMetrics> count) {
+        FunctionCounter.builder(name, this, count)
+                .tag("resource", resource)
+                .tag("result", result)
+                .description(description)
+                .register(registry);
+    }
+
+    private CacheStats statsOf(String resource) {
+        return partitions.get(resource).get();
+    }
+
+    /**
+     * The hit and miss counts of a resource.
+     *
+     * @param hits Reads the number of hits
+     * @param misses Reads the number of misses
+     */
+    private record Lookups(LongSupplier hits, LongSupplier misses) {
+    }
+}
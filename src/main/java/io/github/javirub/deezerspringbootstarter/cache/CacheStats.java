@@ -0,0 +1,88 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+/**
+ * Point-in-time statistics of a cache.
+ *
+ * <p>Counts are cumulative since the cache was created. A hit is a lookup answered from the cache,
+ * including stale values served while revalidating and remembered not-found errors; a miss is a lookup
+ * that had to wait for a load, whether it started the load or joined one already in flight. Expired
+ * entries removed by cleanup are counted as evictions, invalidated ones are not.
+ *
+ * @param hitCount Number of lookups answered from the cache
+ * @param missCount Number of lookups that waited for a load
+ * @param loadSuccessCount Number of loads that produced a value
+ * @param loadFailureCount Number of loads that failed or produced no value
+ * @param totalLoadTime Time spent loading values, in nanoseconds
+ * @param evictionCount Number of entries removed because the cache was full or they expired
+ * @param size Number of entries currently cached
+ */
+public record CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+                         long totalLoadTime, long evictionCount, long size) {
+
+    private static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * Returns statistics with every count at zero, reported by caches that do not record any.
+     *
+     * @return Empty statistics
+     */
+    public static CacheStats empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of lookups.
+     *
+     * @return The number of hits and misses
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups answered from the cache.
+     *
+     * @return The hit rate, or 1 if there was no lookup
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Returns the ratio of lookups that waited for a load.
+     *
+     * @return The miss rate, or 0 if there was no lookup
+     */
+    public double missRate() {
+        long requests = requestCount();
+        return requests == 0 ? 0.0 : (double) missCount / requests;
+    }
+
+    /**
+     * Returns the average time spent loading a value.
+     *
+     * @return The average load time in nanoseconds, or 0 if nothing was loaded
+     */
+    public double averageLoadPenalty() {
+        long loads = loadSuccessCount + loadFailureCount;
+        return loads == 0 ? 0.0 : (double) totalLoadTime / loads;
+    }
+
+    /**
+     * Adds up the statistics of two caches.
+     *
+     * @param other The statistics to add
+     * @return The combined statistics
+     */
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(
+                hitCount + other.hitCount,
+                missCount + other.missCount,
+                loadSuccessCount + other.loadSuccessCount,
+                loadFailureCount + other.loadFailureCount,
+                totalLoadTime + other.totalLoadTime,
+                evictionCount + other.evictionCount,
+                size + other.size);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free accumulator of cache statistics.
+ *
+ * <p>Each count is a {@link LongAdder}, which spreads concurrent increments over striped cells, so
+ * recording a hit on a hot key from many threads does not contend on a single memory location.
+ * Counts are only summed when a {@link CacheStats} snapshot is taken.
+ */
+final class CacheStatsCounter {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Records a load that produced a value.
+     *
+     * @param loadTime Time spent loading, in nanoseconds
+     */
+    void recordLoadSuccess(long loadTime) {
+        loadSuccesses.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    /**
+     * Records a load that failed or produced no value.
+     *
+     * @param loadTime Time spent loading, in nanoseconds
+     */
+    void recordLoadFailure(long loadTime) {
+        loadFailures.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    /**
+     * Takes a snapshot of the counts.
+     *
+     * @param size The current number of entries
+     * @return The statistics
+     */
+    CacheStats snapshot(long size) {
+        return new CacheStats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(),
+                totalLoadTime.sum(), evictions.sum(), size);
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.ReactiveDeezerClient;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Prefetches a known set of resources into the cache when the application starts.
+ *
+ * <p>The resources are listed with {@code deezer.cache.warm-up.ids.<resource>} and/or in a manifest file
+ * ({@code deezer.cache.warm-up.manifest}) holding one cache key per line, such as {@code track:3135556};
+ * blank lines and lines starting with {@code #} are ignored. They are fetched through the
+ * {@link ReactiveDeezerClient}, so they land in every cache tier, with bounded concurrency and paced to
+ * stay under the Deezer request quota. Failures are retried by the client's retry policy, and resources
+ * still failing are skipped.
+ *
+ * <p>As an {@link ApplicationRunner}, the warm-up runs before the application reports itself ready to
+ * accept traffic. When {@code deezer.cache.warm-up.readiness-threshold} is set, startup waits until that
+ * percentage of the resources has been processed (or the readiness timeout elapses); the rest keeps
+ * loading in the background.
+ */
+public class CacheWarmer implements ApplicationRunner {
+
+    private final DeezerProperties.Cache.WarmUp warmUp;
+    private final ResourceLoader resourceLoader;
+    private final Map<String, Function<Long, Mono<?>>> fetchers;
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private volatile Disposable subscription;
+
+    /**
+     * Creates a new CacheWarmer.
+     *
+     * @param client The client used to fetch the resources
+     * @param warmUp The warm-up configuration
+     * @param resourceLoader The loader used to read the manifest
+     */
+    public CacheWarmer(ReactiveDeezerClient client, DeezerProperties.Cache.WarmUp warmUp, ResourceLoader resourceLoader) {
+        this.warmUp = warmUp;
+        this.resourceLoader = resourceLoader;
+        this.fetchers = Map.of(
+                "album", client::getAlbumById,
+                "artist", client::getArtistById,
+                "editorial", client::getEditorialById,
+                "genre", client::getGenreById,
+                "playlist", client::getPlaylistById,
+                "radio", client::getRadioById,
+                "track", client::getTrackById,
+                "user", client::getUserById);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> keys = readKeys();
+        if (keys.isEmpty()) {
+            return;
+        }
+        int required = (int) Math.ceil(keys.size() * Math.min(100, Math.max(0, warmUp.getReadinessThreshold())) / 100.0);
+        Sinks.Empty<Void> ready = Sinks.empty();
+        if (required == 0) {
+            ready.tryEmitEmpty();
+        }
+        subscription = warm(keys)
+                .doOnNext(success -> {
+                    if (success) {
+                        loaded.incrementAndGet();
+                    }
+                    if (processed.incrementAndGet() == required) {
+                        ready.tryEmitEmpty();
+                    }
+                })
+                .doFinally(signal -> ready.tryEmitEmpty())
+                .subscribe();
+        ready.asMono()
+                .timeout(Duration.ofSeconds(warmUp.getReadinessTimeout()), Mono.empty())
+                .block();
+    }
+
+    /**
+     * Returns the number of resources fetched successfully so far.
+     *
+     * @return The number of warmed resources
+     */
+    public int getLoaded() {
+        return loaded.get();
+    }
+
+    /**
+     * Stops the warm-up if it is still running.
+     * Called when the application context is closed.
+     */
+    public void close() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Fetches the resources, paced and with bounded concurrency.
+     *
+     * @param keys The cache keys of the resources
+     * @return A Flux emitting, for each resource, whether it was fetched successfully
+     */
+    private Flux<Boolean> warm(List<String> keys) {
+        Duration interval = warmUp.getRequestsPerSecond() > 0
+                ? Duration.ofNanos(1_000_000_000L / warmUp.getRequestsPerSecond())
+                : Duration.ZERO;
+        Flux<String> paced = interval.isZero() ? Flux.fromIterable(keys) : Flux.fromIterable(keys).delayElements(interval);
+        return paced.flatMap(this::fetch, Math.max(1, warmUp.getConcurrency()));
+    }
+
+    private Mono<Boolean> fetch(String key) {
+        int separator = key.indexOf(':');
+        Function<Long, Mono<?>> fetcher = separator > 0 ? fetchers.get(key.substring(0, separator)) : null;
+        Long id = parseId(key.substring(separator + 1));
+        if (fetcher == null || id == null) {
+            return Mono.just(false);
+        }
+        return Mono.defer(() -> fetcher.apply(id))
+                .map(value -> true)
+                .defaultIfEmpty(false)
+                .onErrorReturn(false);
+    }
+
+    /**
+     * Collects the cache keys of the configured resources, without duplicates.
+     *
+     * @return The cache keys, in configuration order
+     */
+    private List<String> readKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        warmUp.getIds().forEach((resource, ids) -> ids.forEach(id -> keys.add(resource + ":" + id)));
+        if (warmUp.getManifest() != null) {
+            Resource manifest = resourceLoader.getResource(warmUp.getManifest());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(manifest.getInputStream(), StandardCharsets.UTF_8))) {
+                reader.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .forEach(keys::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read warm-up manifest " + warmUp.getManifest(), e);
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+/**
+ * Millisecond clock read from a cached value instead of the system on every call.
+ *
+ * <p>The owner of the clock calls {@link #tick()} at a fixed rate from its scheduler, and cache hit
+ * checks read the last tick with a single volatile load. Until the first tick, and after
+ * {@link #stop()}, the clock falls back to {@link System#currentTimeMillis()}, so a cache whose
+ * scheduler is not running still sees the current time.
+ */
+final class CoarseClock {
+
+    private volatile long now;
+    private volatile boolean ticking;
+
+    /**
+     * Returns the current time in milliseconds, as of the last tick.
+     *
+     * @return The current time in milliseconds
+     */
+    long millis() {
+        return ticking ? now : System.currentTimeMillis();
+    }
+
+    /**
+     * Updates the cached time.
+     */
+    void tick() {
+        now = System.currentTimeMillis();
+        ticking = true;
+    }
+
+    /**
+     * Stops using the cached time.
+     */
+    void stop() {
+        ticking = false;
+    }
+}
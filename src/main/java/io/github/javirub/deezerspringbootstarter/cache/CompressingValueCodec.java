@@ -0,0 +1,140 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * ValueCodec deflating the encoded form of large values.
+ *
+ * <p>Values whose encoded form is smaller than the threshold are stored exactly as the delegate codec
+ * encodes them. Larger ones, typically playlists and albums with their full track lists, whose JSON
+ * repeats the same picture URLs and artist blocks many times, are deflated and stored as a 2-byte
+ * marker, the 4-byte uncompressed length, then the raw deflate stream. Decoding recognizes both forms,
+ * so entries written before compression was enabled remain readable.
+ *
+ * <p>Compressed sizes and decode times are recorded and reported by {@link #stats()}.
+ *
+ * @param <V> The type of values
+ */
+public class CompressingValueCodec<V> implements ValueCodec<V> {
+
+    private static final byte MARKER_FIRST = (byte) 0xDF;
+    private static final byte MARKER_SECOND = (byte) 'Z';
+    private static final int HEADER_BYTES = 2 + Integer.BYTES;
+
+    private final ValueCodec<V> delegate;
+    private final int threshold;
+    private final int level;
+    private final LongAdder compressedCount = new LongAdder();
+    private final LongAdder uncompressedBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder decodeCount = new LongAdder();
+    private final LongAdder totalDecodeTime = new LongAdder();
+
+    /**
+     * Creates a new CompressingValueCodec.
+     *
+     * @param delegate The codec producing the uncompressed form
+     * @param threshold Minimum encoded size in bytes of the values to compress
+     * @param level Deflate compression level, from 1 (fastest) to 9 (smallest)
+     */
+    public CompressingValueCodec(ValueCodec<V> delegate, int threshold, int level) {
+        this.delegate = delegate;
+        this.threshold = Math.max(0, threshold);
+        this.level = Math.min(Deflater.BEST_COMPRESSION, Math.max(Deflater.BEST_SPEED, level));
+    }
+
+    @Override
+    public byte[] encode(V value) {
+        byte[] encoded = delegate.encode(value);
+        if (encoded == null || encoded.length < threshold) {
+            return encoded;
+        }
+        byte[] compressed = deflate(encoded);
+        if (compressed.length + HEADER_BYTES >= encoded.length) {
+            return encoded;
+        }
+        compressedCount.increment();
+        uncompressedBytes.add(encoded.length);
+        compressedBytes.add(compressed.length + HEADER_BYTES);
+        return ByteBuffer.allocate(HEADER_BYTES + compressed.length)
+                .put(MARKER_FIRST)
+                .put(MARKER_SECOND)
+                .putInt(encoded.length)
+                .put(compressed)
+                .array();
+    }
+
+    @Override
+    public V decode(byte[] bytes) {
+        if (!isCompressed(bytes)) {
+            return delegate.decode(bytes);
+        }
+        long start = System.nanoTime();
+        try {
+            return delegate.decode(inflate(bytes));
+        } finally {
+            decodeCount.increment();
+            totalDecodeTime.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the compression statistics.
+     *
+     * @return A snapshot of the compression statistics
+     */
+    public CompressionStats stats() {
+        return new CompressionStats(compressedCount.sum(), uncompressedBytes.sum(), compressedBytes.sum(),
+                decodeCount.sum(), totalDecodeTime.sum());
+    }
+
+    private static boolean isCompressed(byte[] bytes) {
+        return bytes.length > HEADER_BYTES && bytes[0] == MARKER_FIRST && bytes[1] == MARKER_SECOND;
+    }
+
+    private byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 4);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        int length = ByteBuffer.wrap(bytes, 2, Integer.BYTES).getInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid compressed value length " + length);
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES);
+            byte[] output = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int inflated = inflater.inflate(output, read, length - read);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed value");
+                }
+                read += inflated;
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Unable to inflate cached value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+/**
+ * Point-in-time statistics of a {@link CompressingValueCodec}.
+ * Counts are cumulative since the codec was created.
+ *
+ * @param compressedCount Number of values stored compressed
+ * @param uncompressedBytes Encoded size in bytes of the values stored compressed, before compression
+ * @param compressedBytes Size in bytes of the same values after compression
+ * @param decodeCount Number of compressed values decoded
+ * @param totalDecodeTime Time spent decoding compressed values, in nanoseconds
+ */
+public record CompressionStats(long compressedCount, long uncompressedBytes, long compressedBytes,
+                               long decodeCount, long totalDecodeTime) {
+
+    /**
+     * Returns how many times smaller compressed values are than their uncompressed form.
+     *
+     * @return The compression ratio, or 1 if nothing was compressed
+     */
+    public double compressionRatio() {
+        return compressedBytes == 0 ? 1.0 : (double) uncompressedBytes / compressedBytes;
+    }
+}
@@ -0,0 +1,412 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent ReactiveCache backed by memory-mapped segment files.
+ *
+ * <p>Entries are appended to a fixed set of segment files used as a ring, forming an append-only log.
+ * Each segment starts with a header holding its sequence number, and each record carries the key,
+ * the serialized value, its expiration time and a CRC32 checksum. Invalidations append tombstones.
+ * The key index lives in memory and is rebuilt on startup by replaying the segments in sequence
+ * order, so entries written before a restart are served again without calling the API. Replay stops
+ * at the first torn or stale record of a segment.
+ *
+ * <p>When all segments are full, the oldest one is reclaimed as a whole. Reads are lock-free and run
+ * on the bounded elastic scheduler, so page faults never stall an event loop; writes are serialized
+ * by a lock. Values whose record does not fit in a segment are not stored.
+ *
+ * <p>Expired entries are never searched for: a read finding one drops it, recovery skips them, and the
+ * reclamation of its segment drops the others, so the index never outgrows the keys the segments hold.
+ *
+ * <p>This cache is meant to be used as a lower tier of a {@link TieredReactiveCache}; it does not
+ * coalesce concurrent loads itself. As a lower tier, it stores values with the expiration of the
+ * {@link TieredLoad} if that comes before the end of its own TTL, and skips background refreshes.
+ *
+ * @param <V> The type of values
+ */
+public class DiskReactiveCache<V> implements ReactiveCache<String, V> {
+
+    private static final int SEGMENT_MAGIC = 0x445A4353;
+    private static final int RECORD_MAGIC = 0x445A4352;
+    private static final int SEGMENT_HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 32;
+    private static final int TOMBSTONE = -1;
+
+    private final ValueCodec<V> codec;
+    private final Duration ttl;
+    private final int segmentSize;
+    private final FileChannel[] channels;
+    private final MappedByteBuffer[] segments;
+    private final long[] sequences;
+    private final AtomicIntegerArray generations;
+    private final ArrayDeque<String>[] segmentKeys;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private int currentSegment;
+    private int writeOffset;
+    private long nextSequence;
+
+    /**
+     * Creates a new DiskReactiveCache, recovering the entries stored in the directory.
+     *
+     * @param directory Directory holding the segment files
+     * @param maxBytes Maximum number of bytes stored on disk
+     * @param segmentBytes Size of each segment file in bytes
+     * @param ttl Time-to-live of the entries
+     * @param codec The codec used to serialize values
+     * @throws UncheckedIOException if the segment files cannot be opened
+     */
+    @SuppressWarnings("unchecked")
+    public DiskReactiveCache(Path directory, long maxBytes, int segmentBytes, Duration ttl, ValueCodec<V> codec) {
+        this.codec = codec;
+        this.ttl = ttl;
+        this.segmentSize = Math.max(SEGMENT_HEADER_BYTES + RECORD_HEADER_BYTES + 1, segmentBytes);
+        int segmentCount = (int) Math.max(1, Math.min(1024, maxBytes / segmentSize));
+        this.channels = new FileChannel[segmentCount];
+        this.segments = new MappedByteBuffer[segmentCount];
+        this.sequences = new long[segmentCount];
+        this.generations = new AtomicIntegerArray(segmentCount);
+        this.segmentKeys = new ArrayDeque[segmentCount];
+        try {
+            Files.createDirectories(directory);
+            for (int i = 0; i < segmentCount; i++) {
+                segmentKeys[i] = new ArrayDeque<>();
+                channels[i] = FileChannel.open(directory.resolve(String.format("segment-%04d.dat", i)),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                segments[i] = channels[i].map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Unable to open disk cache in " + directory, e);
+        }
+        recover();
+    }
+
+    @Override
+    public Mono<V> get(String key, Function<String, Mono<V>> valueLoader) {
+        return Mono.deferContextual(context -> {
+            TieredLoad load = TieredLoad.of(context);
+            Mono<V> cached = load == null || !load.isRefresh()
+                    ? Mono.fromCallable(() -> read(key, load)).subscribeOn(Schedulers.boundedElastic())
+                    : Mono.empty();
+            return cached.switchIfEmpty(Mono.defer(() -> valueLoader.apply(key)
+                    .doOnNext(value -> write(key, value, load))));
+        });
+    }
+
+    @Override
+    public Mono<Map<String, V>> getAllPresent(Collection<String> keys) {
+        return Mono.fromCallable(() -> {
+                    Map<String, V> values = new LinkedHashMap<>();
+                    for (String key : keys) {
+                        V value = read(key, null);
+                        if (value != null) {
+                            values.put(key, value);
+                        }
+                    }
+                    return values;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Void> invalidate(String key) {
+        return Mono.fromRunnable(() -> {
+            writeLock.lock();
+            try {
+                if (index.remove(key) != null) {
+                    append(key, null, 0);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> invalidateAll() {
+        return Mono.fromRunnable(() -> {
+            writeLock.lock();
+            try {
+                for (int i = 0; i < segments.length; i++) {
+                    generations.incrementAndGet(i);
+                    segmentKeys[i].clear();
+                    sequences[i] = 0;
+                    segments[i].putInt(0, 0);
+                }
+                index.clear();
+                currentSegment = 0;
+                startSegment(0);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Flushes the segments to disk and closes the segment files.
+     */
+    public void close() {
+        writeLock.lock();
+        try {
+            for (int i = 0; i < channels.length; i++) {
+                if (segments[i] != null) {
+                    segments[i].force();
+                }
+                if (channels[i] != null) {
+                    channels[i].close();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to close disk cache", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index by replaying the segments from the oldest to the newest,
+     * and positions the writer at the end of the newest segment.
+     */
+    private void recover() {
+        for (int i = 0; i < segments.length; i++) {
+            sequences[i] = segments[i].getInt(0) == SEGMENT_MAGIC ? segments[i].getLong(8) : 0;
+        }
+        int[] order = IntStream.range(0, segments.length)
+                .filter(i -> sequences[i] > 0)
+                .boxed()
+                .sorted(Comparator.comparingLong(i -> sequences[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        if (order.length == 0) {
+            nextSequence = 1;
+            currentSegment = 0;
+            startSegment(0);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int end = SEGMENT_HEADER_BYTES;
+        for (int segment : order) {
+            end = replay(segment, now);
+        }
+        currentSegment = order[order.length - 1];
+        writeOffset = end;
+        nextSequence = Arrays.stream(sequences).max().orElse(0) + 1;
+    }
+
+    /**
+     * Replays the valid records of a segment into the index.
+     *
+     * @param segment The segment to replay
+     * @param now The current timestamp in milliseconds
+     * @return The offset following the last valid record
+     */
+    private int replay(int segment, long now) {
+        MappedByteBuffer buffer = segments[segment];
+        int offset = SEGMENT_HEADER_BYTES;
+        while (offset + RECORD_HEADER_BYTES <= segmentSize) {
+            if (buffer.getInt(offset) != RECORD_MAGIC || buffer.getLong(offset + 4) != sequences[segment]) {
+                break;
+            }
+            long expirationTime = buffer.getLong(offset + 12);
+            int keyLength = buffer.getInt(offset + 20);
+            int valueLength = buffer.getInt(offset + 24);
+            int checksum = buffer.getInt(offset + 28);
+            int dataLength = keyLength + Math.max(valueLength, 0);
+            if (keyLength < 0 || valueLength < TOMBSTONE
+                    || (long) offset + RECORD_HEADER_BYTES + dataLength > segmentSize) {
+                break;
+            }
+            byte[] data = new byte[dataLength];
+            buffer.get(offset + RECORD_HEADER_BYTES, data);
+            if (checksum(data) != checksum) {
+                break;
+            }
+            String key = new String(data, 0, keyLength, StandardCharsets.UTF_8);
+            if (valueLength == TOMBSTONE || expirationTime < now) {
+                index.remove(key);
+            } else {
+                index.put(key, new Location(segment, offset + RECORD_HEADER_BYTES + keyLength, valueLength,
+                        generations.get(segment), expirationTime));
+                segmentKeys[segment].add(key);
+            }
+            offset += RECORD_HEADER_BYTES + dataLength;
+        }
+        return offset;
+    }
+
+    /**
+     * Reads and decodes the value stored for a key.
+     *
+     * @param key The cache key
+     * @param load The load to report the expiration of the value to, or null
+     * @return The value, or null if absent, expired, reclaimed or undecodable
+     */
+    private V read(String key, TieredLoad load) {
+        Location location = index.get(key);
+        if (location == null) {
+            return null;
+        }
+        if (location.isExpired(System.currentTimeMillis())) {
+            index.remove(key, location);
+            return null;
+        }
+        byte[] bytes = new byte[location.length()];
+        segments[location.segment()].get(location.offset(), bytes);
+        // Make sure the copy is complete before checking that the segment was not reclaimed meanwhile
+        VarHandle.loadLoadFence();
+        if (generations.get(location.segment()) != location.generation()) {
+            index.remove(key, location);
+            return null;
+        }
+        try {
+            V value = codec.decode(bytes);
+            if (load != null) {
+                load.foundCopy(location.expirationTime());
+            }
+            return value;
+        } catch (IllegalArgumentException e) {
+            index.remove(key, location);
+            return null;
+        }
+    }
+
+    /**
+     * Encodes and appends a value.
+     *
+     * @param key The cache key
+     * @param value The value to store
+     * @param load The load the value comes from, or null
+     */
+    private void write(String key, V value, TieredLoad load) {
+        byte[] bytes = codec.encode(value);
+        if (bytes == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Location location = append(key, bytes, TieredLoad.expirationTime(load, System.currentTimeMillis(), ttl));
+            if (location != null) {
+                index.put(key, location);
+                segmentKeys[location.segment()].add(key);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Appends a record to the current segment, moving to the next segment if it is full.
+     * Must be called with the write lock held.
+     *
+     * @param key The cache key
+     * @param value The encoded value, or null to append a tombstone
+     * @param expirationTime The expiration timestamp in milliseconds
+     * @return The location of the value, or null for tombstones and records too large for a segment
+     */
+    private Location append(String key, byte[] value, long expirationTime) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int valueLength = value != null ? value.length : TOMBSTONE;
+        byte[] data = new byte[keyBytes.length + Math.max(valueLength, 0)];
+        System.arraycopy(keyBytes, 0, data, 0, keyBytes.length);
+        if (value != null) {
+            System.arraycopy(value, 0, data, keyBytes.length, value.length);
+        }
+        int recordLength = RECORD_HEADER_BYTES + data.length;
+        if (recordLength > segmentSize - SEGMENT_HEADER_BYTES) {
+            return null;
+        }
+        if (writeOffset + recordLength > segmentSize) {
+            currentSegment = (currentSegment + 1) % segments.length;
+            startSegment(currentSegment);
+        }
+        MappedByteBuffer buffer = segments[currentSegment];
+        int offset = writeOffset;
+        buffer.put(offset + RECORD_HEADER_BYTES, data);
+        buffer.putLong(offset + 4, sequences[currentSegment]);
+        buffer.putLong(offset + 12, expirationTime);
+        buffer.putInt(offset + 20, keyBytes.length);
+        buffer.putInt(offset + 24, valueLength);
+        buffer.putInt(offset + 28, checksum(data));
+        buffer.putInt(offset, RECORD_MAGIC);
+        writeOffset += recordLength;
+        if (value == null) {
+            return null;
+        }
+        return new Location(currentSegment, offset + RECORD_HEADER_BYTES + keyBytes.length, value.length,
+                generations.get(currentSegment), expirationTime);
+    }
+
+    /**
+     * Reclaims a segment and starts writing it with a new sequence number.
+     * The generation is bumped first, so concurrent readers of the segment detect the reclamation.
+     *
+     * @param segment The segment to start
+     */
+    private void startSegment(int segment) {
+        generations.incrementAndGet(segment);
+        String key;
+        while ((key = segmentKeys[segment].poll()) != null) {
+            index.computeIfPresent(key, (k, location) -> location.segment() == segment ? null : location);
+        }
+        sequences[segment] = nextSequence++;
+        MappedByteBuffer buffer = segments[segment];
+        buffer.putLong(8, sequences[segment]);
+        buffer.putInt(4, 0);
+        buffer.putInt(0, SEGMENT_MAGIC);
+        writeOffset = SEGMENT_HEADER_BYTES;
+    }
+
+    private static int checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Position of a serialized value in the segments.
+     *
+     * @param segment The segment index
+     * @param offset The offset of the value in the segment
+     * @param length The length of the encoded value
+     * @param generation The segment generation the value was written in
+     * @param expirationTime The expiration timestamp in milliseconds
+     */
+    private record Location(int segment, int offset, int length, int generation, long expirationTime) {
+
+        /**
+         * Checks if the entry is expired.
+         *
+         * @param now The current timestamp in milliseconds
+         * @return true if expired, false otherwise
+         */
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.domain.Album;
+import io.github.javirub.deezerspringbootstarter.domain.Artist;
+import io.github.javirub.deezerspringbootstarter.domain.Editorial;
+import io.github.javirub.deezerspringbootstarter.domain.Genre;
+import io.github.javirub.deezerspringbootstarter.domain.Playlist;
+import io.github.javirub.deezerspringbootstarter.domain.Radio;
+import io.github.javirub.deezerspringbootstarter.domain.Track;
+import io.github.javirub.deezerspringbootstarter.domain.User;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of Deezer entities by type and ID, fed with every API response.
+ *
+ * <p>Responses embed other entities: an album carries its genres, contributors and tracks, a playlist
+ * its creator and tracks. When a response is indexed, the response itself and every entity nested in it
+ * are stored under the same key the cache uses for that resource ({@code artist:27}, {@code track:3135556}),
+ * so later lookups for those IDs can be served without calling the API.
+ *
+ * <p>Nested entities are usually abridged by Deezer, so each entry records whether it is the
+ * {@linkplain IndexedEntity#partial() partial} representation seen inside another response or the full
+ * one returned by the resource's own endpoint. A partial entry never replaces a full one.
+ */
+public class EntityIndex {
+
+    private static final Map<Class<?>, String> RESOURCES = Map.of(
+            Album.class, "album",
+            Artist.class, "artist",
+            Editorial.class, "editorial",
+            Genre.class, "genre",
+            Playlist.class, "playlist",
+            Radio.class, "radio",
+            Track.class, "track",
+            User.class, "user");
+
+    private static final String DOMAIN_PACKAGE = Album.class.getPackageName();
+
+    private static final ClassValue<RecordComponent[]> COMPONENTS = new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(Class<?> type) {
+            return type.getRecordComponents();
+        }
+    };
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final EvictionStrategy<String> eviction;
+    private final Duration ttl;
+
+    /**
+     * Creates a new EntityIndex.
+     *
+     * @param maxSize Maximum number of indexed entities; the least recently used are evicted first
+     * @param ttl Time-to-live of the indexed entities
+     */
+    public EntityIndex(int maxSize, Duration ttl) {
+        this.eviction = new LruEvictionStrategy<>(maxSize);
+        this.ttl = ttl;
+    }
+
+    /**
+     * An indexed entity.
+     *
+     * @param value The entity
+     * @param partial Whether the entity was seen embedded in another response and may lack fields
+     * @param <T> The type of the entity
+     */
+    public record IndexedEntity<T>(T value, boolean partial) {
+    }
+
+    /**
+     * Returns the entity of the given type and ID, if it has been seen in a response.
+     *
+     * @param type The entity type
+     * @param id The entity ID
+     * @param <T> The type of the entity
+     * @return The indexed entity, or an empty Optional if it is unknown or expired
+     */
+    public <T> Optional<IndexedEntity<T>> find(Class<T> type, long id) {
+        String resource = RESOURCES.get(type);
+        if (resource == null) {
+            return Optional.empty();
+        }
+        return find(resource + ":" + id).map(entity -> new IndexedEntity<>(type.cast(entity.value()), entity.partial()));
+    }
+
+    /**
+     * Returns the entity stored under a cache key such as {@code artist:27}.
+     *
+     * @param key The cache key
+     * @return The indexed entity, or an empty Optional if it is unknown or expired
+     */
+    public Optional<IndexedEntity<Object>> find(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            remove(key);
+            return Optional.empty();
+        }
+        eviction.onAccess(key);
+        return Optional.of(new IndexedEntity<>(entry.value(), entry.partial()));
+    }
+
+    /**
+     * Indexes a response and all the entities nested in it.
+     * The response is indexed as a full representation if it was returned by its resource's endpoint,
+     * that is if the cache key it was loaded for names its own type.
+     *
+     * @param key The cache key the response was loaded for
+     * @param response The response
+     */
+    public void index(String key, Object response) {
+        if (response == null) {
+            return;
+        }
+        String resource = RESOURCES.get(response.getClass());
+        boolean full = resource != null && key.equals(resource + ":" + idOf(response));
+        visit(response, full);
+    }
+
+    /**
+     * Removes the entity stored under a cache key.
+     *
+     * @param key The cache key
+     */
+    public void remove(String key) {
+        if (entries.remove(key) != null) {
+            eviction.onRemove(key);
+        }
+    }
+
+    /**
+     * Removes all indexed entities.
+     */
+    public void clear() {
+        entries.clear();
+        eviction.clear();
+    }
+
+    /**
+     * Indexes an entity, then walks its record components for nested entities.
+     *
+     * @param value The value to visit
+     * @param full Whether the value is a full representation
+     */
+    private void visit(Object value, boolean full) {
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> visit(element, false));
+            return;
+        }
+        if (value == null || !value.getClass().isRecord() || !DOMAIN_PACKAGE.equals(value.getClass().getPackageName())) {
+            return;
+        }
+        String resource = RESOURCES.get(value.getClass());
+        Object id = resource != null ? idOf(value) : null;
+        if (id != null) {
+            put(resource + ":" + id, value, !full);
+        }
+        for (RecordComponent component : COMPONENTS.get(value.getClass())) {
+            visit(read(component, value), false);
+        }
+    }
+
+    private void put(String key, Object value, boolean partial) {
+        long expirationTime = System.currentTimeMillis() + ttl.toMillis();
+        boolean[] inserted = {false};
+        entries.compute(key, (k, existing) -> {
+            if (partial && existing != null && !existing.partial() && !existing.isExpired(System.currentTimeMillis())) {
+                return existing;
+            }
+            inserted[0] = existing == null;
+            return new Entry(value, partial, expirationTime);
+        });
+        if (inserted[0]) {
+            String victim = eviction.onInsert(key);
+            if (victim != null) {
+                entries.remove(victim);
+            }
+        }
+    }
+
+    private static Object idOf(Object entity) {
+        RecordComponent[] components = COMPONENTS.get(entity.getClass());
+        return components.length > 0 && "id".equals(components[0].getName()) ? read(components[0], entity) : null;
+    }
+
+    private static Object read(RecordComponent component, Object record) {
+        try {
+            return component.getAccessor().invoke(record);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    /**
+     * An indexed entity with its expiration time.
+     *
+     * @param value The entity
+     * @param partial Whether the entity is a partial representation
+     * @param expirationTime The time in milliseconds when the entry expires
+     */
+    private record Entry(Object value, boolean partial, long expirationTime) {
+
+        boolean isExpired(long now) {
+            return now >= expirationTime;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+/**
+ * Bookkeeping for the eviction order of a bounded cache.
+ *
+ * <p>Implementations track which keys are resident and decide, in constant time,
+ * which key has to leave the cache when a new one is inserted past capacity.
+ * The strategy does not hold values; the owning cache removes the returned victims
+ * from its own storage.
+ *
+ * @param <K> The type of keys
+ */
+interface EvictionStrategy<K> {
+
+    /**
+     * Records a read of a resident key.
+     * Implementations may drop the update under contention, so reads never block.
+     *
+     * @param key The key that was read
+     */
+    void onAccess(K key);
+
+    /**
+     * Records the insertion of a new key.
+     *
+     * @param key The key that was inserted
+     * @return The key that must be evicted to stay within capacity (possibly the inserted key itself),
+     *         or {@code null} if nothing has to be evicted
+     */
+    K onInsert(K key);
+
+    /**
+     * Records the removal of a key from the cache.
+     *
+     * @param key The key that was removed
+     */
+    void onRemove(K key);
+
+    /**
+     * Forgets all tracked keys.
+     */
+    void clear();
+}
@@ -0,0 +1,104 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+/**
+ * Count-min sketch estimating how often keys are accessed, with 4-bit counters.
+ *
+ * <p>Each key maps to four counters packed into {@code long} words; the estimate is the minimum of
+ * the four. Once the number of recorded increments reaches ten times the cache capacity, all
+ * counters are halved so that old popularity fades out. The sketch is not thread-safe; callers
+ * must guard it.
+ *
+ * @param <K> The type of keys
+ */
+final class FrequencySketch<K> {
+
+    private static final long[] SEED = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    /**
+     * Creates a sketch sized for the given cache capacity.
+     *
+     * @param capacity Maximum number of resident keys of the cache
+     */
+    FrequencySketch(int capacity) {
+        int maximum = Math.max(1, Math.min(capacity, 1 << 30));
+        int tableSize = Integer.highestOneBit(maximum - 1) << 1;
+        this.table = new long[Math.max(1, tableSize)];
+        this.tableMask = table.length - 1;
+        this.sampleSize = (maximum > Integer.MAX_VALUE / 10) ? Integer.MAX_VALUE : 10 * maximum;
+    }
+
+    /**
+     * Returns the estimated number of occurrences of a key, at most 15.
+     *
+     * @param key The key
+     * @return The estimated frequency
+     */
+    int frequency(K key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the estimated frequency of a key, aging all counters periodically.
+     *
+     * @param key The key
+     */
+    void increment(K key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (odd >>> 2);
+    }
+
+    private int indexOf(int item, int i) {
+        long hash = (item + SEED[i]) * SEED[i];
+        hash += (hash >>> 32);
+        return ((int) hash) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
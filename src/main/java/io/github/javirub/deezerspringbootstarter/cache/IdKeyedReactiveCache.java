@@ -0,0 +1,26 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.LongFunction;
+
+/**
+ * ReactiveCache that can also look up resources by type and numeric ID without building a String key.
+ *
+ * <p>Entries are shared with the String-keyed view: {@code get("album", 302127, loader)} and
+ * {@code get("album:302127", loader)} address the same entry, and invalidating either key invalidates both.
+ *
+ * @param <V> The type of values
+ */
+public interface IdKeyedReactiveCache<V> extends ReactiveCache<String, V> {
+
+    /**
+     * Gets a resource from the cache, or loads it using the provided function if it's not in the cache.
+     *
+     * @param resource The resource type (album, artist, track, ...)
+     * @param id The resource ID
+     * @param valueLoader Function to load the resource from its ID if not found in the cache
+     * @return A Mono that emits the cached or loaded value
+     */
+    Mono<V> get(String resource, long id, LongFunction<Mono<V>> valueLoader);
+}
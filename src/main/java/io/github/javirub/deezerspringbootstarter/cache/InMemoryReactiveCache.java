@@ -1,32 +1,80 @@
 package io.github.javirub.deezerspringbootstarter.cache;
 
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
 import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * In-memory implementation of ReactiveCache using ConcurrentHashMap.
  *
+ * <p>Concurrent misses for the same key are coalesced: the first subscriber starts the load and
+ * every other subscriber arriving while it is in flight attaches to the same pending {@link Mono},
+ * so a burst of identical requests results in a single upstream call.
+ *
+ * <p>When the cache is full, the configured {@link DeezerProperties.EvictionPolicy} picks the entry to
+ * drop in constant time, so inserts into a large cache never scan the whole map.
+ *
+ * <p>Optionally, hot entries are refreshed ahead of their expiration: once an entry is older than
+ * {@code deezer.cache.refresh-ahead-factor} of its TTL, the cached value is returned immediately and a
+ * single background reload is triggered. With {@code deezer.cache.stale-while-revalidate}, entries that
+ * expired recently are also served while their reload is in flight, so callers of hot keys never wait
+ * for an upstream round-trip.
+ *
+ * <p>Loads failing with {@link DeezerNotFoundException} are kept in a separate negative cache for
+ * {@code deezer.cache.negative-ttl} seconds, so repeated lookups of unknown IDs fail fast with the
+ * same typed error instead of calling the API again.
+ *
+ * <p>All entries share the same TTL, so the order in which they are written is also the order in which
+ * they expire. Every write is appended to an expiration queue, and cleanup only pops the expired head
+ * of that queue instead of scanning the whole map; its cost is proportional to the entries actually
+ * expiring. The queue only holds keys and timestamps, so values evicted or replaced before they expire
+ * can be collected right away. Values copied from a lower tier keep the remaining TTL of their copy and may thus expire
+ * before entries written earlier; lookups never serve them past their expiration, and cleanup removes
+ * them once the entries ahead of them in the queue have expired. Hit checks read the time from a
+ * {@link CoarseClock} ticked by the owning scheduler.
+ *
+ * <p>Hits, misses, loads and evictions are counted with striped counters and reported by {@link #stats()}.
+ *
  * @param <K> The type of keys
  * @param <V> The type of values
  */
 public class InMemoryReactiveCache<K, V> implements ReactiveCache<K, V> {
 
     private final Map<K, CacheEntry<V>> cache;
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final EvictionStrategy<K> eviction;
+    private final Map<K, NegativeEntry> negative;
+    private final EvictionStrategy<K> negativeEviction;
+    private final Queue<Expiration<K>> expirations = new ConcurrentLinkedQueue<>();
+    private final Queue<Expiration<K>> negativeExpirations = new ConcurrentLinkedQueue<>();
+    private final CoarseClock clock;
+    private final CacheStatsCounter statsCounter = new CacheStatsCounter();
     private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration staleWhileRevalidate;
+    private final Duration negativeTtl;
     private final int maxSize;
     private final long cleanupInterval;
+    private final Consumer<K> removalListener;
+    private final Function<K, CacheStatsCounter> lookupStats;
     private ScheduledExecutorService executor;
 
     /**
@@ -35,10 +83,61 @@ public class InMemoryReactiveCache<K, V> implements ReactiveCache<K, V> {
      * @param properties Deezer configuration properties
      */
     public InMemoryReactiveCache(DeezerProperties properties) {
-        this.maxSize = properties.getCache().getMaxSize();
+        this(properties.getCache(), new DeezerProperties.Cache.Endpoint());
+    }
+
+    /**
+     * Creates a new InMemoryReactiveCache for a single resource.
+     * Values not set on the endpoint are taken from the global cache configuration.
+     *
+     * @param cache The global cache configuration
+     * @param endpoint The resource-specific overrides
+     */
+    public InMemoryReactiveCache(DeezerProperties.Cache cache, DeezerProperties.Cache.Endpoint endpoint) {
+        this(cache, endpoint, new CoarseClock(), key -> { }, key -> null);
+    }
+
+    /**
+     * Creates a new InMemoryReactiveCache for a single resource, reading the time from a shared clock.
+     *
+     * @param cache The global cache configuration
+     * @param endpoint The resource-specific overrides
+     * @param clock The clock ticked by the owner's scheduler
+     * @param removalListener Notified of every key evicted, expired or invalidated, so the owner can drop its copies
+     * @param lookupStats Resolves the owner's counter that also records the hits and misses of a key, or null if none
+     */
+    InMemoryReactiveCache(DeezerProperties.Cache cache, DeezerProperties.Cache.Endpoint endpoint, CoarseClock clock,
+                          Consumer<K> removalListener, Function<K, CacheStatsCounter> lookupStats) {
+        this.clock = clock;
+        this.removalListener = removalListener;
+        this.lookupStats = lookupStats;
+        this.maxSize = endpoint.getMaxSize() != null ? endpoint.getMaxSize() : cache.getMaxSize();
         this.cache = new ConcurrentHashMap<>(this.maxSize);
-        this.ttl = Duration.ofSeconds(properties.getCache().getTtl());
-        this.cleanupInterval = properties.getCache().getCleanupInterval();
+        this.ttl = Duration.ofSeconds(endpoint.getTtl() != null ? endpoint.getTtl() : cache.getTtl());
+        this.cleanupInterval = cache.getCleanupInterval();
+        this.eviction = createEvictionStrategy(cache.getEvictionPolicy(), this.maxSize);
+        double refreshAheadFactor = cache.getRefreshAheadFactor();
+        this.refreshAhead = refreshAheadFactor > 0 && refreshAheadFactor < 1
+                ? Duration.ofMillis((long) (ttl.toMillis() * refreshAheadFactor))
+                : null;
+        this.staleWhileRevalidate = Duration.ofSeconds(cache.getStaleWhileRevalidate());
+        this.negativeTtl = Duration.ofSeconds(cache.getNegativeTtl());
+        this.negative = new ConcurrentHashMap<>();
+        this.negativeEviction = new LruEvictionStrategy<>(this.maxSize);
+    }
+
+    /**
+     * Creates the eviction strategy for the configured policy.
+     *
+     * @param policy The eviction policy
+     * @param maxSize Maximum number of entries
+     * @return The eviction strategy
+     */
+    private static <K> EvictionStrategy<K> createEvictionStrategy(DeezerProperties.EvictionPolicy policy, int maxSize) {
+        return switch (policy) {
+            case LRU -> new LruEvictionStrategy<>(maxSize);
+            case W_TINY_LFU -> new WindowTinyLfuEvictionStrategy<>(maxSize);
+        };
     }
 
     @PostConstruct
@@ -78,53 +177,381 @@ public class InMemoryReactiveCache<K, V> implements ReactiveCache<K, V> {
 
     @Override
     public Mono<V> get(K key, Function<K, Mono<V>> valueLoader) {
-        return Mono.justOrEmpty(getCacheEntry(key))
-                .filter(entry -> !entry.isExpired())
-                .map(CacheEntry::value)
-                .switchIfEmpty(valueLoader.apply(key)
-                        .doOnNext(value -> {
-                            // Check if cache is full and evict if necessary
-                            if (cache.size() >= maxSize && !cache.containsKey(key)) {
-                                evictLeastRecentlyUsed();
-                            }
-                            cache.put(key, CacheEntry.of(value, ttl));
-                        })
-                        .doOnError(error -> cache.remove(key)));
+        return Mono.defer(() -> {
+            CacheEntry<V> entry = getCacheEntry(key);
+            if (entry != null) {
+                long now = clock.millis();
+                if (!entry.isStale(now)) {
+                    recordHit(key);
+                    eviction.onAccess(key);
+                    if (entry.isRefreshDue(now)) {
+                        refreshInBackground(key, valueLoader);
+                    }
+                    return Mono.just(entry.value());
+                }
+            }
+            NegativeEntry miss = negative.get(key);
+            if (miss != null) {
+                if (!miss.isExpired(clock.millis())) {
+                    recordHit(key);
+                    return Mono.error(miss.error().copy());
+                }
+                removeNegative(key, miss);
+            }
+            recordMiss(key);
+            return inFlight.computeIfAbsent(key, k -> load(k, valueLoader, false));
+        });
+    }
+
+    /**
+     * Returns the values of the given keys that are cached and not due for a refresh.
+     * Found keys count as hits; missing ones are left to {@link #get(Object, Function)}, which counts them.
+     *
+     * @param keys The cache keys
+     * @return A Mono emitting the values found, keyed by cache key in request order
+     */
+    @Override
+    public Mono<Map<K, V>> getAllPresent(Collection<K> keys) {
+        return Mono.fromSupplier(() -> {
+            long now = clock.millis();
+            Map<K, V> values = new LinkedHashMap<>();
+            for (K key : keys) {
+                CacheEntry<V> entry = getCacheEntry(key);
+                if (entry != null && !entry.isRefreshDue(now)) {
+                    recordHit(key);
+                    eviction.onAccess(key);
+                    values.put(key, entry.value());
+                }
+            }
+            return values;
+        });
+    }
+
+    /**
+     * Records a hit, also with the owner's counter for the key if it has one.
+     *
+     * @param key The cache key
+     */
+    private void recordHit(K key) {
+        statsCounter.recordHit();
+        CacheStatsCounter lookups = lookupStats.apply(key);
+        if (lookups != null) {
+            lookups.recordHit();
+        }
+    }
+
+    /**
+     * Records a miss, also with the owner's counter for the key if it has one.
+     *
+     * @param key The cache key
+     */
+    private void recordMiss(K key) {
+        statsCounter.recordMiss();
+        CacheStatsCounter lookups = lookupStats.apply(key);
+        if (lookups != null) {
+            lookups.recordMiss();
+        }
+    }
+
+    /**
+     * Starts a reload of a key without waiting for it, unless one is already in flight.
+     * The reload skips the lower tiers, which would only return the copy being refreshed.
+     * Errors are swallowed: the current value keeps being served until it becomes stale.
+     *
+     * @param key The cache key
+     * @param valueLoader Function to compute the value
+     */
+    private void refreshInBackground(K key, Function<K, Mono<V>> valueLoader) {
+        if (!inFlight.containsKey(key)) {
+            inFlight.computeIfAbsent(key, k -> load(k, valueLoader, true))
+                    .subscribe(value -> { }, error -> { });
+        }
+    }
+
+    /**
+     * Creates the shared load for a key.
+     * The loader is only invoked once the first subscriber arrives, and its result is shared with
+     * every subscriber that joins while the load is in flight. The in-flight slot is released when
+     * the load completes, fails, or when all subscribers have cancelled (which also cancels the
+     * upstream request). A load whose slot was invalidated while it was in flight does not write its
+     * result, so values read before an invalidation are never stored after it.
+     * When the loader asks lower tiers, they store the value with this cache's TTL and report the
+     * expiration of the copy they answer from, which the value keeps here too (see {@link TieredLoad}).
+     *
+     * @param key The cache key
+     * @param valueLoader Function to compute the value
+     * @param refresh Whether the load refreshes a cached value in the background
+     * @return A Mono shared by all concurrent callers for the key
+     */
+    private Mono<V> load(K key, Function<K, Mono<V>> valueLoader, boolean refresh) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        TieredLoad tiered = new TieredLoad(ttl, refresh);
+        Mono<V> shared = Mono.defer(() -> timed(tiered.applyTo(valueLoader.apply(key))))
+                .doOnNext(value -> ifCurrent(key, self.get(),
+                        () -> put(key, value, tiered.expirationTime(clock.millis()))))
+                .doOnError(error -> {
+                    removeIfStale(key);
+                    if (error instanceof DeezerNotFoundException notFound) {
+                        ifCurrent(key, self.get(), () -> putNegative(key, notFound));
+                    }
+                })
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .flux()
+                .publish()
+                .refCount(1)
+                .singleOrEmpty();
+        self.set(shared);
+        return shared;
+    }
+
+    /**
+     * Stores the result of a load, unless the load was invalidated while in flight.
+     * The write happens under the in-flight slot's lock, so it cannot interleave with {@link #invalidate(Object)}.
+     *
+     * @param key The cache key
+     * @param load The load that produced the result
+     * @param write The write storing the result
+     */
+    private void ifCurrent(K key, Mono<V> load, Runnable write) {
+        inFlight.computeIfPresent(key, (k, current) -> {
+            if (current == load) {
+                write.run();
+            }
+            return current;
+        });
+    }
+
+    /**
+     * Records the duration and outcome of a load.
+     *
+     * @param load The load
+     * @return The load, recording its statistics when it terminates
+     */
+    private Mono<V> timed(Mono<V> load) {
+        long start = System.nanoTime();
+        return load
+                .doOnSuccess(value -> {
+                    if (value != null) {
+                        statsCounter.recordLoadSuccess(System.nanoTime() - start);
+                    } else {
+                        statsCounter.recordLoadFailure(System.nanoTime() - start);
+                    }
+                })
+                .doOnError(error -> statsCounter.recordLoadFailure(System.nanoTime() - start));
+    }
+
+    /**
+     * Stores a value in the cache, evicting an entry chosen by the eviction policy if the cache is full.
+     * The map write and the eviction bookkeeping happen together under the key's lock, so a concurrent
+     * removal of the same key cannot leave the eviction policy tracking a key the map does not hold.
+     *
+     * @param key The cache key
+     * @param value The value to store
+     * @param expirationTime The expiration timestamp in milliseconds
+     */
+    private void put(K key, V value, long expirationTime) {
+        NegativeEntry miss = negative.get(key);
+        if (miss != null) {
+            removeNegative(key, miss);
+        }
+        CacheEntry<V> entry = CacheEntry.of(value, clock.millis(), expirationTime, refreshAhead, staleWhileRevalidate);
+        expirations.add(new Expiration<>(key, entry.staleTime()));
+        AtomicReference<K> victim = new AtomicReference<>();
+        cache.compute(key, (k, previous) -> {
+            if (previous == null) {
+                victim.set(eviction.onInsert(k));
+            }
+            return entry;
+        });
+        // The policy no longer tracks the victim, so it is dropped from the map without further bookkeeping
+        if (victim.get() != null && cache.remove(victim.get()) != null) {
+            statsCounter.recordEviction();
+            removalListener.accept(victim.get());
+        }
+    }
+
+    /**
+     * Remembers that a key does not exist upstream, unless negative caching is disabled.
+     *
+     * @param key The cache key
+     * @param error The not-found error to replay
+     */
+    private void putNegative(K key, DeezerNotFoundException error) {
+        if (negativeTtl.isZero() || negativeTtl.isNegative()) {
+            return;
+        }
+        NegativeEntry miss = new NegativeEntry(error.copy(), clock.millis() + negativeTtl.toMillis());
+        negativeExpirations.add(new Expiration<>(key, miss.expirationTime()));
+        AtomicReference<K> victim = new AtomicReference<>();
+        negative.compute(key, (k, previous) -> {
+            if (previous == null) {
+                victim.set(negativeEviction.onInsert(k));
+            }
+            return miss;
+        });
+        if (victim.get() != null) {
+            negative.remove(victim.get());
+        }
+    }
+
+    /**
+     * Removes a negative entry and its eviction bookkeeping.
+     *
+     * @param key The cache key
+     * @param miss The negative entry expected for the key
+     */
+    private void removeNegative(K key, NegativeEntry miss) {
+        removeNegative(key, miss.expirationTime());
+    }
+
+    /**
+     * Removes a negative entry and its eviction bookkeeping, unless it was replaced by a later one.
+     *
+     * @param key The cache key
+     * @param expirationTime The expiration timestamp in milliseconds of the negative entry expected for the key
+     */
+    private void removeNegative(K key, long expirationTime) {
+        negative.computeIfPresent(key, (k, current) -> {
+            if (current.expirationTime() != expirationTime) {
+                return current;
+            }
+            negativeEviction.onRemove(k);
+            return null;
+        });
     }
 
     /**
-     * Evicts the least recently used entries to make space for new ones.
-     * Removes expired entries first, then oldest entries if needed.
+     * Removes an entry after a failed load, unless it can still be served.
+     *
+     * @param key The cache key
      */
-    private void evictLeastRecentlyUsed() {
-        // Remove expired entries first
-        cache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+    private void removeIfStale(K key) {
+        long now = clock.millis();
+        if (removeEntry(key, current -> current.isStale(now))) {
+            statsCounter.recordEviction();
+        }
+    }
+
+    /**
+     * Removes an entry and its eviction bookkeeping.
+     *
+     * @param key The cache key
+     */
+    private void remove(K key) {
+        removeEntry(key, current -> true);
+    }
 
-        // If needed, remove oldest entries
-        while (cache.size() >= maxSize) {
-            cache.entrySet().stream()
-                    .min(Comparator.comparingLong(e -> e.getValue().expirationTime))
-                    .ifPresent(oldestEntry -> cache.remove(oldestEntry.getKey()));
+    /**
+     * Removes an entry and its eviction bookkeeping together under the key's lock.
+     *
+     * @param key The cache key
+     * @param removable Whether the entry currently stored for the key is to be removed
+     * @return true if an entry was removed, false otherwise
+     */
+    private boolean removeEntry(K key, Predicate<CacheEntry<V>> removable) {
+        AtomicBoolean removed = new AtomicBoolean();
+        cache.computeIfPresent(key, (k, current) -> {
+            if (!removable.test(current)) {
+                return current;
+            }
+            eviction.onRemove(k);
+            removed.set(true);
+            return null;
+        });
+        if (removed.get()) {
+            removalListener.accept(key);
         }
+        return removed.get();
     }
 
     @Override
     public Mono<Void> invalidate(K key) {
-        return Mono.fromRunnable(() -> cache.remove(key));
+        return Mono.fromRunnable(() -> {
+            inFlight.remove(key);
+            remove(key);
+            NegativeEntry miss = negative.get(key);
+            if (miss != null) {
+                removeNegative(key, miss);
+            }
+        });
     }
 
     @Override
     public Mono<Void> invalidateAll() {
-        return Mono.fromRunnable(cache::clear);
+        return Mono.fromRunnable(() -> {
+            inFlight.clear();
+            cache.clear();
+            eviction.clear();
+            negative.clear();
+            negativeEviction.clear();
+            expirations.clear();
+            negativeExpirations.clear();
+        });
     }
 
     /**
-     * Scheduled task to clean expired entries.
-     * Runs every minute by default.
+     * Removes expired entries.
+     * Entries still within their stale-while-revalidate window are kept.
+     * Only the expired head of the expiration queues is visited; queued writes whose entry has since
+     * been replaced, evicted or invalidated no longer match the stored entry's time and are simply dropped.
+     * Called by the owner's scheduler, every minute by default.
      */
-    @Scheduled(fixedDelayString = "${deezer.cache.cleanup-interval:60000}")
     public void cleanExpiredEntries() {
-        cache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        long now = clock.millis();
+        Expiration<K> expired;
+        while ((expired = pollExpired(expirations, now)) != null) {
+            long staleTime = expired.time();
+            if (removeEntry(expired.key(), current -> current.staleTime() == staleTime)) {
+                statsCounter.recordEviction();
+            }
+        }
+        while ((expired = pollExpired(negativeExpirations, now)) != null) {
+            removeNegative(expired.key(), expired.time());
+        }
+    }
+
+    /**
+     * Removes the head of an expiration queue if it has expired.
+     *
+     * @param queue The expiration queue
+     * @param now The current timestamp in milliseconds
+     * @return The expired head, or null if the head has not expired yet
+     */
+    private static <K> Expiration<K> pollExpired(Queue<Expiration<K>> queue, long now) {
+        Expiration<K> head = queue.peek();
+        if (head == null || now <= head.time()) {
+            return null;
+        }
+        queue.poll();
+        return head;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot(cache.size());
+    }
+
+    /**
+     * Records a lookup answered by the owner from a copy of this cache's entries.
+     * The access is reported to the eviction policy, so keys only read through the copy do not look cold.
+     * Like a regular hit, this allocates nothing.
+     *
+     * @param key The cache key that was read
+     */
+    void onAccess(K key) {
+        statsCounter.recordHit();
+        eviction.onAccess(key);
+    }
+
+    /**
+     * Returns the time until which the entry of a key can be returned without triggering a reload.
+     *
+     * @param key The cache key
+     * @return The refresh time in milliseconds, or 0 if the key is not cached
+     */
+    long freshUntil(K key) {
+        CacheEntry<V> entry = cache.get(key);
+        return entry != null ? entry.refreshTime() : 0;
     }
 
     /**
@@ -138,32 +565,83 @@ public class InMemoryReactiveCache<K, V> implements ReactiveCache<K, V> {
     }
 
     /**
-     * Cache entry with expiration time.
+     * Cache entry with refresh and expiration times.
      *
      * @param <T> The type of the cached value
      * @param value The cached value
+     * @param refreshTime The timestamp in milliseconds after which a background reload is triggered
      * @param expirationTime The expiration timestamp in milliseconds
+     * @param staleTime The timestamp in milliseconds after which the value can no longer be served
      */
-    private record CacheEntry<T>(T value, long expirationTime) {
+    private record CacheEntry<T>(T value, long refreshTime, long expirationTime, long staleTime) {
 
         /**
-         * Creates a new cache entry with TTL.
+         * Creates a new cache entry expiring at the given time.
          *
          * @param value The value to cache
-         * @param ttl The time-to-live duration
+         * @param now The current timestamp in milliseconds
+         * @param expirationTime The expiration timestamp in milliseconds
+         * @param refreshAhead Age after which the entry is refreshed in the background, or null to disable
+         * @param staleWhileRevalidate How long the entry may be served after expiring while it is reloaded
          * @return A new cache entry
          */
-        public static <T> CacheEntry<T> of(T value, Duration ttl) {
-            return new CacheEntry<>(value, System.currentTimeMillis() + ttl.toMillis());
+        public static <T> CacheEntry<T> of(T value, long now, long expirationTime, Duration refreshAhead,
+                                           Duration staleWhileRevalidate) {
+            long staleTime = expirationTime + staleWhileRevalidate.toMillis();
+            long refreshTime = refreshAhead != null ? Math.min(now + refreshAhead.toMillis(), expirationTime) : expirationTime;
+            return new CacheEntry<>(value, refreshTime, expirationTime, staleTime);
         }
 
+        /**
+         * Checks if the entry should be reloaded in the background.
+         * This is the case past the refresh-ahead point, and for expired entries still being served.
+         *
+         * @param now The current timestamp in milliseconds
+         * @return true if a reload is due, false otherwise
+         */
+        public boolean isRefreshDue(long now) {
+            return now >= refreshTime;
+        }
+
+        /**
+         * Checks if the entry can no longer be served, even while revalidating.
+         *
+         * @param now The current timestamp in milliseconds
+         * @return true if stale, false otherwise
+         */
+        public boolean isStale(long now) {
+            return now > staleTime;
+        }
+    }
+
+    /**
+     * A write recorded in an expiration queue.
+     * Only the key and time are kept, so the queue never holds on to values.
+     *
+     * @param key The cache key
+     * @param time The timestamp in milliseconds after which the entry can be removed, if it is still
+     *             the one stored for the key
+     * @param <K> The type of keys
+     */
+    private record Expiration<K>(K key, long time) {
+    }
+
+    /**
+     * Negative cache entry remembering that a key does not exist upstream.
+     *
+     * @param error The not-found error, of which every caller gets its own copy
+     * @param expirationTime The expiration timestamp in milliseconds
+     */
+    private record NegativeEntry(DeezerNotFoundException error, long expirationTime) {
+
         /**
          * Checks if the entry is expired.
          *
+         * @param now The current timestamp in milliseconds
          * @return true if expired, false otherwise
          */
-        public boolean isExpired() {
-            return System.currentTimeMillis() > expirationTime;
+        public boolean isExpired(long now) {
+            return now > expirationTime;
         }
     }
-}
\ No newline at end of file
+}
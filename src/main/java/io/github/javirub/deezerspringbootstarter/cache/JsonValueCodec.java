@@ -0,0 +1,69 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.javirub.deezerspringbootstarter.domain.Album;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ValueCodec storing values as JSON, prefixed with the name of their type.
+ *
+ * <p>Layout: a 2-byte length, the UTF-8 class name, then the JSON document. Only types from the
+ * Deezer domain package are accepted when decoding, so serialized data can never instantiate
+ * arbitrary classes.
+ *
+ * @param <V> The type of values
+ */
+public class JsonValueCodec<V> implements ValueCodec<V> {
+
+    private static final String DOMAIN_PACKAGE = Album.class.getPackageName() + ".";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new JsonValueCodec.
+     *
+     * @param objectMapper The ObjectMapper used to write and read the JSON documents
+     */
+    public JsonValueCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] encode(V value) {
+        if (value == null || !value.getClass().getName().startsWith(DOMAIN_PACKAGE)) {
+            return null;
+        }
+        try {
+            byte[] type = value.getClass().getName().getBytes(StandardCharsets.UTF_8);
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return ByteBuffer.allocate(Short.BYTES + type.length + json.length)
+                    .putShort((short) type.length)
+                    .put(type)
+                    .put(json)
+                    .array();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V decode(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int typeLength = buffer.getShort();
+            String typeName = new String(bytes, Short.BYTES, typeLength, StandardCharsets.UTF_8);
+            if (!typeName.startsWith(DOMAIN_PACKAGE)) {
+                throw new IllegalArgumentException("Refusing to decode type " + typeName);
+            }
+            Class<?> type = Class.forName(typeName, false, JsonValueCodec.class.getClassLoader());
+            int offset = Short.BYTES + typeLength;
+            return (V) objectMapper.readValue(bytes, offset, bytes.length - offset, type);
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            throw new IllegalArgumentException("Unable to decode cached value", e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache of ready-to-return Monos keyed by primitive {@code long} IDs.
+ *
+ * <p>The table uses open addressing with small fixed-size buckets: an ID hashes to a bucket of
+ * {@value #WAYS} slots, which is probed linearly. A lookup compares primitive IDs and returns the stored
+ * {@link Mono#just(Object)} instance together with the entry's String key, so a hit allocates nothing and the
+ * owner can still record the access under that key. When a bucket is full, the entry that
+ * stops being fresh first is replaced, which bounds the cache without any eviction bookkeeping.
+ * Slots are updated atomically; readers never lock.
+ *
+ * @param <V> The type of values
+ */
+final class LongKeyedCache<V> {
+
+    private static final int WAYS = 4;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final int bucketMask;
+
+    /**
+     * Creates a new LongKeyedCache.
+     *
+     * @param capacity Minimum number of entries the cache can hold
+     */
+    LongKeyedCache(int capacity) {
+        int buckets = Integer.highestOneBit(Math.max(1, (capacity + WAYS - 1) / WAYS) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(buckets * WAYS);
+        this.bucketMask = buckets - 1;
+    }
+
+    /**
+     * Returns the entry stored for an ID, if it is still fresh.
+     *
+     * @param id The ID
+     * @param now The current time in milliseconds
+     * @return The entry, or null if the ID is absent or no longer fresh
+     */
+    Entry<V> getIfPresent(long id, long now) {
+        int base = bucketOf(id);
+        for (int i = 0; i < WAYS; i++) {
+            Entry<V> entry = slots.get(base + i);
+            if (entry != null && entry.id() == id && now < entry.freshUntil()) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores the value of an ID.
+     *
+     * @param id The ID
+     * @param key The String key of the entry
+     * @param value The value
+     * @param freshUntil The time in milliseconds until which the value may be returned
+     */
+    void put(long id, String key, V value, long freshUntil) {
+        Entry<V> created = new Entry<>(id, key, Mono.just(value), freshUntil);
+        int base = bucketOf(id);
+        int target = base;
+        long oldest = Long.MAX_VALUE;
+        for (int i = 0; i < WAYS; i++) {
+            Entry<V> entry = slots.get(base + i);
+            if (entry == null || entry.id() == id) {
+                target = base + i;
+                break;
+            }
+            if (entry.freshUntil() < oldest) {
+                oldest = entry.freshUntil();
+                target = base + i;
+            }
+        }
+        slots.set(target, created);
+    }
+
+    /**
+     * Removes the value of an ID.
+     *
+     * @param id The ID
+     */
+    void remove(long id) {
+        int base = bucketOf(id);
+        for (int i = 0; i < WAYS; i++) {
+            Entry<V> entry = slots.get(base + i);
+            if (entry != null && entry.id() == id) {
+                slots.compareAndSet(base + i, entry, null);
+            }
+        }
+    }
+
+    /**
+     * Removes all values.
+     */
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private int bucketOf(long id) {
+        return ((int) ((id * GOLDEN_RATIO) >>> 32) & bucketMask) * WAYS;
+    }
+
+    /**
+     * A stored value.
+     *
+     * @param id The ID
+     * @param key The String key of the entry
+     * @param value The Mono returned on hits
+     * @param freshUntil The time in milliseconds until which the value may be returned
+     * @param <V> The type of the value
+     */
+    record Entry<V>(long id, String key, Mono<V> value, long freshUntil) {
+    }
+}
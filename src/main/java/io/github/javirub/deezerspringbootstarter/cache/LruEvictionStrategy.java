@@ -0,0 +1,93 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Least-recently-used eviction in constant time.
+ *
+ * <p>Keys are kept in an access-ordered linked list. Reads reorder the list only when the lock is
+ * free, so a burst of concurrent hits never blocks; the resulting order is a close approximation of
+ * true LRU under heavy contention.
+ *
+ * @param <K> The type of keys
+ */
+final class LruEvictionStrategy<K> implements EvictionStrategy<K> {
+
+    private final int capacity;
+    private final Map<K, AccessOrderDeque.Node<K>> nodes = new HashMap<>();
+    private final AccessOrderDeque<K> deque = new AccessOrderDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates a new LRU strategy.
+     *
+     * @param capacity Maximum number of resident keys
+     */
+    LruEvictionStrategy(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public void onAccess(K key) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            AccessOrderDeque.Node<K> node = nodes.get(key);
+            if (node != null) {
+                deque.moveToLast(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public K onInsert(K key) {
+        lock.lock();
+        try {
+            AccessOrderDeque.Node<K> node = nodes.get(key);
+            if (node != null) {
+                deque.moveToLast(node);
+                return null;
+            }
+            node = new AccessOrderDeque.Node<>(key);
+            nodes.put(key, node);
+            deque.addLast(node);
+            if (deque.size() > capacity) {
+                AccessOrderDeque.Node<K> victim = deque.pollFirst();
+                nodes.remove(victim.key);
+                return victim.key;
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(K key) {
+        lock.lock();
+        try {
+            AccessOrderDeque.Node<K> node = nodes.remove(key);
+            if (node != null) {
+                deque.remove(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            nodes.clear();
+            deque.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * ReactiveCache implementation that does not cache anything.
+ * Every lookup is delegated to the value loader. Used for resources whose caching is disabled.
+ *
+ * @param <K> The type of keys
+ * @param <V> The type of values
+ */
+public class NoOpReactiveCache<K, V> implements ReactiveCache<K, V> {
+
+    /**
+     * Default constructor for NoOpReactiveCache.
+     */
+    public NoOpReactiveCache() {
+        // Default constructor
+    }
+
+    @Override
+    public Mono<V> get(K key, Function<K, Mono<V>> valueLoader) {
+        return Mono.defer(() -> valueLoader.apply(key));
+    }
+
+    @Override
+    public Mono<Void> invalidate(K key) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> invalidateAll() {
+        return Mono.empty();
+    }
+}
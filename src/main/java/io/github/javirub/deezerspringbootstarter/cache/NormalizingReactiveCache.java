@@ -0,0 +1,191 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationBus;
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * ReactiveCache that also serves entities seen nested in other responses.
+ *
+ * <p>Every value loaded through this cache is fed to an {@link EntityIndex}. Lookups first check the
+ * index, so after an album has been fetched, its tracks, contributors and genres are served locally by
+ * {@code track:<id>}, {@code artist:<id>} and {@code genre:<id>} lookups. Partial representations are
+ * only served when {@code acceptPartial} is set; otherwise a lookup is only answered from the index when
+ * the full representation is known, and falls through to the delegate cache.
+ * Lookups by resource and ID check the index the same way, then use the delegate's own ID lookup when it
+ * is an {@link IdKeyedReactiveCache}, keeping its fast path behind the index.
+ *
+ * <p>When created with an {@link InvalidationBus}, entities invalidated on other nodes are also removed
+ * from the index, until this cache is stopped.
+ *
+ * <p>When this cache is the bean, the {@link PartitionedReactiveCache} it wraps is not, so this cache
+ * starts and stops it with its own lifecycle.
+ *
+ * @param <V> The type of values
+ */
+public class NormalizingReactiveCache<V> implements IdKeyedReactiveCache<V> {
+
+    private final ReactiveCache<String, V> delegate;
+    private final EntityIndex index;
+    private final boolean acceptPartial;
+    private final Disposable invalidationSubscription;
+
+    /**
+     * Creates a new NormalizingReactiveCache.
+     *
+     * @param delegate The cache holding whole responses
+     * @param index The index of entities seen in responses
+     * @param acceptPartial Whether lookups may be answered with partial representations
+     */
+    public NormalizingReactiveCache(ReactiveCache<String, V> delegate, EntityIndex index, boolean acceptPartial) {
+        this(delegate, index, acceptPartial, null);
+    }
+
+    /**
+     * Creates a new NormalizingReactiveCache that also applies the invalidations of other nodes to the index.
+     *
+     * @param delegate The cache holding whole responses
+     * @param index The index of entities seen in responses
+     * @param acceptPartial Whether lookups may be answered with partial representations
+     * @param invalidationBus The bus carrying invalidations between nodes, or null to keep them local
+     */
+    public NormalizingReactiveCache(ReactiveCache<String, V> delegate, EntityIndex index, boolean acceptPartial,
+                                    InvalidationBus invalidationBus) {
+        this.delegate = delegate;
+        this.index = index;
+        this.acceptPartial = acceptPartial;
+        this.invalidationSubscription = invalidationBus != null ? invalidationBus.subscribe(this::onRemoteChange) : null;
+    }
+
+    /**
+     * Starts the wrapped cache if it is a {@link PartitionedReactiveCache}.
+     */
+    @PostConstruct
+    public void start() {
+        if (delegate instanceof PartitionedReactiveCache<V> partitioned) {
+            partitioned.start();
+        }
+    }
+
+    /**
+     * Stops listening to other nodes, and stops the wrapped cache if it is a {@link PartitionedReactiveCache},
+     * closing its tiers.
+     */
+    @PreDestroy
+    public void stop() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+        if (delegate instanceof PartitionedReactiveCache<V> partitioned) {
+            partitioned.stop();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<V> get(String key, Function<String, Mono<V>> valueLoader) {
+        return Mono.defer(() -> index.find(key)
+                .filter(entity -> acceptPartial || !entity.partial())
+                .map(entity -> Mono.just((V) entity.value()))
+                .orElseGet(() -> delegate.get(key, k -> valueLoader.apply(k)
+                        .doOnNext(value -> index.index(k, value)))));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<V> get(String resource, long id, LongFunction<Mono<V>> valueLoader) {
+        if (!(delegate instanceof IdKeyedReactiveCache<V> idKeyed)) {
+            return get(resource + ":" + id, key -> valueLoader.apply(id));
+        }
+        return Mono.defer(() -> {
+            String key = resource + ":" + id;
+            return index.find(key)
+                    .filter(entity -> acceptPartial || !entity.partial())
+                    .map(entity -> Mono.just((V) entity.value()))
+                    .orElseGet(() -> idKeyed.get(resource, id, i -> valueLoader.apply(i)
+                            .doOnNext(value -> index.index(key, value))));
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<Map<String, V>> getAllPresent(Collection<String> keys) {
+        return Mono.defer(() -> {
+            Map<String, V> indexed = new LinkedHashMap<>();
+            for (String key : keys) {
+                index.find(key)
+                        .filter(entity -> acceptPartial || !entity.partial())
+                        .ifPresent(entity -> indexed.put(key, (V) entity.value()));
+            }
+            if (indexed.size() == keys.size()) {
+                return Mono.just(indexed);
+            }
+            List<String> missing = keys.stream().filter(key -> !indexed.containsKey(key)).toList();
+            return delegate.getAllPresent(missing).map(found -> {
+                Map<String, V> values = new LinkedHashMap<>();
+                for (String key : keys) {
+                    V value = indexed.containsKey(key) ? indexed.get(key) : found.get(key);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                }
+                return values;
+            });
+        });
+    }
+
+    @Override
+    public Mono<Void> invalidate(String key) {
+        return Mono.fromRunnable(() -> index.remove(key))
+                .then(delegate.invalidate(key));
+    }
+
+    @Override
+    public Mono<Void> invalidateAll() {
+        return Mono.fromRunnable(index::clear)
+                .then(delegate.invalidateAll());
+    }
+
+    /**
+     * Returns the statistics of the delegate cache.
+     * Lookups answered from the index are not counted.
+     *
+     * @return A snapshot of the delegate cache statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return delegate.stats();
+    }
+
+    /**
+     * Removes the entities changed on another node from the index.
+     *
+     * @param message The change
+     */
+    private void onRemoteChange(InvalidationMessage message) {
+        if (message.type() == InvalidationMessage.Type.INVALIDATE_ALL) {
+            index.clear();
+        } else {
+            index.remove(message.key());
+        }
+    }
+
+    /**
+     * Returns the cache holding whole responses.
+     *
+     * @return The delegate cache
+     */
+    public ReactiveCache<String, V> getDelegate() {
+        return delegate;
+    }
+}
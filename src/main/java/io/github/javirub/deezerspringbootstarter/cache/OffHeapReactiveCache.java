@@ -0,0 +1,228 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * ReactiveCache storing serialized values outside the Java heap.
+ *
+ * <p>Values are encoded with a {@link ValueCodec} and appended to direct {@link ByteBuffer} slabs
+ * used as a ring: once all slabs are full, the oldest slab is reclaimed as a whole and every entry it
+ * held is dropped. The total footprint never exceeds the configured byte budget, and neither the
+ * stored bytes nor large object graphs stay on the heap, so the cache can grow without adding to
+ * garbage collection pauses. Only a small index entry per key lives on the heap.
+ *
+ * <p>Reads are lock-free: the bytes are copied out of the slab and the slab generation is checked
+ * afterwards, so a read racing with the reclamation of its slab is treated as a miss. Writes are
+ * serialized by a lock. Values whose encoded form is larger than a slab are not stored.
+ *
+ * <p>Expired entries are never searched for: a read finding one drops it, and the reclamation of its
+ * slab drops the others, so the index never outgrows the keys the slabs hold.
+ *
+ * <p>This cache is meant to be used as the second tier of a {@link TieredReactiveCache}; it does not
+ * coalesce concurrent loads itself. As a lower tier, it stores values with the expiration of the
+ * {@link TieredLoad} if that comes before the end of its own TTL, and skips background refreshes.
+ *
+ * @param <K> The type of keys
+ * @param <V> The type of values
+ */
+public class OffHeapReactiveCache<K, V> implements ReactiveCache<K, V> {
+
+    private final ValueCodec<V> codec;
+    private final Duration ttl;
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+    private final AtomicIntegerArray generations;
+    private final ArrayDeque<K>[] slabKeys;
+    private final Map<K, Location> index = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private int currentSlab;
+    private int writeOffset;
+
+    /**
+     * Creates a new OffHeapReactiveCache.
+     *
+     * @param maxBytes Maximum number of bytes held off-heap
+     * @param slabBytes Size of each slab in bytes, which is also the maximum size of an encoded value
+     * @param ttl Time-to-live of the entries
+     * @param codec The codec used to serialize values
+     */
+    @SuppressWarnings("unchecked")
+    public OffHeapReactiveCache(long maxBytes, int slabBytes, Duration ttl, ValueCodec<V> codec) {
+        this.codec = codec;
+        this.ttl = ttl;
+        this.slabSize = Math.max(1, slabBytes);
+        int slabCount = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / slabSize));
+        this.slabs = new ByteBuffer[slabCount];
+        this.generations = new AtomicIntegerArray(slabCount);
+        this.slabKeys = new ArrayDeque[slabCount];
+        for (int i = 0; i < slabCount; i++) {
+            slabKeys[i] = new ArrayDeque<>();
+        }
+    }
+
+    @Override
+    public Mono<V> get(K key, Function<K, Mono<V>> valueLoader) {
+        return Mono.deferContextual(context -> {
+            TieredLoad load = TieredLoad.of(context);
+            V value = load == null || !load.isRefresh() ? read(key, load) : null;
+            if (value != null) {
+                return Mono.just(value);
+            }
+            return valueLoader.apply(key).doOnNext(loaded -> write(key, loaded, load));
+        });
+    }
+
+    @Override
+    public Mono<Map<K, V>> getAllPresent(Collection<K> keys) {
+        return Mono.fromSupplier(() -> {
+            Map<K, V> values = new LinkedHashMap<>();
+            for (K key : keys) {
+                V value = read(key, null);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }
+            return values;
+        });
+    }
+
+    @Override
+    public Mono<Void> invalidate(K key) {
+        return Mono.fromRunnable(() -> index.remove(key));
+    }
+
+    @Override
+    public Mono<Void> invalidateAll() {
+        return Mono.fromRunnable(() -> {
+            writeLock.lock();
+            try {
+                for (int i = 0; i < slabs.length; i++) {
+                    generations.incrementAndGet(i);
+                    slabKeys[i].clear();
+                }
+                index.clear();
+                currentSlab = 0;
+                writeOffset = 0;
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Reads and decodes the value stored for a key.
+     *
+     * @param key The cache key
+     * @param load The load to report the expiration of the value to, or null
+     * @return The value, or null if absent, expired, reclaimed or undecodable
+     */
+    private V read(K key, TieredLoad load) {
+        Location location = index.get(key);
+        if (location == null) {
+            return null;
+        }
+        if (location.isExpired(System.currentTimeMillis())) {
+            index.remove(key, location);
+            return null;
+        }
+        byte[] bytes = new byte[location.length()];
+        slabs[location.slab()].get(location.offset(), bytes);
+        // Make sure the copy is complete before checking that the slab was not reclaimed meanwhile
+        VarHandle.loadLoadFence();
+        if (generations.get(location.slab()) != location.generation()) {
+            index.remove(key, location);
+            return null;
+        }
+        try {
+            V value = codec.decode(bytes);
+            if (load != null) {
+                load.foundCopy(location.expirationTime());
+            }
+            return value;
+        } catch (IllegalArgumentException e) {
+            index.remove(key, location);
+            return null;
+        }
+    }
+
+    /**
+     * Encodes and appends a value, reclaiming the oldest slab if the current one is full.
+     *
+     * @param key The cache key
+     * @param value The value to store
+     * @param load The load the value comes from, or null
+     */
+    private void write(K key, V value, TieredLoad load) {
+        byte[] bytes = codec.encode(value);
+        if (bytes == null || bytes.length > slabSize) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (writeOffset + bytes.length > slabSize) {
+                currentSlab = (currentSlab + 1) % slabs.length;
+                writeOffset = 0;
+                reclaim(currentSlab);
+            }
+            if (slabs[currentSlab] == null) {
+                slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+            }
+            slabs[currentSlab].put(writeOffset, bytes);
+            Location location = new Location(currentSlab, writeOffset, bytes.length,
+                    generations.get(currentSlab), TieredLoad.expirationTime(load, System.currentTimeMillis(), ttl));
+            writeOffset += bytes.length;
+            slabKeys[currentSlab].add(key);
+            index.put(key, location);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Drops every entry held by a slab so it can be overwritten.
+     * The generation is bumped first, so concurrent readers of the slab detect the reclamation.
+     *
+     * @param slab The slab to reclaim
+     */
+    private void reclaim(int slab) {
+        generations.incrementAndGet(slab);
+        K key;
+        while ((key = slabKeys[slab].poll()) != null) {
+            index.computeIfPresent(key, (k, location) -> location.slab() == slab ? null : location);
+        }
+    }
+
+    /**
+     * Position of a serialized value in the slabs.
+     *
+     * @param slab The slab index
+     * @param offset The offset of the value in the slab
+     * @param length The length of the encoded value
+     * @param generation The slab generation the value was written in
+     * @param expirationTime The expiration timestamp in milliseconds
+     */
+    private record Location(int slab, int offset, int length, int generation, long expirationTime) {
+
+        /**
+         * Checks if the entry is expired.
+         *
+         * @param now The current timestamp in milliseconds
+         * @return true if expired, false otherwise
+         */
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+}
@@ -0,0 +1,571 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationBus;
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationMessage;
+import io.github.javirub.deezerspringbootstarter.cache.redis.RedisReactiveCache;
+import io.github.javirub.deezerspringbootstarter.cache.redis.RespClient;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * ReactiveCache that keeps a separate partition per Deezer resource type.
+ *
+ * <p>Keys are expected in the {@code <resource>:<id>} form used by the clients (e.g. {@code album:302127}
+ * or {@code search:eminem}). Each resource configured under {@code deezer.cache.endpoints.<resource>}
+ * gets its own {@link InMemoryReactiveCache} with its own TTL and capacity, so slowly changing metadata
+ * can be cached for a long time and is never evicted by a flood of one-off search keys. Resources
+ * that are not configured share a default partition using the global {@code deezer.cache.*} settings.
+ * Disabled resources bypass the cache entirely.
+ *
+ * <p>When {@code deezer.cache.off-heap.enabled} is set, every partition is backed by a shared
+ * {@link OffHeapReactiveCache} acting as a second tier with its own byte budget. When
+ * {@code deezer.cache.disk.enabled} is set, a shared persistent {@link DiskReactiveCache} is added
+ * below it, so entries survive restarts. When {@code deezer.cache.redis.enabled} is set, a
+ * {@link RedisReactiveCache} shared by all application instances is added as the last tier, so each
+ * response is fetched from Deezer once for the whole fleet. With {@code deezer.cache.compression.enabled},
+ * these tiers store large entries deflated through a shared {@link CompressingValueCodec}.
+ *
+ * <p>A single scheduler thread owned by this cache ticks the {@link CoarseClock} shared by every
+ * partition and removes expired entries from the in-memory partitions every
+ * {@code deezer.cache.cleanup-interval} milliseconds. The off-heap and disk tiers are not scanned: their
+ * expired entries are dropped when they are read or when their slab or segment is reclaimed.
+ *
+ * <p>Lookups by resource type and numeric ID ({@link #get(String, long, LongFunction)}) are first answered
+ * from a per-resource {@link LongKeyedCache} holding the values of that resource's in-memory partition
+ * until their refresh point, so hits need neither a String key nor any allocation. Those hits still count as
+ * accesses for the partition's eviction policy, and entries the partition drops are dropped from the copy too.
+ *
+ * <p>{@link #statsByPartition()} reports the statistics of each in-memory partition, under the name of
+ * its resource or {@value #DEFAULT_PARTITION} for the partition shared by the resources not configured.
+ * Hits and misses are also counted per resource from the key prefix, so resources sharing the default
+ * partition are told apart ({@link #lookupsByResource()}); keys of other resources are counted under
+ * {@value #DEFAULT_PARTITION}.
+ *
+ * <p>When created with an {@link InvalidationBus}, invalidations (and optionally fresh loads) are
+ * broadcast to the other nodes, which drop the entry from their node-local tiers: the in-memory
+ * partitions, the off-heap tier and the disk tier. The shared Redis tier is left alone, since the
+ * publishing node already updated it.
+ *
+ * <p>Example configuration:
+ * <pre>
+ * deezer.cache.endpoints.genre.ttl=86400
+ * deezer.cache.endpoints.artist.ttl=3600
+ * deezer.cache.endpoints.search.ttl=30
+ * deezer.cache.endpoints.search.max-size=5000
+ * deezer.cache.endpoints.user.enabled=false
+ * </pre>
+ *
+ * @param <V> The type of values
+ */
+public class PartitionedReactiveCache<V> implements IdKeyedReactiveCache<V> {
+
+    private static final char RESOURCE_SEPARATOR = ':';
+
+    private static final long CLOCK_RESOLUTION_MILLIS = 10;
+
+    /**
+     * Name under which the statistics of the partition shared by unconfigured resources are reported.
+     */
+    public static final String DEFAULT_PARTITION = "default";
+
+    private static final List<String> ID_RESOURCES =
+            List.of("album", "artist", "editorial", "genre", "playlist", "radio", "track", "user");
+
+    private static final List<String> CLIENT_RESOURCES =
+            List.of("album", "artist", "editorial", "genre", "playlist", "radio", "search", "track", "user");
+
+    private final Map<String, ReactiveCache<String, V>> partitions;
+    private final ReactiveCache<String, V> defaultPartition;
+    private final List<InMemoryReactiveCache<String, V>> inMemoryPartitions = new ArrayList<>();
+    private final CoarseClock clock = new CoarseClock();
+    private final Map<String, InMemoryReactiveCache<String, V>> inMemoryByResource;
+    private final Map<String, IdPartition<V>> idPartitions;
+    private final Map<String, CacheStatsCounter> lookupsByResource;
+    private final CompressingValueCodec<V> compression;
+    private final OffHeapReactiveCache<String, V> offHeap;
+    private final DiskReactiveCache<V> disk;
+    private final RedisReactiveCache<V> redis;
+    private final ReactiveCache<String, V> lowerTier;
+    private final InvalidationBus invalidationBus;
+    private final Disposable invalidationSubscription;
+    private final long cleanupInterval;
+    private ScheduledExecutorService executor;
+    private boolean stopped;
+
+    /**
+     * Creates a new PartitionedReactiveCache with configuration from properties.
+     *
+     * @param properties Deezer configuration properties
+     */
+    public PartitionedReactiveCache(DeezerProperties properties) {
+        this(properties, null);
+    }
+
+    /**
+     * Creates a new PartitionedReactiveCache that shares invalidations with other nodes.
+     *
+     * @param properties Deezer configuration properties
+     * @param invalidationBus The bus carrying invalidations between nodes, or null to keep them local
+     */
+    public PartitionedReactiveCache(DeezerProperties properties, InvalidationBus invalidationBus) {
+        DeezerProperties.Cache cache = properties.getCache();
+        this.cleanupInterval = cache.getCleanupInterval();
+        ValueCodec<V> codec = new JsonValueCodec<>(Jackson2ObjectMapperBuilder.json().build());
+        this.compression = cache.getCompression().isEnabled()
+                ? new CompressingValueCodec<>(codec, cache.getCompression().getThreshold(), cache.getCompression().getLevel())
+                : null;
+        if (compression != null) {
+            codec = compression;
+        }
+        this.offHeap = cache.getOffHeap().isEnabled() ? createOffHeap(cache, codec) : null;
+        this.disk = cache.getDisk().isEnabled() ? createDisk(cache, codec) : null;
+        this.redis = cache.getRedis().isEnabled() ? createRedis(cache, codec) : null;
+        this.lowerTier = chain(offHeap, disk, redis);
+        DeezerProperties.Cache.Endpoint defaults = new DeezerProperties.Cache.Endpoint();
+        InMemoryReactiveCache<String, V> defaultInMemory = createInMemory(cache, defaults);
+        this.defaultPartition = createPartition(defaultInMemory);
+
+        Map<String, ReactiveCache<String, V>> configured = new HashMap<>();
+        Map<String, InMemoryReactiveCache<String, V>> inMemoryByName = new TreeMap<>();
+        Map<String, IdPartition<V>> ids = new HashMap<>();
+        Map<String, CacheStatsCounter> lookups = new HashMap<>();
+        if (defaultInMemory != null) {
+            inMemoryByName.put(DEFAULT_PARTITION, defaultInMemory);
+            lookups.put(DEFAULT_PARTITION, new CacheStatsCounter());
+        }
+        cache.getEndpoints().forEach((resource, endpoint) -> {
+            InMemoryReactiveCache<String, V> inMemory = createInMemory(cache, endpoint);
+            configured.put(resource, createPartition(inMemory));
+            if (inMemory != null) {
+                inMemoryByName.put(resource, inMemory);
+                lookups.put(resource, new CacheStatsCounter());
+            }
+            if (inMemory != null && ID_RESOURCES.contains(resource)) {
+                ids.put(resource, new IdPartition<>(new LongKeyedCache<>(maxSize(cache, endpoint)), inMemory,
+                        lookups.get(resource)));
+            }
+        });
+        if (defaultInMemory != null) {
+            CLIENT_RESOURCES.stream()
+                    .filter(resource -> !cache.getEndpoints().containsKey(resource))
+                    .forEach(resource -> lookups.put(resource, new CacheStatsCounter()));
+            ID_RESOURCES.stream()
+                    .filter(resource -> !cache.getEndpoints().containsKey(resource))
+                    .forEach(resource -> ids.put(resource, new IdPartition<>(
+                            new LongKeyedCache<>(maxSize(cache, defaults)), defaultInMemory, lookups.get(resource))));
+        }
+        this.partitions = Map.copyOf(configured);
+        this.inMemoryByResource = Collections.unmodifiableMap(inMemoryByName);
+        this.idPartitions = Map.copyOf(ids);
+        this.lookupsByResource = Map.copyOf(lookups);
+
+        this.invalidationBus = invalidationBus;
+        this.invalidationSubscription = invalidationBus != null ? invalidationBus.subscribe(this::onRemoteChange) : null;
+    }
+
+    /**
+     * Creates the in-memory tier of a resource, falling back to the global settings
+     * for every value the endpoint does not override.
+     *
+     * @param cache The global cache configuration
+     * @param endpoint The resource-specific overrides
+     * @return The in-memory tier, or null if caching is disabled for the resource
+     */
+    private InMemoryReactiveCache<String, V> createInMemory(DeezerProperties.Cache cache, DeezerProperties.Cache.Endpoint endpoint) {
+        boolean enabled = endpoint.getEnabled() != null ? endpoint.getEnabled() : cache.isEnabled();
+        if (!enabled) {
+            return null;
+        }
+        InMemoryReactiveCache<String, V> inMemory = new InMemoryReactiveCache<>(cache, endpoint, clock, this::removeId, this::lookupsFor);
+        inMemoryPartitions.add(inMemory);
+        return inMemory;
+    }
+
+    /**
+     * Creates the partition of a resource on top of its in-memory tier.
+     *
+     * @param inMemory The in-memory tier, or null if caching is disabled for the resource
+     * @return The partition
+     */
+    private ReactiveCache<String, V> createPartition(InMemoryReactiveCache<String, V> inMemory) {
+        if (inMemory == null) {
+            return new NoOpReactiveCache<>();
+        }
+        return lowerTier != null ? new TieredReactiveCache<>(inMemory, lowerTier) : inMemory;
+    }
+
+    private static int maxSize(DeezerProperties.Cache cache, DeezerProperties.Cache.Endpoint endpoint) {
+        return endpoint.getMaxSize() != null ? endpoint.getMaxSize() : cache.getMaxSize();
+    }
+
+    /**
+     * Creates the off-heap tier shared by all partitions.
+     *
+     * @param cache The global cache configuration
+     * @param codec The codec serializing values
+     * @return The off-heap tier
+     */
+    private static <V> OffHeapReactiveCache<String, V> createOffHeap(DeezerProperties.Cache cache, ValueCodec<V> codec) {
+        DeezerProperties.Cache.OffHeap offHeap = cache.getOffHeap();
+        int ttl = offHeap.getTtl() != null ? offHeap.getTtl() : cache.getTtl();
+        return new OffHeapReactiveCache<>(offHeap.getMaxBytes(), offHeap.getSlabBytes(), Duration.ofSeconds(ttl), codec);
+    }
+
+    /**
+     * Creates the persistent disk tier shared by all partitions.
+     *
+     * @param cache The global cache configuration
+     * @param codec The codec serializing values
+     * @return The disk tier
+     */
+    private static <V> DiskReactiveCache<V> createDisk(DeezerProperties.Cache cache, ValueCodec<V> codec) {
+        DeezerProperties.Cache.Disk disk = cache.getDisk();
+        int ttl = disk.getTtl() != null ? disk.getTtl() : cache.getTtl();
+        return new DiskReactiveCache<>(Path.of(disk.getPath()), disk.getMaxBytes(), disk.getSegmentBytes(),
+                Duration.ofSeconds(ttl), codec);
+    }
+
+    /**
+     * Creates the Redis tier shared by all partitions and application instances.
+     *
+     * @param cache The global cache configuration
+     * @param codec The codec serializing values
+     * @return The Redis tier
+     */
+    private static <V> RedisReactiveCache<V> createRedis(DeezerProperties.Cache cache, ValueCodec<V> codec) {
+        DeezerProperties.Cache.Redis redis = cache.getRedis();
+        int ttl = redis.getTtl() != null ? redis.getTtl() : cache.getTtl();
+        RespClient client = new RespClient(redis.getHost(), redis.getPort(), Duration.ofMillis(redis.getTimeout()));
+        return new RedisReactiveCache<>(client, codec, redis.getKeyPrefix(), Duration.ofSeconds(ttl));
+    }
+
+    /**
+     * Chains the enabled lower tiers, from the fastest to the slowest.
+     *
+     * @param tiers The tiers, null when disabled
+     * @return The chained tiers, or null if none is enabled
+     */
+    @SafeVarargs
+    private static <V> ReactiveCache<String, V> chain(ReactiveCache<String, V>... tiers) {
+        ReactiveCache<String, V> chained = null;
+        for (int i = tiers.length - 1; i >= 0; i--) {
+            if (tiers[i] != null) {
+                chained = chained != null ? new TieredReactiveCache<>(tiers[i], chained) : tiers[i];
+            }
+        }
+        return chained;
+    }
+
+    /**
+     * Starts the scheduler ticking the clock and removing expired entries.
+     * Called by Spring when the cache is a bean, and by the cache wrapping it otherwise.
+     */
+    @PostConstruct
+    public void start() {
+        if (executor != null) {
+            return;
+        }
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "deezer-cache-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        clock.tick();
+        executor.scheduleAtFixedRate(clock::tick, CLOCK_RESOLUTION_MILLIS, CLOCK_RESOLUTION_MILLIS, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(
+                this::cleanExpiredEntries,
+                cleanupInterval,
+                cleanupInterval,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Shuts down the cleanup executor, stops listening to other nodes and closes the disk and Redis tiers.
+     * Called by Spring when the cache is a bean, and by the cache wrapping it otherwise.
+     */
+    @PreDestroy
+    public void stop() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+        if (disk != null) {
+            disk.close();
+        }
+        if (redis != null) {
+            redis.close();
+        }
+        if (executor != null && !executor.isShutdown()) {
+            clock.stop();
+            executor.shutdown();
+            try {
+                // Wait up to 5 seconds for existing tasks to terminate
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Removes expired entries from every partition.
+     */
+    private void cleanExpiredEntries() {
+        inMemoryPartitions.forEach(InMemoryReactiveCache::cleanExpiredEntries);
+    }
+
+    @Override
+    public Mono<V> get(String key, Function<String, Mono<V>> valueLoader) {
+        if (invalidationBus == null) {
+            return partitionFor(key).get(key, valueLoader);
+        }
+        return partitionFor(key).get(key, k -> valueLoader.apply(k)
+                .doOnNext(value -> invalidationBus.updated(k)));
+    }
+
+    @Override
+    public Mono<V> get(String resource, long id, LongFunction<Mono<V>> valueLoader) {
+        IdPartition<V> partition = idPartitions.get(resource);
+        if (partition == null) {
+            return get(resource + RESOURCE_SEPARATOR + id, key -> valueLoader.apply(id));
+        }
+        LongKeyedCache.Entry<V> hit = partition.ids().getIfPresent(id, clock.millis());
+        if (hit != null) {
+            partition.inMemory().onAccess(hit.key());
+            partition.lookups().recordHit();
+            return hit.value();
+        }
+        String key = resource + RESOURCE_SEPARATOR + id;
+        return get(key, k -> valueLoader.apply(id))
+                .doOnNext(value -> {
+                    long freshUntil = partition.inMemory().freshUntil(key);
+                    if (freshUntil > clock.millis()) {
+                        partition.ids().put(id, key, value, freshUntil);
+                        if (partition.inMemory().freshUntil(key) == 0) {
+                            // Evicted while the copy was being made
+                            partition.ids().remove(id);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Returns the values present for the given keys, asking each partition once for all of its keys.
+     *
+     * @param keys The cache keys
+     * @return A Mono emitting the values found, keyed by cache key in request order
+     */
+    @Override
+    public Mono<Map<String, V>> getAllPresent(Collection<String> keys) {
+        Map<ReactiveCache<String, V>, List<String>> keysByPartition = new LinkedHashMap<>();
+        for (String key : keys) {
+            keysByPartition.computeIfAbsent(partitionFor(key), partition -> new ArrayList<>()).add(key);
+        }
+        return Flux.fromIterable(keysByPartition.entrySet())
+                .flatMap(group -> group.getKey().getAllPresent(group.getValue()))
+                .collectList()
+                .map(found -> {
+                    Map<String, V> all = new HashMap<>();
+                    found.forEach(all::putAll);
+                    Map<String, V> values = new LinkedHashMap<>();
+                    for (String key : keys) {
+                        V value = all.get(key);
+                        if (value != null) {
+                            values.put(key, value);
+                        }
+                    }
+                    return values;
+                });
+    }
+
+    @Override
+    public Mono<Void> invalidate(String key) {
+        Mono<Void> invalidation = partitionFor(key).invalidate(key)
+                .then(Mono.fromRunnable(() -> removeId(key)));
+        return invalidationBus != null
+                ? invalidation.then(Mono.fromRunnable(() -> invalidationBus.invalidated(key)))
+                : invalidation;
+    }
+
+    @Override
+    public Mono<Void> invalidateAll() {
+        Mono<Void> invalidation = Flux.fromIterable(partitions.values())
+                .concatWithValues(defaultPartition)
+                .flatMap(ReactiveCache::invalidateAll)
+                .then(Mono.fromRunnable(this::clearIds));
+        return invalidationBus != null
+                ? invalidation.then(Mono.fromRunnable(invalidationBus::invalidatedAll))
+                : invalidation;
+    }
+
+    /**
+     * Returns the statistics of all in-memory partitions combined.
+     *
+     * @return A snapshot of the cache statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return inMemoryPartitions.stream()
+                .map(InMemoryReactiveCache::stats)
+                .reduce(CacheStats.empty(), CacheStats::plus);
+    }
+
+    /**
+     * Returns the statistics of the compression of large entries in the serialized tiers.
+     *
+     * @return A snapshot of the compression statistics, or null if compression is disabled
+     */
+    public CompressionStats compressionStats() {
+        return compression != null ? compression.stats() : null;
+    }
+
+    /**
+     * Returns the statistics of each in-memory partition.
+     * Disabled resources have no partition and are not reported.
+     *
+     * @return The statistics by resource name, {@value #DEFAULT_PARTITION} for the shared partition
+     */
+    public Map<String, CacheStats> statsByPartition() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        inMemoryByResource.forEach((resource, inMemory) -> stats.put(resource, inMemory.stats()));
+        return stats;
+    }
+
+    /**
+     * Returns the hits and misses of each resource, whichever partition holds it.
+     * Only the hit and miss counts of the returned statistics are set.
+     *
+     * @return The lookup statistics by resource name, {@value #DEFAULT_PARTITION} for keys of other resources
+     */
+    public Map<String, CacheStats> lookupsByResource() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        lookupsByResource.forEach((resource, lookups) -> stats.put(resource,
+                new CacheStats(lookups.hitCount(), lookups.missCount(), 0, 0, 0, 0, 0)));
+        return stats;
+    }
+
+    /**
+     * Returns the in-memory partitions, for meters reading their counters directly.
+     *
+     * @return The partitions by resource name, {@value #DEFAULT_PARTITION} for the shared partition
+     */
+    Map<String, InMemoryReactiveCache<String, V>> partitionsByName() {
+        return inMemoryByResource;
+    }
+
+    /**
+     * Returns the hit and miss counters of each resource, for meters reading them directly.
+     *
+     * @return The counters by resource name, {@value #DEFAULT_PARTITION} for keys of other resources
+     */
+    Map<String, CacheStatsCounter> lookupCounters() {
+        return lookupsByResource;
+    }
+
+    /**
+     * Applies a change published by another node to the node-local tiers.
+     *
+     * @param message The change
+     */
+    private void onRemoteChange(InvalidationMessage message) {
+        Flux<ReactiveCache<String, V>> localTiers = Flux.<ReactiveCache<String, V>>fromIterable(inMemoryPartitions)
+                .concatWith(Mono.justOrEmpty(offHeap))
+                .concatWith(Mono.justOrEmpty(disk));
+        if (message.type() == InvalidationMessage.Type.INVALIDATE_ALL) {
+            clearIds();
+            localTiers.flatMap(ReactiveCache::invalidateAll).subscribe();
+        } else {
+            removeId(message.key());
+            localTiers.flatMap(tier -> tier.invalidate(message.key())).subscribe();
+        }
+    }
+
+    /**
+     * Removes the ID-keyed copy of an entry, if the key names a resource ID.
+     *
+     * @param key The cache key
+     */
+    private void removeId(String key) {
+        int separator = key.indexOf(RESOURCE_SEPARATOR);
+        IdPartition<V> partition = separator > 0 ? idPartitions.get(key.substring(0, separator)) : null;
+        if (partition == null) {
+            return;
+        }
+        try {
+            partition.ids().remove(Long.parseLong(key.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            // Not an ID key, so it has no ID-keyed copy
+        }
+    }
+
+    private void clearIds() {
+        idPartitions.values().forEach(partition -> partition.ids().clear());
+    }
+
+    /**
+     * Resolves the counter recording the hits and misses of a key from its resource prefix.
+     *
+     * @param key The cache key
+     * @return The counter of the key's resource, or the one of the keys of other resources
+     */
+    private CacheStatsCounter lookupsFor(String key) {
+        int separator = key.indexOf(RESOURCE_SEPARATOR);
+        CacheStatsCounter lookups = separator > 0 ? lookupsByResource.get(key.substring(0, separator)) : null;
+        return lookups != null ? lookups : lookupsByResource.get(DEFAULT_PARTITION);
+    }
+
+    /**
+     * Resolves the partition responsible for a key from its resource prefix.
+     *
+     * @param key The cache key
+     * @return The partition for the key's resource, or the default partition
+     */
+    private ReactiveCache<String, V> partitionFor(String key) {
+        int separator = key.indexOf(RESOURCE_SEPARATOR);
+        if (separator <= 0) {
+            return defaultPartition;
+        }
+        return partitions.getOrDefault(key.substring(0, separator), defaultPartition);
+    }
+
+    /**
+     * The ID-keyed view of a resource and the in-memory tier it mirrors.
+     *
+     * @param ids The values by ID
+     * @param inMemory The in-memory tier holding the resource's entries
+     * @param lookups The resource's hit and miss counter
+     * @param <V> The type of values
+     */
+    private record IdPartition<V>(LongKeyedCache<V> ids, InMemoryReactiveCache<String, V> inMemory,
+                                  CacheStatsCounter lookups) {
+    }
+}
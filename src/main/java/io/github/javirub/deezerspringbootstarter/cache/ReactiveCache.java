@@ -2,9 +2,10 @@ package io.github.javirub.deezerspringbootstarter.cache;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Function;
 
-//TODO: Possibility of using external cache mechanism, including distributed like redis
 /**
  * Interface for a reactive cache.
  * 
@@ -22,6 +23,18 @@ public interface ReactiveCache<K, V> {
      */
     Mono<V> get(K key, Function<K, Mono<V>> valueLoader);
     
+    /**
+     * Returns the values present in the cache for the given keys, without loading the missing ones.
+     * Only values that {@link #get(Object, Function)} would return without a reload are included.
+     * Caches that cannot answer several keys at once report none, leaving every key to {@code get}.
+     *
+     * @param keys The cache keys
+     * @return A Mono emitting the values found, keyed by cache key in request order
+     */
+    default Mono<Map<K, V>> getAllPresent(Collection<K> keys) {
+        return Mono.just(Map.of());
+    }
+
     /**
      * Invalidates a cache entry.
      * 
@@ -36,4 +49,14 @@ public interface ReactiveCache<K, V> {
      * @return A Mono that completes when all entries are invalidated
      */
     Mono<Void> invalidateAll();
+
+    /**
+     * Returns the statistics of the cache.
+     * Caches that do not record statistics report empty ones.
+     *
+     * @return A snapshot of the cache statistics
+     */
+    default CacheStats stats() {
+        return CacheStats.empty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load of one key shared by the tiers of a {@link TieredReactiveCache}.
+ *
+ * <p>The first tier starts the load with its own TTL and passes it down through the Reactor context.
+ * A lower tier answering from its copy lowers the expiration to that of the copy, and every tier
+ * storing the value on the way back up uses the resulting expiration, capped by its own TTL. A value
+ * thus expires from every tier when it expires from the first one, and is never extended by being
+ * copied back up from a lower tier.
+ *
+ * <p>Background refreshes of the first tier skip the lower tiers, so they always reach the value loader
+ * instead of reading back the copy being refreshed.
+ */
+public final class TieredLoad {
+
+    private static final Class<TieredLoad> CONTEXT_KEY = TieredLoad.class;
+
+    private final long ttl;
+    private final boolean refresh;
+    private final AtomicLong copyExpirationTime = new AtomicLong(Long.MAX_VALUE);
+
+    /**
+     * Creates a new TieredLoad.
+     *
+     * @param ttl Time-to-live of the value in the first tier
+     * @param refresh Whether the load refreshes a value in the background
+     */
+    TieredLoad(Duration ttl, boolean refresh) {
+        this.ttl = ttl.toMillis();
+        this.refresh = refresh;
+    }
+
+    /**
+     * Returns the load a lookup is part of.
+     *
+     * @param context The context of the lookup
+     * @return The load, or null if the cache is not used as a lower tier
+     */
+    public static TieredLoad of(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    /**
+     * Returns the expiration time of a value stored by a tier.
+     *
+     * @param load The load the value comes from, or null if the cache is not used as a lower tier
+     * @param now The current timestamp in milliseconds
+     * @param ttl Time-to-live of the tier
+     * @return The expiration timestamp in milliseconds
+     */
+    public static long expirationTime(TieredLoad load, long now, Duration ttl) {
+        long tierExpirationTime = now + ttl.toMillis();
+        return load != null ? Math.min(load.expirationTime(now), tierExpirationTime) : tierExpirationTime;
+    }
+
+    /**
+     * Checks if the load refreshes a value in the background, in which case lower tiers must not answer it.
+     *
+     * @return true for background refreshes, false otherwise
+     */
+    public boolean isRefresh() {
+        return refresh;
+    }
+
+    /**
+     * Records that the value was found in a lower tier, so no tier keeps it longer than that copy.
+     *
+     * @param expirationTime The expiration timestamp of the copy in milliseconds
+     */
+    public void foundCopy(long expirationTime) {
+        copyExpirationTime.accumulateAndGet(expirationTime, Math::min);
+    }
+
+    /**
+     * Returns the expiration time of the value: the end of the first tier's TTL,
+     * or the expiration of the copy it was found in if that comes first.
+     *
+     * @param now The current timestamp in milliseconds
+     * @return The expiration timestamp in milliseconds
+     */
+    long expirationTime(long now) {
+        return Math.min(copyExpirationTime.get(), now + ttl);
+    }
+
+    /**
+     * Makes the load visible to the lower tiers asked by a loader.
+     *
+     * @param load The loader's result
+     * @param <T> The type of the value
+     * @return The loader's result, carrying this load in its context
+     */
+    <T> Mono<T> applyTo(Mono<T> load) {
+        return load.contextWrite(context -> context.put(CONTEXT_KEY, this));
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Two-level ReactiveCache.
+ *
+ * <p>Lookups go to the first tier; on a miss, the first tier loads the value from the second tier,
+ * which in turn calls the value loader only if it misses too. Values loaded from upstream are
+ * therefore stored in both tiers, and the first tier's request coalescing also protects the second.
+ * When the first tier is an {@link InMemoryReactiveCache}, both tiers keep a value until the expiration
+ * the first tier gives it, and background refreshes skip the second tier (see {@link TieredLoad}).
+ * Multi-key lookups only ask the second tier for the keys the first tier is missing.
+ * Invalidations are applied to both tiers. Statistics are those of the first tier, which sees every lookup.
+ *
+ * @param <K> The type of keys
+ * @param <V> The type of values
+ */
+public class TieredReactiveCache<K, V> implements ReactiveCache<K, V> {
+
+    private final ReactiveCache<K, V> first;
+    private final ReactiveCache<K, V> second;
+
+    /**
+     * Creates a new TieredReactiveCache.
+     *
+     * @param first The first (fastest) tier
+     * @param second The second tier, consulted on first-tier misses
+     */
+    public TieredReactiveCache(ReactiveCache<K, V> first, ReactiveCache<K, V> second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public Mono<V> get(K key, Function<K, Mono<V>> valueLoader) {
+        return first.get(key, k -> second.get(k, valueLoader));
+    }
+
+    @Override
+    public Mono<Map<K, V>> getAllPresent(Collection<K> keys) {
+        return first.getAllPresent(keys).flatMap(found -> {
+            if (found.size() == keys.size()) {
+                return Mono.just(found);
+            }
+            List<K> missing = keys.stream().filter(key -> !found.containsKey(key)).toList();
+            return second.getAllPresent(missing).map(lower -> {
+                Map<K, V> values = new LinkedHashMap<>();
+                for (K key : keys) {
+                    V value = found.containsKey(key) ? found.get(key) : lower.get(key);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                }
+                return values;
+            });
+        });
+    }
+
+    @Override
+    public Mono<Void> invalidate(K key) {
+        return Mono.when(first.invalidate(key), second.invalidate(key));
+    }
+
+    @Override
+    public Mono<Void> invalidateAll() {
+        return Mono.when(first.invalidateAll(), second.invalidateAll());
+    }
+
+    @Override
+    public CacheStats stats() {
+        return first.stats();
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+/**
+ * Converts cached values to and from bytes, for cache tiers that store serialized data.
+ *
+ * @param <V> The type of values
+ */
+public interface ValueCodec<V> {
+
+    /**
+     * Encodes a value.
+     *
+     * @param value The value to encode
+     * @return The encoded bytes, or null if the value cannot be encoded
+     */
+    byte[] encode(V value);
+
+    /**
+     * Decodes a value previously produced by {@link #encode(Object)}.
+     *
+     * @param bytes The encoded bytes
+     * @return The decoded value
+     * @throws IllegalArgumentException if the bytes cannot be decoded
+     */
+    V decode(byte[] bytes);
+}
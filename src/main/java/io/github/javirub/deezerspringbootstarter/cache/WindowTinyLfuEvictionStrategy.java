@@ -0,0 +1,125 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Window TinyLFU eviction in constant time.
+ *
+ * <p>New keys enter a small LRU admission window (1% of the capacity). When the window overflows,
+ * its oldest key competes with the least recently used key of the main region, and the one with
+ * the higher estimated access frequency stays. Frequencies come from a {@link FrequencySketch}
+ * that ages periodically, so a flood of one-off keys (e.g. unique search queries) cannot push
+ * popular entries out of the cache.
+ *
+ * <p>Like {@link LruEvictionStrategy}, reads are recorded only when the lock is free.
+ *
+ * @param <K> The type of keys
+ */
+final class WindowTinyLfuEvictionStrategy<K> implements EvictionStrategy<K> {
+
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final Map<K, AccessOrderDeque.Node<K>> nodes = new HashMap<>();
+    private final AccessOrderDeque<K> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K> main = new AccessOrderDeque<>();
+    private final FrequencySketch<K> sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates a new Window TinyLFU strategy.
+     *
+     * @param capacity Maximum number of resident keys
+     */
+    WindowTinyLfuEvictionStrategy(int capacity) {
+        int maximum = Math.max(1, capacity);
+        this.windowCapacity = Math.max(1, maximum / 100);
+        this.mainCapacity = maximum - windowCapacity;
+        this.sketch = new FrequencySketch<>(maximum);
+    }
+
+    @Override
+    public void onAccess(K key) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(key);
+            AccessOrderDeque.Node<K> node = nodes.get(key);
+            if (node != null) {
+                dequeOf(node).moveToLast(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public K onInsert(K key) {
+        lock.lock();
+        try {
+            sketch.increment(key);
+            AccessOrderDeque.Node<K> node = nodes.get(key);
+            if (node != null) {
+                dequeOf(node).moveToLast(node);
+                return null;
+            }
+            node = new AccessOrderDeque.Node<>(key);
+            node.inWindow = true;
+            nodes.put(key, node);
+            window.addLast(node);
+            if (window.size() <= windowCapacity) {
+                return null;
+            }
+
+            AccessOrderDeque.Node<K> candidate = window.pollFirst();
+            candidate.inWindow = false;
+            if (main.size() < mainCapacity) {
+                main.addLast(candidate);
+                return null;
+            }
+
+            AccessOrderDeque.Node<K> victim = main.peekFirst();
+            if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                nodes.remove(candidate.key);
+                return candidate.key;
+            }
+            main.remove(victim);
+            nodes.remove(victim.key);
+            main.addLast(candidate);
+            return victim.key;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(K key) {
+        lock.lock();
+        try {
+            AccessOrderDeque.Node<K> node = nodes.remove(key);
+            if (node != null) {
+                dequeOf(node).remove(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            nodes.clear();
+            window.clear();
+            main.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AccessOrderDeque<K> dequeOf(AccessOrderDeque.Node<K> node) {
+        return node.inWindow ? window : main;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.javirub.deezerspringbootstarter.cache.invalidation;
+
+import java.util.List;
+
+/**
+ * A batch of cache changes published by one node.
+ *
+ * @param origin The identifier of the publishing node, used to ignore its own batches
+ * @param messages The changes, in the order they happened
+ */
+public record InvalidationBatch(String origin, List<InvalidationMessage> messages) {
+}
@@ -0,0 +1,144 @@
+package io.github.javirub.deezerspringbootstarter.cache.invalidation;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts local cache invalidations to the other nodes of a fleet and delivers theirs.
+ *
+ * <p>Changes are collected for a short batch window and published together through an
+ * {@link InvalidationTransport}. Within a batch, changes are de-duplicated per key, and a full
+ * invalidation supersedes every key invalidated before it. Batches published by this node are ignored
+ * on reception, so listeners only see remote changes.
+ */
+public class InvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final boolean publishUpdates;
+    private final String origin = UUID.randomUUID().toString();
+    private final Flux<InvalidationMessage> remote;
+    private final Object monitor = new Object();
+    private final Map<String, InvalidationMessage> pending = new LinkedHashMap<>();
+    private boolean pendingAll;
+    private Disposable scheduledFlush;
+
+    /**
+     * Creates a new InvalidationBus.
+     *
+     * @param transport The transport carrying batches between nodes
+     * @param batchWindow How long changes are collected before being published
+     * @param maxBatchSize Number of pending changes that triggers an immediate publication
+     * @param publishUpdates Whether freshly loaded values are also announced
+     */
+    public InvalidationBus(InvalidationTransport transport, Duration batchWindow, int maxBatchSize, boolean publishUpdates) {
+        this.transport = transport;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.publishUpdates = publishUpdates;
+        this.remote = transport.receive()
+                .filter(batch -> !origin.equals(batch.origin()))
+                .flatMapIterable(InvalidationBatch::messages)
+                .share();
+    }
+
+    /**
+     * Announces that an entry was invalidated on this node.
+     *
+     * @param key The cache key
+     */
+    public void invalidated(String key) {
+        enqueue(InvalidationMessage.invalidate(key));
+    }
+
+    /**
+     * Announces that the whole cache was invalidated on this node.
+     */
+    public void invalidatedAll() {
+        enqueue(InvalidationMessage.invalidateAll());
+    }
+
+    /**
+     * Announces that a fresh value was loaded on this node.
+     * Ignored unless the bus was created with {@code publishUpdates}.
+     *
+     * @param key The cache key
+     */
+    public void updated(String key) {
+        if (publishUpdates) {
+            enqueue(InvalidationMessage.updated(key));
+        }
+    }
+
+    /**
+     * Registers a listener for the changes published by the other nodes.
+     *
+     * @param listener The listener
+     * @return A Disposable that unregisters the listener
+     */
+    public Disposable subscribe(Consumer<InvalidationMessage> listener) {
+        return remote.subscribe(listener, error -> { });
+    }
+
+    /**
+     * Publishes the pending changes immediately.
+     */
+    public void flush() {
+        List<InvalidationMessage> messages;
+        synchronized (monitor) {
+            // A flush already scheduled may still run; it finds nothing pending or publishes early
+            scheduledFlush = null;
+            if (!pendingAll && pending.isEmpty()) {
+                return;
+            }
+            messages = new ArrayList<>(pending.size() + 1);
+            if (pendingAll) {
+                messages.add(InvalidationMessage.invalidateAll());
+            }
+            messages.addAll(pending.values());
+            pending.clear();
+            pendingAll = false;
+        }
+        transport.publish(new InvalidationBatch(origin, List.copyOf(messages)))
+                .subscribe(null, error -> { });
+    }
+
+    /**
+     * Publishes the pending changes before the bus is discarded.
+     */
+    public void close() {
+        flush();
+    }
+
+    private void enqueue(InvalidationMessage message) {
+        boolean full;
+        synchronized (monitor) {
+            if (message.type() == InvalidationMessage.Type.INVALIDATE_ALL) {
+                pending.clear();
+                pendingAll = true;
+            } else {
+                // An invalidation is at least as strong as an update notification for the same key
+                pending.merge(message.key(), message, (previous, next) ->
+                        previous.type() == InvalidationMessage.Type.INVALIDATE ? previous : next);
+            }
+            full = pending.size() >= maxBatchSize;
+            if (!full && scheduledFlush == null) {
+                scheduledFlush = Schedulers.parallel().schedule(this::flush, batchWindow.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.javirub.deezerspringbootstarter.cache.invalidation;
+
+/**
+ * A cache change to apply on the other nodes.
+ *
+ * @param type The kind of change
+ * @param key The affected cache key, or null for {@link Type#INVALIDATE_ALL}
+ */
+public record InvalidationMessage(Type type, String key) {
+
+    /**
+     * Kinds of cache changes.
+     */
+    public enum Type {
+        /**
+         * An entry was invalidated.
+         */
+        INVALIDATE,
+
+        /**
+         * The whole cache was invalidated.
+         */
+        INVALIDATE_ALL,
+
+        /**
+         * A fresh value was loaded from the API; other nodes should drop their copy.
+         */
+        UPDATED
+    }
+
+    /**
+     * Creates a message for an invalidated entry.
+     *
+     * @param key The cache key
+     * @return The message
+     */
+    public static InvalidationMessage invalidate(String key) {
+        return new InvalidationMessage(Type.INVALIDATE, key);
+    }
+
+    /**
+     * Creates a message for a fully invalidated cache.
+     *
+     * @return The message
+     */
+    public static InvalidationMessage invalidateAll() {
+        return new InvalidationMessage(Type.INVALIDATE_ALL, null);
+    }
+
+    /**
+     * Creates a message for a freshly loaded entry.
+     *
+     * @param key The cache key
+     * @return The message
+     */
+    public static InvalidationMessage updated(String key) {
+        return new InvalidationMessage(Type.UPDATED, key);
+    }
+}
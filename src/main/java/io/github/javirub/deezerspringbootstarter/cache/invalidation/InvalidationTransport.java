@@ -0,0 +1,29 @@
+package io.github.javirub.deezerspringbootstarter.cache.invalidation;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Carries invalidation batches between the nodes of a fleet.
+ *
+ * <p>Implementations deliver every published batch to the subscribers of all nodes, including the
+ * publishing one; the {@link InvalidationBus} filters out its own batches. Declaring a bean of this type
+ * enables cross-node invalidation of the Deezer cache. Use {@link LoopbackInvalidationTransport} in tests.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Publishes a batch to all nodes.
+     *
+     * @param batch The batch to publish
+     * @return A Mono that completes when the batch has been handed over to the transport
+     */
+    Mono<Void> publish(InvalidationBatch batch);
+
+    /**
+     * Receives the batches published by all nodes.
+     *
+     * @return A Flux of batches, which never completes while the transport is open
+     */
+    Flux<InvalidationBatch> receive();
+}
@@ -0,0 +1,35 @@
+package io.github.javirub.deezerspringbootstarter.cache.invalidation;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-JVM InvalidationTransport delivering batches synchronously to every receiver.
+ * Several buses sharing one instance behave like nodes of a fleet, which makes it suitable for tests.
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final Sinks.Many<InvalidationBatch> sink = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * Creates a new LoopbackInvalidationTransport.
+     */
+    public LoopbackInvalidationTransport() {
+        // Default constructor
+    }
+
+    @Override
+    public Mono<Void> publish(InvalidationBatch batch) {
+        return Mono.fromRunnable(() -> {
+            synchronized (sink) {
+                sink.tryEmitNext(batch);
+            }
+        });
+    }
+
+    @Override
+    public Flux<InvalidationBatch> receive() {
+        return sink.asFlux();
+    }
+}
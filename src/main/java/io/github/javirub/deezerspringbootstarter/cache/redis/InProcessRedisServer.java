@@ -0,0 +1,287 @@
+package io.github.javirub.deezerspringbootstarter.cache.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Small in-process server speaking enough of the Redis protocol to back a {@link RedisReactiveCache}.
+ *
+ * <p>Supports {@code PING}, {@code GET}, {@code SET} (with {@code EX}/{@code PX}), {@code MGET},
+ * {@code DEL}, {@code UNLINK}, {@code EXISTS}, {@code SCAN} (prefix patterns only, in a single page)
+ * and {@code FLUSHALL}. It is meant for tests and local development, so applications using the shared
+ * cache can run without a real Redis:
+ * <pre>
+ * try (InProcessRedisServer server = InProcessRedisServer.start()) {
+ *     RespClient client = new RespClient("localhost", server.getPort(), Duration.ofSeconds(1));
+ *     ...
+ * }
+ * </pre>
+ */
+public final class InProcessRedisServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, StoredValue> data = new ConcurrentHashMap<>();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private volatile boolean stalled;
+
+    private InProcessRedisServer(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    /**
+     * Starts a server on a random free port of the loopback interface.
+     *
+     * @return The running server
+     * @throws UncheckedIOException if the server socket cannot be opened
+     */
+    public static InProcessRedisServer start() {
+        try {
+            InProcessRedisServer server = new InProcessRedisServer(
+                    new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+            Thread acceptor = new Thread(server::acceptConnections, "in-process-redis-acceptor");
+            acceptor.setDaemon(true);
+            acceptor.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start in-process Redis server", e);
+        }
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of open client connections.
+     *
+     * @return The number of connections
+     */
+    public int getConnectionCount() {
+        return clients.size();
+    }
+
+    /**
+     * Stops replying to commands while keeping connections open, simulating an overloaded server.
+     * Commands received meanwhile are ignored.
+     */
+    public void stall() {
+        stalled = true;
+    }
+
+    /**
+     * Drops every open client connection, simulating a server restart or network failure.
+     * Stored data is kept.
+     */
+    public void dropConnections() {
+        clients.forEach(InProcessRedisServer::closeQuietly);
+        clients.clear();
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(serverSocket);
+        dropConnections();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                clients.add(socket);
+                Thread handler = new Thread(() -> serve(socket), "in-process-redis-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                if (stalled) {
+                    continue;
+                }
+                execute(command, out);
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // Client disconnected
+        } finally {
+            clients.remove(socket);
+        }
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = text(command.get(0)).toUpperCase();
+        switch (name) {
+            case "PING" -> writeSimple(out, "PONG");
+            case "GET" -> writeBulk(out, read(text(command.get(1))));
+            case "SET" -> {
+                long expiresAt = Long.MAX_VALUE;
+                for (int i = 3; i + 1 < command.size(); i += 2) {
+                    String option = text(command.get(i)).toUpperCase();
+                    long amount = Long.parseLong(text(command.get(i + 1)));
+                    if (option.equals("PX")) {
+                        expiresAt = System.currentTimeMillis() + amount;
+                    } else if (option.equals("EX")) {
+                        expiresAt = System.currentTimeMillis() + amount * 1000;
+                    }
+                }
+                data.put(text(command.get(1)), new StoredValue(command.get(2), expiresAt));
+                writeSimple(out, "OK");
+            }
+            case "MGET" -> {
+                writeLine(out, "*" + (command.size() - 1));
+                for (int i = 1; i < command.size(); i++) {
+                    writeBulk(out, read(text(command.get(i))));
+                }
+            }
+            case "DEL", "UNLINK" -> {
+                long removed = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    if (data.remove(text(command.get(i))) != null) {
+                        removed++;
+                    }
+                }
+                writeLine(out, ":" + removed);
+            }
+            case "EXISTS" -> writeLine(out, ":" + (read(text(command.get(1))) != null ? 1 : 0));
+            case "SCAN" -> {
+                String prefix = "";
+                for (int i = 2; i + 1 < command.size(); i += 2) {
+                    if (text(command.get(i)).equalsIgnoreCase("MATCH")) {
+                        String pattern = text(command.get(i + 1));
+                        prefix = pattern.endsWith("*") ? pattern.substring(0, pattern.length() - 1) : pattern;
+                    }
+                }
+                List<String> keys = new ArrayList<>();
+                for (String key : data.keySet()) {
+                    if (key.startsWith(prefix)) {
+                        keys.add(key);
+                    }
+                }
+                writeLine(out, "*2");
+                writeBulk(out, "0".getBytes(StandardCharsets.UTF_8));
+                writeLine(out, "*" + keys.size());
+                for (String key : keys) {
+                    writeBulk(out, key.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            case "FLUSHALL" -> {
+                data.clear();
+                writeSimple(out, "OK");
+            }
+            default -> writeLine(out, "-ERR unknown command '" + name + "'");
+        }
+    }
+
+    private byte[] read(String key) {
+        StoredValue value = data.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value.expiresAt() <= System.currentTimeMillis()) {
+            data.remove(key, value);
+            return null;
+        }
+        return value.bytes();
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type < 0) {
+            return null;
+        }
+        if (type != '*') {
+            throw new IOException("Inline commands are not supported");
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> arguments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Expected bulk string");
+            }
+            int length = Integer.parseInt(readLine(in));
+            arguments.add(in.readNBytes(length));
+            in.skipNBytes(2);
+        }
+        return arguments;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c < 0) {
+                throw new EOFException();
+            }
+            line.append((char) c);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private static void writeSimple(OutputStream out, String value) throws IOException {
+        writeLine(out, "+" + value);
+    }
+
+    private static void writeBulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            writeLine(out, "$-1");
+            return;
+        }
+        writeLine(out, "$" + value.length);
+        out.write(value);
+        writeLine(out, "");
+    }
+
+    private static void writeLine(OutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+        out.write('\r');
+        out.write('\n');
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // Ignored
+        }
+    }
+
+    private record StoredValue(byte[] bytes, long expiresAt) {
+    }
+}
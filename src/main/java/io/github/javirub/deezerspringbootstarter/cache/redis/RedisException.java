@@ -0,0 +1,26 @@
+package io.github.javirub.deezerspringbootstarter.cache.redis;
+
+/**
+ * Exception raised when a Redis server replies with an error or the connection fails.
+ */
+public class RedisException extends RuntimeException {
+
+    /**
+     * Creates a new RedisException.
+     *
+     * @param message The error message
+     */
+    public RedisException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new RedisException with a cause.
+     *
+     * @param message The error message
+     * @param cause The cause
+     */
+    public RedisException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
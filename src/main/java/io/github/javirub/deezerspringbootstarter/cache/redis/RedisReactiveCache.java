@@ -0,0 +1,182 @@
+package io.github.javirub.deezerspringbootstarter.cache.redis;
+
+import io.github.javirub.deezerspringbootstarter.cache.ReactiveCache;
+import io.github.javirub.deezerspringbootstarter.cache.TieredLoad;
+import io.github.javirub.deezerspringbootstarter.cache.ValueCodec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ReactiveCache shared between application instances through a Redis server.
+ *
+ * <p>Values are serialized with a {@link ValueCodec} and stored with {@code SET ... PX}, so expiration
+ * is handled by the server. Each value is prefixed with its expiration time, which a lookup made as a
+ * lower tier reports to its {@link TieredLoad}; such lookups store values with the load's expiration if
+ * that comes before the end of this cache's TTL, and background refreshes skip the shared cache. Keys are namespaced with a prefix, which also scopes {@link #invalidateAll()}.
+ * Commands are pipelined over a single non-blocking connection, and {@link #getAllPresent(Collection)}
+ * fetches many keys in one {@code MGET} round-trip.
+ *
+ * <p>The shared cache never fails a lookup: if Redis is unreachable or slow, the lookup is treated as a
+ * miss and the value loader is called. This cache is meant to be used as a lower tier of a
+ * {@link io.github.javirub.deezerspringbootstarter.cache.TieredReactiveCache}; it does not coalesce
+ * concurrent loads itself.
+ *
+ * @param <V> The type of values
+ */
+public class RedisReactiveCache<V> implements ReactiveCache<String, V> {
+
+    private static final int SCAN_COUNT = 1000;
+
+    private final RespClient client;
+    private final ValueCodec<V> codec;
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    /**
+     * Creates a new RedisReactiveCache.
+     *
+     * @param client The client connected to the Redis server
+     * @param codec The codec used to serialize values
+     * @param keyPrefix Prefix added to every key
+     * @param ttl Time-to-live of the entries
+     */
+    public RedisReactiveCache(RespClient client, ValueCodec<V> codec, String keyPrefix, Duration ttl) {
+        this.client = client;
+        this.codec = codec;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Mono<V> get(String key, Function<String, Mono<V>> valueLoader) {
+        return Mono.deferContextual(context -> {
+            TieredLoad load = TieredLoad.of(context);
+            Mono<V> cached = load == null || !load.isRefresh()
+                    ? client.execute("GET", keyPrefix + key)
+                            .mapNotNull(reply -> decode(reply, load))
+                            .onErrorResume(RedisException.class, error -> Mono.empty())
+                    : Mono.empty();
+            return cached.switchIfEmpty(Mono.defer(() -> valueLoader.apply(key)
+                    .doOnNext(value -> put(key, value, load))));
+        });
+    }
+
+    /**
+     * Returns the values present in Redis for the given keys, in a single {@code MGET}.
+     * Missing keys are absent from the result; if Redis is unavailable, the result is empty.
+     *
+     * @param keys The cache keys
+     * @return A Mono emitting the values found, keyed by cache key in request order
+     */
+    @Override
+    public Mono<Map<String, V>> getAllPresent(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        List<String> ordered = List.copyOf(keys);
+        Object[] command = new Object[ordered.size() + 1];
+        command[0] = "MGET";
+        for (int i = 0; i < ordered.size(); i++) {
+            command[i + 1] = keyPrefix + ordered.get(i);
+        }
+        return client.execute(command)
+                .map(reply -> {
+                    Map<String, V> values = new LinkedHashMap<>();
+                    List<?> replies = (List<?>) reply;
+                    for (int i = 0; i < ordered.size() && i < replies.size(); i++) {
+                        V value = decode(replies.get(i), null);
+                        if (value != null) {
+                            values.put(ordered.get(i), value);
+                        }
+                    }
+                    return values;
+                })
+                .onErrorResume(RedisException.class, error -> Mono.just(Map.of()));
+    }
+
+    @Override
+    public Mono<Void> invalidate(String key) {
+        return client.execute("DEL", keyPrefix + key)
+                .onErrorResume(RedisException.class, error -> Mono.empty())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> invalidateAll() {
+        return scan("0")
+                .concatMap(keys -> keys.isEmpty() ? Mono.empty() : client.execute(unlink(keys)))
+                .onErrorResume(RedisException.class, error -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Closes the connection to the Redis server.
+     */
+    public void close() {
+        client.close();
+    }
+
+    /**
+     * Walks all the keys with the cache prefix, following the SCAN cursor until it returns to 0.
+     *
+     * @param cursor The cursor to start from
+     * @return A Flux of key batches
+     */
+    private Flux<List<Object>> scan(String cursor) {
+        return client.execute("SCAN", cursor, "MATCH", keyPrefix + "*", "COUNT", SCAN_COUNT)
+                .flatMapMany(reply -> {
+                    List<?> page = (List<?>) reply;
+                    String next = new String((byte[]) page.get(0), StandardCharsets.UTF_8);
+                    @SuppressWarnings("unchecked")
+                    List<Object> keys = (List<Object>) page.get(1);
+                    Flux<List<Object>> current = Flux.just(keys);
+                    return "0".equals(next) ? current : current.concatWith(scan(next));
+                });
+    }
+
+    private static Object[] unlink(List<Object> keys) {
+        Object[] command = new Object[keys.size() + 1];
+        command[0] = "UNLINK";
+        for (int i = 0; i < keys.size(); i++) {
+            command[i + 1] = keys.get(i);
+        }
+        return command;
+    }
+
+    private void put(String key, V value, TieredLoad load) {
+        byte[] bytes = codec.encode(value);
+        long now = System.currentTimeMillis();
+        long expirationTime = TieredLoad.expirationTime(load, now, ttl);
+        if (bytes == null || expirationTime <= now) {
+            return;
+        }
+        byte[] stored = ByteBuffer.allocate(Long.BYTES + bytes.length).putLong(expirationTime).put(bytes).array();
+        client.execute("SET", keyPrefix + key, stored, "PX", expirationTime - now)
+                .subscribe(reply -> { }, error -> { });
+    }
+
+    private V decode(Object reply, TieredLoad load) {
+        if (!(reply instanceof byte[] bytes) || bytes.length < Long.BYTES) {
+            return null;
+        }
+        try {
+            V value = codec.decode(Arrays.copyOfRange(bytes, Long.BYTES, bytes.length));
+            if (load != null) {
+                load.foundCopy(ByteBuffer.wrap(bytes).getLong());
+            }
+            return value;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.javirub.deezerspringbootstarter.cache.redis;
+
+import io.netty.buffer.Unpooled;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.Connection;
+import reactor.netty.tcp.TcpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Minimal non-blocking client for the Redis serialization protocol (RESP2).
+ *
+ * <p>All commands share a single connection and are pipelined: each command is written as soon as it
+ * is issued, without waiting for the replies of previous ones, and replies are matched to commands in
+ * order. The connection is opened lazily and re-opened on the next command after it is lost.
+ */
+public class RespClient {
+
+    private final TcpClient tcpClient;
+    private final Duration timeout;
+    private final Object monitor = new Object();
+    private Mono<Link> link;
+
+    /**
+     * Creates a new RespClient.
+     *
+     * @param host The Redis host
+     * @param port The Redis port
+     * @param timeout Maximum time to wait for a connection or a reply
+     */
+    public RespClient(String host, int port, Duration timeout) {
+        this.timeout = timeout;
+        this.tcpClient = TcpClient.create()
+                .host(host)
+                .port(port)
+                .doOnConnected(c -> c.addHandlerLast(new RespDecoder()));
+    }
+
+    /**
+     * Sends a command.
+     *
+     * @param arguments The command name followed by its arguments
+     * @return A Mono emitting the decoded reply, or failing with {@link RedisException},
+     *         also when no reply arrives within the timeout
+     */
+    public Mono<Object> execute(Object... arguments) {
+        byte[] command = encode(arguments);
+        return link()
+                .flatMap(l -> l.send(command))
+                .timeout(timeout)
+                .onErrorMap(TimeoutException.class, error -> new RedisException("Redis timed out", error));
+    }
+
+    /**
+     * Closes the connection.
+     */
+    public void close() {
+        Mono<Link> current;
+        synchronized (monitor) {
+            current = link;
+            link = null;
+        }
+        if (current != null) {
+            current.subscribe(l -> l.connection().dispose(), error -> { });
+        }
+    }
+
+    /**
+     * Returns the current connection, opening a new one if there is none.
+     *
+     * @return A Mono emitting the connection and its reply queue
+     */
+    private Mono<Link> link() {
+        synchronized (monitor) {
+            if (link == null) {
+                AtomicReference<Mono<Link>> self = new AtomicReference<>();
+                Mono<Link> opened = tcpClient.connect()
+                        .timeout(timeout)
+                        .map(connection -> {
+                            Link l = new Link(connection, new ConcurrentLinkedQueue<>());
+                            connection.inbound().receiveObject()
+                                    .subscribe(l::onReply, error -> l.onClose(error), () -> l.onClose(null));
+                            connection.onDispose(() -> {
+                                l.onClose(null);
+                                reset(self.get());
+                            });
+                            return l;
+                        })
+                        .onErrorMap(error -> new RedisException("Unable to connect to Redis", error))
+                        .doOnError(error -> reset(self.get()))
+                        .cache();
+                self.set(opened);
+                link = opened;
+            }
+            return link;
+        }
+    }
+
+    /**
+     * Forgets a connection so the next command opens a new one.
+     *
+     * @param closed The connection that was lost
+     */
+    private void reset(Mono<Link> closed) {
+        synchronized (monitor) {
+            if (link == closed) {
+                link = null;
+            }
+        }
+    }
+
+    private static byte[] encode(Object... arguments) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeLine(out, "*" + arguments.length);
+        for (Object argument : arguments) {
+            byte[] bytes = argument instanceof byte[] raw ? raw : String.valueOf(argument).getBytes(StandardCharsets.UTF_8);
+            writeLine(out, "$" + bytes.length);
+            out.writeBytes(bytes);
+            writeLine(out, "");
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeLine(ByteArrayOutputStream out, String line) {
+        out.writeBytes(line.getBytes(StandardCharsets.UTF_8));
+        out.write('\r');
+        out.write('\n');
+    }
+
+    /**
+     * An open connection with the queue of commands awaiting a reply, in sending order.
+     *
+     * @param connection The connection
+     * @param replies The pending replies
+     */
+    private record Link(Connection connection, Queue<Sinks.One<Object>> replies) {
+
+        /**
+         * Writes a command and registers its reply.
+         * Registering and writing happen atomically, so replies arrive in registration order.
+         *
+         * @param command The encoded command
+         * @return A Mono emitting the reply
+         */
+        Mono<Object> send(byte[] command) {
+            Sinks.One<Object> reply = Sinks.one();
+            synchronized (this) {
+                if (connection.isDisposed()) {
+                    return Mono.error(new RedisException("Connection closed"));
+                }
+                replies.add(reply);
+                connection.channel().writeAndFlush(Unpooled.wrappedBuffer(command));
+            }
+            return reply.asMono();
+        }
+
+        void onReply(Object value) {
+            Sinks.One<Object> reply = replies.poll();
+            if (reply == null) {
+                return;
+            }
+            if (value instanceof RedisException error) {
+                reply.tryEmitError(error);
+            } else {
+                reply.tryEmitValue(value);
+            }
+        }
+
+        void onClose(Throwable cause) {
+            Sinks.One<Object> reply;
+            while ((reply = replies.poll()) != null) {
+                reply.tryEmitError(new RedisException("Connection closed", cause));
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.javirub.deezerspringbootstarter.cache.redis;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Netty decoder turning RESP2 replies into Java objects.
+ *
+ * <p>Simple strings become {@link String}, integers {@link Long}, bulk strings {@code byte[]},
+ * arrays {@link List}, errors {@link RedisException} and null replies {@link #NULL}.
+ * Incomplete replies are left in the buffer until more bytes arrive.
+ */
+final class RespDecoder extends ByteToMessageDecoder {
+
+    /**
+     * Marker for RESP null bulk strings and null arrays.
+     */
+    static final Object NULL = new Object();
+
+    private static final Object INCOMPLETE = new Object();
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        while (in.isReadable()) {
+            in.markReaderIndex();
+            Object value = parse(in);
+            if (value == INCOMPLETE) {
+                in.resetReaderIndex();
+                return;
+            }
+            out.add(value);
+        }
+    }
+
+    private static Object parse(ByteBuf in) {
+        if (!in.isReadable()) {
+            return INCOMPLETE;
+        }
+        byte type = in.readByte();
+        String line = readLine(in);
+        if (line == null) {
+            return INCOMPLETE;
+        }
+        switch (type) {
+            case '+':
+                return line;
+            case '-':
+                return new RedisException(line);
+            case ':':
+                return Long.parseLong(line);
+            case '$': {
+                int length = Integer.parseInt(line);
+                if (length < 0) {
+                    return NULL;
+                }
+                if (in.readableBytes() < length + 2) {
+                    return INCOMPLETE;
+                }
+                byte[] bytes = new byte[length];
+                in.readBytes(bytes);
+                in.skipBytes(2);
+                return bytes;
+            }
+            case '*': {
+                int count = Integer.parseInt(line);
+                if (count < 0) {
+                    return NULL;
+                }
+                List<Object> elements = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    Object element = parse(in);
+                    if (element == INCOMPLETE) {
+                        return INCOMPLETE;
+                    }
+                    elements.add(element);
+                }
+                return elements;
+            }
+            default:
+                throw new RedisException("Unexpected RESP type: " + (char) type);
+        }
+    }
+
+    private static String readLine(ByteBuf in) {
+        int end = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\r');
+        if (end < 0 || end + 1 >= in.writerIndex()) {
+            return null;
+        }
+        String line = in.toString(in.readerIndex(), end - in.readerIndex(), StandardCharsets.UTF_8);
+        in.readerIndex(end + 2);
+        return line;
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.javirub.deezerspringbootstarter.client;
+
+import io.github.javirub.deezerspringbootstarter.AsyncDeezerClient;
+import io.github.javirub.deezerspringbootstarter.DeezerClient;
+import io.github.javirub.deezerspringbootstarter.SearchOptions;
+import io.github.javirub.deezerspringbootstarter.domain.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous client for the Deezer API, running a blocking {@link DeezerClient} on virtual threads.
+ *
+ * <p>Each call is submitted to the executor, typically one that starts a new virtual thread per call, where it
+ * blocks on the Deezer API without holding a platform thread. The executor belongs to the caller, who shuts it
+ * down; the auto-configuration closes its own with the application context. Caching, rate limiting, the circuit breaker, the
+ * bulkhead and retries all apply as they do for the blocking client.
+ */
+public class AsyncDeezerClientImpl implements AsyncDeezerClient {
+
+    private final DeezerClient client;
+    private final Executor executor;
+
+    /**
+     * Creates a new AsyncDeezerClientImpl running the calls of the blocking client on the provided executor.
+     *
+     * @param client The blocking Deezer client
+     * @param executor The executor running the calls
+     */
+    public AsyncDeezerClientImpl(DeezerClient client, Executor executor) {
+        this.client = client;
+        this.executor = executor;
+    }
+
+    /**
+     * Runs a call of the blocking client on the executor.
+     *
+     * @param call The call
+     * @param <T> The type of the response
+     * @return A future completing with the response
+     */
+    private <T> CompletableFuture<T> async(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+
+    @Override
+    public CompletableFuture<Album> getAlbumById(Long albumId) {
+        return async(() -> client.getAlbumById(albumId));
+    }
+
+    @Override
+    public CompletableFuture<Artist> getArtistById(Long artistId) {
+        return async(() -> client.getArtistById(artistId));
+    }
+
+    @Override
+    public CompletableFuture<Editorial> getEditorialById(Long editorialId) {
+        return async(() -> client.getEditorialById(editorialId));
+    }
+
+    @Override
+    public CompletableFuture<Genre> getGenreById(Long genreId) {
+        return async(() -> client.getGenreById(genreId));
+    }
+
+    @Override
+    public CompletableFuture<Playlist> getPlaylistById(Long playlistId) {
+        return async(() -> client.getPlaylistById(playlistId));
+    }
+
+    @Override
+    public CompletableFuture<Radio> getRadioById(Long radioId) {
+        return async(() -> client.getRadioById(radioId));
+    }
+
+    @Override
+    public CompletableFuture<Track> getTrackById(Long trackId) {
+        return async(() -> client.getTrackById(trackId));
+    }
+
+    @Override
+    public CompletableFuture<User> getUserById(Long userId) {
+        return async(() -> client.getUserById(userId));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Album>> getAlbumsByIds(Collection<Long> albumIds) {
+        return async(() -> client.getAlbumsByIds(albumIds));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Artist>> getArtistsByIds(Collection<Long> artistIds) {
+        return async(() -> client.getArtistsByIds(artistIds));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Playlist>> getPlaylistsByIds(Collection<Long> playlistIds) {
+        return async(() -> client.getPlaylistsByIds(playlistIds));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Track>> getTracksByIds(Collection<Long> trackIds) {
+        return async(() -> client.getTracksByIds(trackIds));
+    }
+
+    @Override
+    public CompletableFuture<Search> search(SearchOptions options) {
+        return async(() -> client.search(options));
+    }
+
+    @Override
+    public CompletableFuture<Search> search(String query) {
+        return async(() -> client.search(query));
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.javirub.deezerspringbootstarter.client;
+
+import io.github.javirub.deezerspringbootstarter.cache.ReactiveCache;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Resolves many resources of one type from their IDs, for the bulk lookups of both clients.
+ *
+ * <p>IDs are grouped into batches of {@code deezer.bulk.batch-size}; a partial batch is looked up once no new ID
+ * has arrived for {@code deezer.bulk.batch-timeout} milliseconds, so IDs emitted slowly are not held back until
+ * the source completes. Duplicate IDs are resolved once per batch, without remembering every ID ever seen.
+ * Each batch is looked up in the cache with a single {@link ReactiveCache#getAllPresent multi-get}, and only the
+ * misses go through the loader, at most {@code deezer.bulk.concurrency} at a time. Since the loader goes through the rate limiter,
+ * throughput is bounded by the request quota rather than by the caller. Results keep the order of the IDs.
+ *
+ * <p>IDs unknown to Deezer are left out of the results; any other failure fails the whole lookup.
+ */
+final class BulkLoader {
+
+    private BulkLoader() {
+        // Utility class
+    }
+
+    /**
+     * Resolves resources from their IDs.
+     *
+     * @param ids The resource IDs, possibly with duplicates, which are only removed within a batch
+     * @param cache The cache holding responses under {@code <endpoint>:<id>} keys
+     * @param endpoint The API endpoint of the resource type
+     * @param type The resource type
+     * @param loader Function looking up a single resource through the cache, used for cache misses
+     * @param bulk The bulk lookup configuration
+     * @param <T> The type of resource
+     * @return A Flux emitting each found resource with its ID, in the order of the IDs
+     */
+    static <T> Flux<Map.Entry<Long, T>> resolve(Publisher<Long> ids, ReactiveCache<String, Object> cache,
+                                                String endpoint, Class<T> type, LongFunction<Mono<T>> loader,
+                                                DeezerProperties.Bulk bulk) {
+        return Flux.from(ids)
+                .filter(Objects::nonNull)
+                .bufferTimeout(bulk.getBatchSize(), Duration.ofMillis(bulk.getBatchTimeout()), true)
+                .concatMap(batch -> lookUp(batch, cache, endpoint, type, loader))
+                // Cached values complete immediately, so only misses hold one of the concurrency slots
+                .flatMapSequential(Function.identity(), bulk.getConcurrency());
+    }
+
+    /**
+     * Looks up a batch of IDs in the cache at once.
+     *
+     * @param batch The IDs of the batch, duplicates being looked up once
+     * @param cache The cache holding responses
+     * @param endpoint The API endpoint of the resource type
+     * @param type The resource type
+     * @param loader Function looking up a single resource, used for cache misses
+     * @param <T> The type of resource
+     * @return A Flux emitting, for each ID of the batch, a Mono of its resource
+     */
+    private static <T> Flux<Mono<Map.Entry<Long, T>>> lookUp(List<Long> batch, ReactiveCache<String, Object> cache,
+                                                             String endpoint, Class<T> type,
+                                                             LongFunction<Mono<T>> loader) {
+        Map<String, Long> idsByKey = new LinkedHashMap<>();
+        batch.forEach(id -> idsByKey.put(endpoint + ":" + id, id));
+        return cache.getAllPresent(idsByKey.keySet())
+                .flatMapIterable(present -> idsByKey.entrySet().stream()
+                        .map(key -> {
+                            long id = key.getValue();
+                            Object cached = present.get(key.getKey());
+                            Mono<T> value = cached != null
+                                    ? Mono.just(type.cast(cached))
+                                    : loader.apply(id).onErrorResume(DeezerNotFoundException.class, e -> Mono.empty());
+                            return value.map(resource -> Map.entry(id, resource));
+                        })
+                        .toList());
+    }
+
+    /**
+     * Collects resolved resources into a map keyed by ID, in the order of the IDs.
+     *
+     * @param resolved The resolved resources
+     * @param <T> The type of resource
+     * @return A Mono emitting the resources by ID
+     */
+    static <T> Mono<Map<Long, T>> toMap(Flux<Map.Entry<Long, T>> resolved) {
+        return resolved.collect(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()));
+    }
+}
@@ -1,48 +1,258 @@
 package io.github.javirub.deezerspringbootstarter.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.javirub.deezerspringbootstarter.DeezerClient;
 import io.github.javirub.deezerspringbootstarter.SearchOptions;
+import io.github.javirub.deezerspringbootstarter.cache.IdKeyedReactiveCache;
+import io.github.javirub.deezerspringbootstarter.cache.NoOpReactiveCache;
+import io.github.javirub.deezerspringbootstarter.cache.ReactiveCache;
 import io.github.javirub.deezerspringbootstarter.domain.*;
-import org.springframework.http.ResponseEntity;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import io.github.javirub.deezerspringbootstarter.ratelimit.DeezerRateLimiter;
+import io.github.javirub.deezerspringbootstarter.resilience.DeezerBulkhead;
+import io.github.javirub.deezerspringbootstarter.resilience.DeezerCircuitBreaker;
+import io.github.javirub.deezerspringbootstarter.retry.DeezerRetryPolicy;
+import lombok.Builder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Non-reactive client for the Deezer API.
  * This client uses RestTemplate to make blocking requests to Deezer endpoints.
+ *
+ * <p>Responses carrying a Deezer error object are raised as {@link DeezerApiException}s.
+ *
+ * <p>When created with a {@link ReactiveCache}, responses are cached exactly as by the reactive client:
+ * same keys, TTLs, size limits and negative caching. Concurrent calls for the same resource from many
+ * threads share a single request: the first caller's load is registered in the cache as in flight, and
+ * the other threads block on it. Loads run on the bounded elastic scheduler, or on the scheduler provided,
+ * so background refreshes triggered by a cache hit never hold up the calling thread. With a scheduler
+ * running on virtual threads, a blocked load costs no platform thread.
+ *
+ * <p>Every request first waits for a permit from the {@link DeezerRateLimiter}, for at most its timeout.
+ * Before that, it must get past the {@link DeezerBulkhead} and the {@link DeezerCircuitBreaker}, which fail
+ * it right away when too many requests are outstanding or Deezer keeps failing. Failed requests are retried
+ * by the load according to the {@link DeezerRetryPolicy}; without one, the client retries with
+ * {@link DeezerRetryPolicy#defaults()}, as the reactive client does.
+ *
+ * <p>Bulk lookups ({@code get...ByIds}) resolve the cached resources of each batch of IDs with a single
+ * multi-get and fetch the misses on the load scheduler, with bounded concurrency.
  */
 public class DeezerClientImpl implements DeezerClient {
 
     private final RestTemplate restTemplate;
     private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final ReactiveCache<String, Object> cache;
+    private final IdKeyedReactiveCache<Object> idCache;
+    private final DeezerRateLimiter rateLimiter;
+    private final DeezerProperties.Bulk bulk;
+    private final DeezerCircuitBreaker circuitBreaker;
+    private final DeezerBulkhead bulkhead;
+    private final DeezerRetryPolicy retryPolicy;
+    private final Scheduler loadScheduler;
 
     /**
      * Creates a new DeezerClientImpl with the provided RestTemplate and base URL.
+     * Every other setting takes the default described in
+     * {@link #DeezerClientImpl(RestTemplate, String, ReactiveCache, ObjectMapper, DeezerRateLimiter,
+     * DeezerProperties.Bulk, DeezerCircuitBreaker, DeezerBulkhead, DeezerRetryPolicy, Scheduler)}.
      *
      * @param restTemplate The RestTemplate for making HTTP requests
      * @param baseUrl      The base URL for the Deezer API
      */
     public DeezerClientImpl(RestTemplate restTemplate, String baseUrl) {
+        this(restTemplate, baseUrl, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a new DeezerClientImpl.
+     * Only the RestTemplate and the base URL are required; any other argument left null takes its default.
+     * Use {@code DeezerClientImpl.builder()} to set only some of them.
+     *
+     * @param restTemplate   The RestTemplate for making HTTP requests
+     * @param baseUrl        The base URL for the Deezer API
+     * @param cache          The cache for API responses, or null not to cache them
+     * @param objectMapper   The ObjectMapper used to convert response bodies into domain objects,
+     *                       or null for a default one
+     * @param rateLimiter    The rate limiter shared with the other Deezer clients, or null not to limit requests
+     * @param bulk           The bulk lookup configuration, or null for the default configuration
+     * @param circuitBreaker The circuit breaker shared with the other Deezer clients, or null for none
+     * @param bulkhead       The bulkhead shared with the other Deezer clients, or null for none
+     * @param retryPolicy    The retry policy shared with the other Deezer clients,
+     *                       or null for {@link DeezerRetryPolicy#defaults()}; pass {@link DeezerRetryPolicy#none()}
+     *                       not to retry
+     * @param loadScheduler  The scheduler running the blocking requests of cache loads,
+     *                       or null for the bounded elastic scheduler
+     */
+    @Builder
+    public DeezerClientImpl(RestTemplate restTemplate, String baseUrl, ReactiveCache<String, Object> cache,
+                            ObjectMapper objectMapper, DeezerRateLimiter rateLimiter, DeezerProperties.Bulk bulk,
+                            DeezerCircuitBreaker circuitBreaker, DeezerBulkhead bulkhead,
+                            DeezerRetryPolicy retryPolicy, Scheduler loadScheduler) {
         this.restTemplate = restTemplate;
         this.baseUrl = baseUrl;
+        this.cache = Objects.requireNonNullElseGet(cache, NoOpReactiveCache::new);
+        this.objectMapper = Objects.requireNonNullElseGet(objectMapper, () -> Jackson2ObjectMapperBuilder.json().build());
+        this.rateLimiter = Objects.requireNonNullElseGet(rateLimiter, DeezerRateLimiter::unlimited);
+        this.bulk = Objects.requireNonNullElseGet(bulk, DeezerProperties.Bulk::new);
+        this.circuitBreaker = Objects.requireNonNullElseGet(circuitBreaker, DeezerCircuitBreaker::disabled);
+        this.bulkhead = Objects.requireNonNullElseGet(bulkhead, DeezerBulkhead::unlimited);
+        this.retryPolicy = Objects.requireNonNullElseGet(retryPolicy, DeezerRetryPolicy::defaults);
+        this.loadScheduler = Objects.requireNonNullElseGet(loadScheduler, Schedulers::boundedElastic);
+        this.idCache = this.cache instanceof IdKeyedReactiveCache<Object> idKeyed ? idKeyed : null;
     }
 
     /**
-     * Generic method to get a resource by ID using RestTemplate.
+     * Generic method to get a resource by ID using RestTemplate, with caching.
      *
      * @param endpoint     The API endpoint
      * @param id           The resource ID
      * @param responseType The expected response type
      * @param <T>          The type of resource
-     * @param <ID>         The type of ID
      * @return The requested resource
      */
-    private <T, ID> T getById(String endpoint, ID id, Class<T> responseType) {
+    private <T> T getById(String endpoint, Long id, Class<T> responseType) {
+        return lookUp(endpoint, id, responseType).block();
+    }
+
+    /**
+     * Looks up a resource by ID in the cache, loading it if needed, without blocking.
+     *
+     * @param endpoint     The API endpoint
+     * @param id           The resource ID
+     * @param responseType The expected response type
+     * @param <T>          The type of resource
+     * @return A Mono that emits the cached or fetched resource
+     */
+    private <T> Mono<T> lookUp(String endpoint, Long id, Class<T> responseType) {
         String url = baseUrl + "/" + endpoint + "/" + id;
-        ResponseEntity<T> response = restTemplate.getForEntity(url, responseType);
-        return response.getBody();
+        if (idCache != null && id != null) {
+            return idCache.get(endpoint, id, key -> load(url, responseType)).cast(responseType);
+        }
+        return cache.get(endpoint + ":" + id, key -> load(url, responseType)).cast(responseType);
+    }
+
+    /**
+     * Generic method to get many resources by ID, resolving cached ones at once.
+     *
+     * @param endpoint     The API endpoint
+     * @param ids          The resource IDs
+     * @param responseType The expected response type
+     * @param <T>          The type of resource
+     * @return The found resources by ID, in the order of the IDs
+     * @see BulkLoader
+     */
+    private <T> Map<Long, T> getByIds(String endpoint, Collection<Long> ids, Class<T> responseType) {
+        return BulkLoader.toMap(BulkLoader.resolve(Flux.fromIterable(ids), cache, endpoint, responseType,
+                id -> lookUp(endpoint, id, responseType), bulk)).block();
+    }
+
+    /**
+     * Returns the cached response for a key, fetching it if needed.
+     * Threads asking for a key that is already being fetched wait for that request instead of sending their own.
+     *
+     * @param cacheKey     The cache key
+     * @param url          The request URL
+     * @param responseType The expected response type
+     * @param <T>          The type of resource
+     * @return The cached or fetched response
+     */
+    private <T> T cached(String cacheKey, String url, Class<T> responseType) {
+        return responseType.cast(cache.get(cacheKey, key -> load(url, responseType)).block());
+    }
+
+    /**
+     * Wraps a blocking request into a Mono the cache can share between callers.
+     *
+     * @param url          The request URL
+     * @param responseType The expected response type
+     * @return A Mono that emits the decoded response
+     */
+    private Mono<Object> load(String url, Class<?> responseType) {
+        return Mono.<Object>fromCallable(() -> fetch(url, responseType))
+                .subscribeOn(loadScheduler);
+    }
+
+    /**
+     * Performs a GET request and decodes the response body.
+     *
+     * @param url          The request URL
+     * @param responseType The expected response type
+     * @param <T>          The type of resource
+     * @return The decoded response
+     * @throws DeezerApiException if Deezer answered with an error object, or the rate limiter, the circuit breaker
+     *                            or the bulkhead rejected the request
+     */
+    private <T> T fetch(String url, Class<T> responseType) {
+        JsonNode body = retryPolicy.execute(() -> {
+            JsonNode response = send(url);
+            JsonNode error = DeezerApiException.errorOf(response);
+            if (error != null) {
+                throw DeezerApiException.fromError(error);
+            }
+            return response;
+        });
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to decode Deezer response from " + url, e);
+        }
+    }
+
+    /**
+     * Sends a GET request once the bulkhead, the circuit breaker and the rate limiter let it through,
+     * reporting its outcome to the circuit breaker. 404 responses are turned into {@link DeezerNotFoundException}s,
+     * as in the reactive client, so that they are cached as not-found results.
+     *
+     * @param url The request URL
+     * @return The response body
+     */
+    private JsonNode send(String url) {
+        bulkhead.acquirePermit();
+        try {
+            circuitBreaker.acquirePermission();
+            try {
+                rateLimiter.acquirePermit();
+            } catch (RuntimeException e) {
+                circuitBreaker.onIgnored();
+                throw e;
+            }
+            long start = System.nanoTime();
+            try {
+                JsonNode body = restTemplate.getForEntity(url, JsonNode.class).getBody();
+                circuitBreaker.onResult(System.nanoTime() - start, null);
+                return body;
+            } catch (HttpClientErrorException.NotFound e) {
+                String error = e.getResponseBodyAsString();
+                DeezerNotFoundException notFound = new DeezerNotFoundException(0, null,
+                        "Not found: " + (error.isEmpty() ? e.getStatusCode().toString() : error));
+                circuitBreaker.onResult(System.nanoTime() - start, notFound);
+                throw notFound;
+            } catch (RuntimeException e) {
+                circuitBreaker.onResult(System.nanoTime() - start, e);
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
     }
 
     @Override
@@ -85,6 +295,26 @@ public class DeezerClientImpl implements DeezerClient {
         return getById("user", userId, User.class);
     }
 
+    @Override
+    public Map<Long, Album> getAlbumsByIds(Collection<Long> albumIds) {
+        return getByIds("album", albumIds, Album.class);
+    }
+
+    @Override
+    public Map<Long, Artist> getArtistsByIds(Collection<Long> artistIds) {
+        return getByIds("artist", artistIds, Artist.class);
+    }
+
+    @Override
+    public Map<Long, Playlist> getPlaylistsByIds(Collection<Long> playlistIds) {
+        return getByIds("playlist", playlistIds, Playlist.class);
+    }
+
+    @Override
+    public Map<Long, Track> getTracksByIds(Collection<Long> trackIds) {
+        return getByIds("track", trackIds, Track.class);
+    }
+
     @Override
     public Search search(SearchOptions options) {
         Map<String, Object> queryParams = options.buildQueryParams();
@@ -93,8 +323,7 @@ public class DeezerClientImpl implements DeezerClient {
         queryParams.forEach(uriBuilder::queryParam);
 
         String url = uriBuilder.toUriString();
-        ResponseEntity<Search> response = restTemplate.getForEntity(url, Search.class);
-        return response.getBody();
+        return cached(options.buildCacheKey(), url, Search.class);
     }
 
     @Override
@@ -0,0 +1,186 @@
+package io.github.javirub.deezerspringbootstarter.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the elements of an array field of a JSON response as they arrive.
+ *
+ * <p>Deezer list endpoints answer with {@code {"data": [...], "total": ..., "next": ...}}. Instead of
+ * aggregating the whole body and binding it at once, the body is fed chunk by chunk to Jackson's
+ * non-blocking parser. Each element of the array is buffered as tokens only until it is complete, then
+ * bound and emitted, so memory use depends on the size of one element, not of the list. An
+ * {@code error} field is raised as a {@link DeezerApiException}; other fields are skipped.
+ *
+ * @param <T> The type of the elements
+ */
+final class JsonArrayStreamDecoder<T> {
+
+    private final ObjectMapper objectMapper;
+    private final String field;
+    private final Class<T> elementType;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private int depth;
+    private String currentField;
+    private boolean inArray;
+    private TokenBuffer element;
+    private int elementDepth;
+    private boolean inError;
+
+    private JsonArrayStreamDecoder(ObjectMapper objectMapper, String field, Class<T> elementType) throws IOException {
+        this.objectMapper = objectMapper;
+        this.field = field;
+        this.elementType = elementType;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Decodes the elements of an array field of a streamed JSON object.
+     *
+     * @param body The response body
+     * @param field The name of the array field of the root object
+     * @param elementType The type of the elements
+     * @param objectMapper The ObjectMapper binding each element
+     * @param <T> The type of the elements
+     * @return A Flux emitting the elements in order
+     */
+    static <T> Flux<T> decode(Flux<DataBuffer> body, String field, Class<T> elementType, ObjectMapper objectMapper) {
+        return Flux.defer(() -> {
+            JsonArrayStreamDecoder<T> decoder;
+            try {
+                decoder = new JsonArrayStreamDecoder<>(objectMapper, field, elementType);
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+            return body.concatMapIterable(decoder::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.endOfInput())))
+                    .doFinally(signal -> decoder.close());
+        });
+    }
+
+    /**
+     * Parses a chunk of the body.
+     *
+     * @param buffer The chunk, released once read
+     * @return The elements completed by the chunk
+     */
+    private List<T> feed(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            return parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<T> endOfInput() {
+        feeder.endOfInput();
+        try {
+            return parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Consumes the tokens available so far.
+     *
+     * @return The elements completed by these tokens
+     * @throws IOException if the JSON is malformed or an element cannot be bound
+     */
+    private List<T> parse() throws IOException {
+        List<T> completed = new ArrayList<>(0);
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+                elementDepth += nesting(token);
+                if (elementDepth == 0) {
+                    complete(completed);
+                }
+                continue;
+            }
+            if (depth == 1 && token == JsonToken.FIELD_NAME) {
+                currentField = parser.currentName();
+                continue;
+            }
+            if (depth == 1 && token == JsonToken.START_OBJECT && "error".equals(currentField)) {
+                inError = true;
+                startElement(token);
+                continue;
+            }
+            if (depth == 1 && token == JsonToken.START_ARRAY && field.equals(currentField)) {
+                inArray = true;
+                depth++;
+                continue;
+            }
+            if (inArray && depth == 2 && token == JsonToken.END_ARRAY) {
+                inArray = false;
+                depth--;
+                continue;
+            }
+            if (inArray && depth == 2 && token.isStructStart()) {
+                startElement(token);
+                continue;
+            }
+            if (inArray && depth == 2 && token.isScalarValue()) {
+                completed.add(objectMapper.readValue(parser, elementType));
+                continue;
+            }
+            depth += nesting(token);
+        }
+        return completed;
+    }
+
+    private void startElement(JsonToken token) throws IOException {
+        element = new TokenBuffer(parser);
+        element.copyCurrentEvent(parser);
+        elementDepth = nesting(token);
+    }
+
+    private void complete(List<T> completed) throws IOException {
+        TokenBuffer tokens = element;
+        element = null;
+        try (JsonParser elementParser = tokens.asParser(objectMapper)) {
+            if (inError) {
+                inError = false;
+                JsonNode error = objectMapper.readTree(elementParser);
+                throw DeezerApiException.fromError(error);
+            }
+            completed.add(objectMapper.readValue(elementParser, elementType));
+        }
+    }
+
+    private static int nesting(JsonToken token) {
+        if (token.isStructStart()) {
+            return 1;
+        }
+        return token.isStructEnd() ? -1 : 0;
+    }
+
+    private void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+}
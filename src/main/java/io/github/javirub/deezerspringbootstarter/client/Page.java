@@ -0,0 +1,26 @@
+package io.github.javirub.deezerspringbootstarter.client;
+
+import java.util.List;
+
+/**
+ * One page of a paginated Deezer list response.
+ *
+ * @param data The elements of the page
+ * @param total The total number of elements across all pages, if Deezer reports it
+ * @param next The URL of the next page, or null on the last page
+ * @param <T> The type of the list elements
+ */
+record Page<T>(List<T> data, Long total, String next) {
+
+    /**
+     * Returns the number of elements to page through, capped to {@code maxResults}.
+     * When Deezer does not report a total, only this page is considered.
+     *
+     * @param maxResults The maximum number of elements requested by the caller
+     * @return The number of elements to page through
+     */
+    long end(long maxResults) {
+        long available = total != null ? total : data != null ? data.size() : 0;
+        return Math.min(available, maxResults);
+    }
+}
@@ -1,70 +1,360 @@
 package io.github.javirub.deezerspringbootstarter.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.javirub.deezerspringbootstarter.ReactiveDeezerClient;
 import io.github.javirub.deezerspringbootstarter.SearchOptions;
+import io.github.javirub.deezerspringbootstarter.cache.IdKeyedReactiveCache;
 import io.github.javirub.deezerspringbootstarter.cache.ReactiveCache;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerUnavailableException;
+import io.github.javirub.deezerspringbootstarter.hedge.DeezerRequestHedger;
 import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import io.github.javirub.deezerspringbootstarter.ratelimit.DeezerRateLimiter;
+import io.github.javirub.deezerspringbootstarter.resilience.DeezerBulkhead;
+import io.github.javirub.deezerspringbootstarter.resilience.DeezerCircuitBreaker;
+import io.github.javirub.deezerspringbootstarter.retry.DeezerRetryPolicy;
 import io.github.javirub.deezerspringbootstarter.domain.*;
-import org.springframework.http.HttpStatusCode;
+import lombok.Builder;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
+import reactor.core.publisher.SynchronousSink;
 
-import java.time.Duration;
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
 
 /**
  * Reactive client for the Deezer API.
  * This client uses WebClient to make non-blocking requests to Deezer endpoints,
  * with caching support for improved performance.
+ *
+ * <p>Responses carrying a Deezer error object (which Deezer sends with HTTP 200) are turned into
+ * {@link DeezerApiException}s instead of being decoded into empty records. Unknown resources raise
+ * {@link DeezerNotFoundException}, which the cache remembers for a short time.
+ *
+ * <p>When the cache supports lookups by ID ({@link IdKeyedReactiveCache}), resources are looked up by
+ * their numeric ID with loaders created once per resource type, so cache hits allocate nothing.
+ *
+ * <p>Every request, including retries, first waits for a permit from the {@link DeezerRateLimiter},
+ * without blocking. Cache hits never consume permits. Requests decoded as a whole can be hedged by a
+ * {@link DeezerRequestHedger}: slow attempts get a second one, and the first answer wins.
+ *
+ * <p>Requests go through a {@link DeezerBulkhead} and a {@link DeezerCircuitBreaker} before waiting for
+ * their permit, so that they fail fast with a {@link DeezerUnavailableException} when too many are
+ * outstanding or Deezer keeps failing.
+ *
+ * <p>Failed requests are retried according to the {@link DeezerRetryPolicy}, which recognizes Deezer's quota
+ * and busy errors, waits with jitter, and keeps retries within a budget.
+ *
+ * <p>List endpoints are paged through lazily: the first page tells how many elements there are, and
+ * each following page is requested while the previous one is being consumed.
+ *
+ * <p>Bulk lookups ({@code get...ByIds}) resolve the cached resources of each batch of IDs with a single
+ * multi-get and only fetch the misses, with bounded concurrency.
  */
 public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
 
     private final WebClient webClient;
     private final ReactiveCache<String, Object> cache;
     private final DeezerProperties properties;
+    private final ObjectMapper objectMapper;
+    private final DeezerRateLimiter rateLimiter;
+    private final DeezerRequestHedger hedger;
+    private final DeezerCircuitBreaker circuitBreaker;
+    private final DeezerBulkhead bulkhead;
+    private final DeezerRetryPolicy retryPolicy;
+    private final IdKeyedReactiveCache<Object> idCache;
+    private final Resource<Album> album = resource("album", Album.class);
+    private final Resource<Artist> artist = resource("artist", Artist.class);
+    private final Resource<Editorial> editorial = resource("editorial", Editorial.class);
+    private final Resource<Genre> genre = resource("genre", Genre.class);
+    private final Resource<Playlist> playlist = resource("playlist", Playlist.class);
+    private final Resource<Radio> radio = resource("radio", Radio.class);
+    private final Resource<Track> track = resource("track", Track.class);
+    private final Resource<User> user = resource("user", User.class);
     
     /**
      * Creates a new DeezerClient with the provided WebClient, cache, and properties.
+     * Every other setting takes the default described in
+     * {@link #ReactiveDeezerClientImpl(WebClient, ReactiveCache, DeezerProperties, ObjectMapper, DeezerRateLimiter,
+     * DeezerRequestHedger, DeezerCircuitBreaker, DeezerBulkhead, DeezerRetryPolicy)}.
      * 
      * @param webClient The WebClient configured for Deezer API
      * @param cache The reactive cache for caching API responses
      * @param properties The Deezer configuration properties
      */
     public ReactiveDeezerClientImpl(WebClient webClient, ReactiveCache<String, Object> cache, DeezerProperties properties) {
+        this(webClient, cache, properties, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a new DeezerClient.
+     * Only the WebClient, the cache and the properties are required; any other argument left null takes its default.
+     * Use {@code ReactiveDeezerClientImpl.builder()} to set only some of them.
+     *
+     * @param webClient The WebClient configured for Deezer API
+     * @param cache The reactive cache for caching API responses
+     * @param properties The Deezer configuration properties
+     * @param objectMapper The ObjectMapper used to convert response bodies into domain objects, or null for a default one
+     * @param rateLimiter The rate limiter shared with the other Deezer clients, or null not to limit requests
+     * @param hedger The hedger sending second attempts for slow requests, or null not to hedge
+     * @param circuitBreaker The circuit breaker shared with the other Deezer clients, or null for none
+     * @param bulkhead The bulkhead shared with the other Deezer clients, or null for none
+     * @param retryPolicy The retry policy shared with the other Deezer clients,
+     *                    or null for the policy described by the properties, which is
+     *                    {@link DeezerRetryPolicy#defaults()} unless they change it;
+     *                    pass {@link DeezerRetryPolicy#none()} not to retry
+     */
+    @Builder
+    public ReactiveDeezerClientImpl(WebClient webClient, ReactiveCache<String, Object> cache, DeezerProperties properties,
+                                    ObjectMapper objectMapper, DeezerRateLimiter rateLimiter, DeezerRequestHedger hedger,
+                                    DeezerCircuitBreaker circuitBreaker, DeezerBulkhead bulkhead,
+                                    DeezerRetryPolicy retryPolicy) {
         this.webClient = webClient;
         this.cache = cache;
         this.properties = properties;
+        this.objectMapper = Objects.requireNonNullElseGet(objectMapper, () -> Jackson2ObjectMapperBuilder.json().build());
+        this.rateLimiter = Objects.requireNonNullElseGet(rateLimiter, DeezerRateLimiter::unlimited);
+        this.hedger = Objects.requireNonNullElseGet(hedger, DeezerRequestHedger::disabled);
+        this.circuitBreaker = Objects.requireNonNullElseGet(circuitBreaker, DeezerCircuitBreaker::disabled);
+        this.bulkhead = Objects.requireNonNullElseGet(bulkhead, DeezerBulkhead::unlimited);
+        this.retryPolicy = Objects.requireNonNullElseGet(retryPolicy, () -> DeezerRetryPolicy.of(properties));
+        this.idCache = cache instanceof IdKeyedReactiveCache<Object> idKeyed ? idKeyed : null;
     }
 
     /**
      * Generic method to get a resource by ID, with caching.
      * 
-     * @param endpoint The API endpoint
+     * @param resource The resource type
      * @param id The resource ID
-     * @param responseType The expected response type
      * @param <T> The type of resource
-     * @param <ID> The type of ID
      * @return A Mono that emits the requested resource
      */
-    private <T, ID> Mono<T> getById(String endpoint, ID id, Class<T> responseType) {
-        String cacheKey = endpoint + ":" + id;
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> getById(Resource<T> resource, Long id) {
+        if (idCache != null && id != null) {
+            // Values cached under a resource's ID are always of that resource's type
+            return (Mono<T>) idCache.get(resource.endpoint(), id, resource.loader());
+        }
+        String cacheKey = resource.endpoint() + ":" + id;
         
-        return cache.get(cacheKey, key -> webClient.get()
-                .uri("/{endpoint}/{id}", endpoint, id)
+        return cache.get(cacheKey, key -> fetchById(resource.endpoint(), id, resource.type()))
+                .cast(resource.type());
+    }
+
+    /**
+     * Generic method to get many resources by ID, resolving cached ones at once.
+     *
+     * @param resource The resource type
+     * @param ids The resource IDs
+     * @param <T> The type of resource
+     * @return A Flux that emits each found resource with its ID, in the order of the IDs
+     * @see BulkLoader
+     */
+    private <T> Flux<Map.Entry<Long, T>> getByIds(Resource<T> resource, Publisher<Long> ids) {
+        return BulkLoader.resolve(ids, cache, resource.endpoint(), resource.type(), id -> getById(resource, id),
+                properties.getBulk());
+    }
+
+    /**
+     * Fetches a resource by ID from the API.
+     *
+     * @param endpoint The API endpoint
+     * @param id The resource ID
+     * @param responseType The expected response type
+     * @return A Mono that emits the resource
+     */
+    private Mono<Object> fetchById(String endpoint, Long id, Class<?> responseType) {
+        return fetch(uriBuilder -> uriBuilder.path("/{endpoint}/{id}").build(endpoint, id), responseType)
+                .cast(Object.class);
+    }
+
+    /**
+     * Describes a resource type, with its loader created once.
+     *
+     * @param endpoint The API endpoint
+     * @param type The resource type
+     * @param <T> The type of resource
+     * @return The resource description
+     */
+    private <T> Resource<T> resource(String endpoint, Class<T> type) {
+        return new Resource<>(endpoint, type, id -> fetchById(endpoint, id, type));
+    }
+
+    /**
+     * A resource type fetched by ID.
+     *
+     * @param endpoint The API endpoint, also used as the cache partition name
+     * @param type The resource type
+     * @param loader The loader fetching a resource from its ID
+     * @param <T> The type of resource
+     */
+    private record Resource<T>(String endpoint, Class<T> type, LongFunction<Mono<Object>> loader) {
+    }
+
+    /**
+     * Performs a GET request and decodes the response body.
+     * Error envelopes and 404 responses are turned into {@link DeezerApiException}s.
+     * Each attempt waits for a rate limiter permit before being sent, and is hedged if it answers slowly.
+     *
+     * @param uriFunction Function building the request URI
+     * @param responseType The expected response type
+     * @param <T> The type of resource
+     * @return A Mono that emits the decoded response
+     */
+    private <T> Mono<T> fetch(Function<UriBuilder, URI> uriFunction, Class<T> responseType) {
+        return fetch(uriFunction, objectMapper.constructType(responseType));
+    }
+
+    /**
+     * Performs a GET request and decodes the response body into a possibly generic type.
+     *
+     * @param uriFunction Function building the request URI
+     * @param responseType The expected response type
+     * @param <T> The type of resource
+     * @return A Mono that emits the decoded response
+     * @see #fetch(Function, Class)
+     */
+    private <T> Mono<T> fetch(Function<UriBuilder, URI> uriFunction, JavaType responseType) {
+        return send(hedger.hedge(retrieve(uriFunction).bodyToMono(JsonNode.class)))
+                .handle((JsonNode body, SynchronousSink<T> sink) -> {
+                    JsonNode error = DeezerApiException.errorOf(body);
+                    if (error != null) {
+                        sink.error(DeezerApiException.fromError(error));
+                        return;
+                    }
+                    try {
+                        sink.next(objectMapper.<T>treeToValue(body, responseType));
+                    } catch (JsonProcessingException e) {
+                        sink.error(e);
+                    }
+                })
+                .retryWhen(retryPolicy.retry());
+    }
+
+    /**
+     * Sends a request once the bulkhead, the circuit breaker and the rate limiter let it through.
+     *
+     * @param request The request
+     * @param <T> The type of the response
+     * @return The request, failing fast when the bulkhead is full or the circuit is open
+     */
+    private <T> Mono<T> send(Mono<T> request) {
+        return bulkhead.protect(circuitBreaker.protect(rateLimiter.acquire(), request));
+    }
+
+    /**
+     * Performs a GET request on a list endpoint and decodes the elements of its {@code data} array
+     * as they arrive, without aggregating the response body.
+     *
+     * @param uriFunction Function building the request URI
+     * @param elementType The type of the list elements
+     * @param <T> The type of the list elements
+     * @return A Flux that emits the decoded elements
+     */
+    private <T> Flux<T> stream(Function<UriBuilder, URI> uriFunction, Class<T> elementType) {
+        return Flux.defer(() -> {
+            AtomicBoolean emitted = new AtomicBoolean();
+            return bulkhead.protect(circuitBreaker.protect(rateLimiter.acquire(),
+                            JsonArrayStreamDecoder.decode(retrieve(uriFunction).bodyToFlux(DataBuffer.class),
+                                    "data", elementType, objectMapper)))
+                    .doOnNext(element -> emitted.set(true))
+                    // Only failures before the first element are retried, so no element is emitted twice
+                    .retryWhen(retryPolicy.retryWhile(() -> !emitted.get()));
+        });
+    }
+
+    /**
+     * Pages through a list endpoint, emitting its elements in order until {@code maxResults} elements
+     * have been emitted or the list is exhausted.
+     *
+     * <p>The first page is decoded as a whole to learn the total number of elements; the following
+     * pages are streamed. The next page is requested while the current one is being consumed, so at
+     * most two pages are in flight. Pages are only requested under demand, and cancelling the Flux
+     * cancels the pending requests.
+     *
+     * @param path The path of the list endpoint, possibly containing URI template variables
+     * @param queryParams Additional query parameters
+     * @param elementType The type of the list elements
+     * @param maxResults The maximum number of elements to emit
+     * @param uriVariables The values of the URI template variables
+     * @param <T> The type of the list elements
+     * @return A Flux that emits the elements of all pages
+     */
+    private <T> Flux<T> paginate(String path, Map<String, Object> queryParams, Class<T> elementType,
+                                 long maxResults, Object... uriVariables) {
+        if (maxResults <= 0) {
+            return Flux.empty();
+        }
+        int limit = (int) Math.min(properties.getPageSize(), maxResults);
+        JavaType pageType = objectMapper.getTypeFactory().constructParametricType(Page.class, elementType);
+
+        return this.<Page<T>>fetch(page(path, queryParams, 0, limit, uriVariables), pageType)
+                .flatMapMany(first -> {
+                    long end = first.end(maxResults);
+                    Flux<Flux<T>> pages = Flux.just(Flux.fromIterable(first.data() != null ? first.data() : List.of()))
+                            .concatWith(Flux.fromStream(() -> LongStream.iterate(limit, index -> index < end, index -> index + limit)
+                                    .mapToObj(index -> stream(page(path, queryParams, index, limit, uriVariables), elementType))));
+                    // Subscribing to two pages at a time fetches the next page while the current one is consumed;
+                    // elements are pulled one by one so that a page only completes once it has been consumed
+                    return pages.flatMapSequential(Function.identity(), 2, 1);
+                })
+                .take(maxResults, true);
+    }
+
+    /**
+     * Builds the URI of one page of a list endpoint.
+     *
+     * @param path The path of the list endpoint
+     * @param queryParams Additional query parameters
+     * @param index The index of the first element of the page
+     * @param limit The number of elements of the page
+     * @param uriVariables The values of the URI template variables
+     * @return Function building the page URI
+     */
+    private static Function<UriBuilder, URI> page(String path, Map<String, Object> queryParams, long index, int limit,
+                                                  Object... uriVariables) {
+        return uriBuilder -> {
+            uriBuilder.path(path);
+            queryParams.forEach(uriBuilder::queryParam);
+            return uriBuilder.queryParam("index", index)
+                    .queryParam("limit", limit)
+                    .build(uriVariables);
+        };
+    }
+
+    /**
+     * Prepares a GET request, turning 404 responses into {@link DeezerNotFoundException}s
+     * and other error statuses into {@code WebClientResponseException}s, which keep the status and headers
+     * the retry policy needs.
+     *
+     * @param uriFunction Function building the request URI
+     * @return The response specification
+     */
+    private WebClient.ResponseSpec retrieve(Function<UriBuilder, URI> uriFunction) {
+        return webClient.get()
+                .uri(uriFunction)
                 .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, response ->
-                    response.bodyToMono(String.class)
-                        .map(error -> new RuntimeException("Client error: " + error)))
-                .onStatus(HttpStatusCode::is5xxServerError, response ->
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), response ->
                     response.bodyToMono(String.class)
-                        .map(error -> new RuntimeException("Server error: " + error)))
-                .bodyToMono(responseType)
-                .retryWhen(Retry.backoff(properties.getMaxRetries(), Duration.ofMillis(properties.getBackoffDelay()))
-                        .filter(throwable -> throwable instanceof WebClientResponseException.ServiceUnavailable))
-                .cast(Object.class))
-                .cast(responseType);
+                        .defaultIfEmpty(response.statusCode().toString())
+                        .map(error -> new DeezerNotFoundException(0, null, "Not found: " + error)));
     }
 
     /**
@@ -75,7 +365,7 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      * @return A Mono that emits the album
      */
     public Mono<Album> getAlbumById(Long albumId) {
-        return getById("album", albumId, Album.class);
+        return getById(album, albumId);
     }
 
     /**
@@ -86,7 +376,7 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      * @return A Mono that emits the artist
      */
     public Mono<Artist> getArtistById(Long artistId) {
-        return getById("artist", artistId, Artist.class);
+        return getById(artist, artistId);
     }
 
     /**
@@ -97,7 +387,7 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      * @return A Mono that emits the editorial
      */
     public Mono<Editorial> getEditorialById(Long editorialId) {
-        return getById("editorial", editorialId, Editorial.class);
+        return getById(editorial, editorialId);
     }
 
     /**
@@ -108,7 +398,7 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      * @return A Mono that emits the genre
      */
     public Mono<Genre> getGenreById(Long genreId) {
-        return getById("genre", genreId, Genre.class);
+        return getById(genre, genreId);
     }
 
     /**
@@ -119,7 +409,7 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      * @return A Mono that emits the playlist
      */
     public Mono<Playlist> getPlaylistById(Long playlistId) {
-        return getById("playlist", playlistId, Playlist.class);
+        return getById(playlist, playlistId);
     }
 
     /**
@@ -130,7 +420,7 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      * @return A Mono that emits the radio
      */
     public Mono<Radio> getRadioById(Long radioId) {
-        return getById("radio", radioId, Radio.class);
+        return getById(radio, radioId);
     }
 
     /**
@@ -141,7 +431,7 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      * @return A Mono that emits the track
      */
     public Mono<Track> getTrackById(Long trackId) {
-        return getById("track", trackId, Track.class);
+        return getById(track, trackId);
     }
 
     /**
@@ -152,7 +442,164 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      * @return A Mono that emits the user
      */
     public Mono<User> getUserById(Long userId) {
-        return getById("user", userId, User.class);
+        return getById(user, userId);
+    }
+
+    /**
+     * Get several albums by their IDs, in the order of the IDs.
+     * Duplicate IDs are resolved once, and unknown IDs are skipped.
+     *
+     * @param albumIds The album IDs
+     * @return A Flux that emits the albums
+     */
+    public Flux<Album> getAlbumsByIds(Publisher<Long> albumIds) {
+        return getByIds(album, albumIds).map(Map.Entry::getValue);
+    }
+
+    /**
+     * Get several albums by their IDs, keyed by ID.
+     * Duplicate IDs are resolved once, and unknown IDs are absent from the map.
+     *
+     * @param albumIds The album IDs
+     * @return A Mono that emits the albums by ID, in the order of the IDs
+     */
+    public Mono<Map<Long, Album>> getAlbumsByIds(Collection<Long> albumIds) {
+        return BulkLoader.toMap(getByIds(album, Flux.fromIterable(albumIds)));
+    }
+
+    /**
+     * Get several artists by their IDs, in the order of the IDs.
+     * Duplicate IDs are resolved once, and unknown IDs are skipped.
+     *
+     * @param artistIds The artist IDs
+     * @return A Flux that emits the artists
+     */
+    public Flux<Artist> getArtistsByIds(Publisher<Long> artistIds) {
+        return getByIds(artist, artistIds).map(Map.Entry::getValue);
+    }
+
+    /**
+     * Get several artists by their IDs, keyed by ID.
+     * Duplicate IDs are resolved once, and unknown IDs are absent from the map.
+     *
+     * @param artistIds The artist IDs
+     * @return A Mono that emits the artists by ID, in the order of the IDs
+     */
+    public Mono<Map<Long, Artist>> getArtistsByIds(Collection<Long> artistIds) {
+        return BulkLoader.toMap(getByIds(artist, Flux.fromIterable(artistIds)));
+    }
+
+    /**
+     * Get several playlists by their IDs, in the order of the IDs.
+     * Duplicate IDs are resolved once, and unknown IDs are skipped.
+     *
+     * @param playlistIds The playlist IDs
+     * @return A Flux that emits the playlists
+     */
+    public Flux<Playlist> getPlaylistsByIds(Publisher<Long> playlistIds) {
+        return getByIds(playlist, playlistIds).map(Map.Entry::getValue);
+    }
+
+    /**
+     * Get several playlists by their IDs, keyed by ID.
+     * Duplicate IDs are resolved once, and unknown IDs are absent from the map.
+     *
+     * @param playlistIds The playlist IDs
+     * @return A Mono that emits the playlists by ID, in the order of the IDs
+     */
+    public Mono<Map<Long, Playlist>> getPlaylistsByIds(Collection<Long> playlistIds) {
+        return BulkLoader.toMap(getByIds(playlist, Flux.fromIterable(playlistIds)));
+    }
+
+    /**
+     * Get several tracks by their IDs, in the order of the IDs.
+     * Duplicate IDs are resolved once, and unknown IDs are skipped.
+     *
+     * @param trackIds The track IDs
+     * @return A Flux that emits the tracks
+     */
+    public Flux<Track> getTracksByIds(Publisher<Long> trackIds) {
+        return getByIds(track, trackIds).map(Map.Entry::getValue);
+    }
+
+    /**
+     * Get several tracks by their IDs, keyed by ID.
+     * Duplicate IDs are resolved once, and unknown IDs are absent from the map.
+     *
+     * @param trackIds The track IDs
+     * @return A Mono that emits the tracks by ID, in the order of the IDs
+     */
+    public Mono<Map<Long, Track>> getTracksByIds(Collection<Long> trackIds) {
+        return BulkLoader.toMap(getByIds(track, Flux.fromIterable(trackIds)));
+    }
+
+    /**
+     * Stream all the tracks of an album.
+     * Endpoint: GET <a href="https://api.deezer.com/album/{id}/tracks">https://api.deezer.com/album/{id}/tracks</a>
+     *
+     * @param albumId The album ID
+     * @return A Flux that emits the tracks of the album
+     */
+    public Flux<Track> getAlbumTracks(Long albumId) {
+        return getAlbumTracks(albumId, Long.MAX_VALUE);
+    }
+
+    /**
+     * Stream the first tracks of an album.
+     * Endpoint: GET <a href="https://api.deezer.com/album/{id}/tracks">https://api.deezer.com/album/{id}/tracks</a>
+     *
+     * @param albumId The album ID
+     * @param maxResults The maximum number of tracks to emit
+     * @return A Flux that emits the tracks of the album
+     */
+    public Flux<Track> getAlbumTracks(Long albumId, long maxResults) {
+        return paginate("/album/{id}/tracks", Map.of(), Track.class, maxResults, albumId);
+    }
+
+    /**
+     * Stream all the tracks of a playlist.
+     * Endpoint: GET <a href="https://api.deezer.com/playlist/{id}/tracks">https://api.deezer.com/playlist/{id}/tracks</a>
+     *
+     * @param playlistId The playlist ID
+     * @return A Flux that emits the tracks of the playlist
+     */
+    public Flux<Track> getPlaylistTracks(Long playlistId) {
+        return getPlaylistTracks(playlistId, Long.MAX_VALUE);
+    }
+
+    /**
+     * Stream the first tracks of a playlist.
+     * Endpoint: GET <a href="https://api.deezer.com/playlist/{id}/tracks">https://api.deezer.com/playlist/{id}/tracks</a>
+     *
+     * @param playlistId The playlist ID
+     * @param maxResults The maximum number of tracks to emit
+     * @return A Flux that emits the tracks of the playlist
+     */
+    public Flux<Track> getPlaylistTracks(Long playlistId, long maxResults) {
+        return paginate("/playlist/{id}/tracks", Map.of(), Track.class, maxResults, playlistId);
+    }
+
+    /**
+     * Stream all the top tracks of an artist.
+     * Endpoint: GET <a href="https://api.deezer.com/artist/{id}/top">https://api.deezer.com/artist/{id}/top</a>
+     *
+     * @param artistId The artist ID
+     * @return A Flux that emits the top tracks of the artist
+     */
+    public Flux<Track> getArtistTopTracks(Long artistId) {
+        return getArtistTopTracks(artistId, Long.MAX_VALUE);
+    }
+
+    /**
+     * Stream the first top tracks of an artist.
+     * Endpoint: GET <a href="https://api.deezer.com/artist/{id}/top">https://api.deezer.com/artist/{id}/top</a>
+     *
+     * @param artistId The artist ID
+     * @param maxResults The maximum number of tracks to emit
+     * @return A Flux that emits the top tracks of the artist
+     */
+    public Flux<Track> getArtistTopTracks(Long artistId, long maxResults) {
+        return paginate("/artist/{id}/top", Map.of(), Track.class, maxResults, artistId);
     }
 
     /**
@@ -185,41 +632,40 @@ public class ReactiveDeezerClientImpl implements ReactiveDeezerClient {
      */
     public Mono<Search> search(SearchOptions options) {
         Map<String, Object> queryParams = options.buildQueryParams();
+        String cacheKey = options.buildCacheKey();
         
-        // Generate a unique cache key based on search parameters
-        StringBuilder cacheKeyBuilder = new StringBuilder("search:");
-        cacheKeyBuilder.append(options.buildQueryString());
-        
-        if (options.getStrict() != null) {
-            cacheKeyBuilder.append(":strict=").append(options.getStrict());
-        }
-        
-        if (options.getOrder() != null) {
-            cacheKeyBuilder.append(":order=").append(options.getOrder());
-        }
-        
-        String cacheKey = cacheKeyBuilder.toString();
-        
-        return cache.get(cacheKey, key -> webClient.get()
-                .uri(uriBuilder -> {
+        return cache.get(cacheKey, key -> fetch(uriBuilder -> {
                     uriBuilder.path("/search");
                     queryParams.forEach(uriBuilder::queryParam);
                     return uriBuilder.build();
-                })
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, response ->
-                    response.bodyToMono(String.class)
-                        .map(error -> new RuntimeException("Client error: " + error)))
-                .onStatus(HttpStatusCode::is5xxServerError, response ->
-                    response.bodyToMono(String.class)
-                        .map(error -> new RuntimeException("Server error: " + error)))
-                .bodyToMono(Search.class)
-                .retryWhen(Retry.backoff(properties.getMaxRetries(), Duration.ofMillis(properties.getBackoffDelay()))
-                        .filter(throwable -> throwable instanceof WebClientResponseException.ServiceUnavailable))
+                }, Search.class)
                 .cast(Object.class))
                 .cast(Search.class);
     }
     
+    /**
+     * Stream all the tracks matching the provided search options, page by page.
+     * Endpoint: GET <a href="https://api.deezer.com/search?q=">https://api.deezer.com/search?q={query}&amp;index={index}&amp;limit={limit}</a>
+     *
+     * @param options The search options built using SearchOptions.builder()
+     * @return A Flux that emits the matching tracks
+     */
+    public Flux<Track> searchAll(SearchOptions options) {
+        return searchAll(options, Long.MAX_VALUE);
+    }
+
+    /**
+     * Stream the first tracks matching the provided search options, page by page.
+     * Endpoint: GET <a href="https://api.deezer.com/search?q=">https://api.deezer.com/search?q={query}&amp;index={index}&amp;limit={limit}</a>
+     *
+     * @param options The search options built using SearchOptions.builder()
+     * @param maxResults The maximum number of tracks to emit
+     * @return A Flux that emits the matching tracks
+     */
+    public Flux<Track> searchAll(SearchOptions options, long maxResults) {
+        return paginate("/search", options.buildQueryParams(), Track.class, maxResults);
+    }
+
     /**
      * Convenience method for simple searches.
      * Equivalent to search(SearchOptions.builder().query(query).build())
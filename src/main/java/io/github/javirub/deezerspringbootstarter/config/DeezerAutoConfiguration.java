@@ -1,21 +1,49 @@
 package io.github.javirub.deezerspringbootstarter.config;
 
+import io.github.javirub.deezerspringbootstarter.AsyncDeezerClient;
 import io.github.javirub.deezerspringbootstarter.DeezerClient;
 import io.github.javirub.deezerspringbootstarter.ReactiveDeezerClient;
-import io.github.javirub.deezerspringbootstarter.cache.InMemoryReactiveCache;
+import io.github.javirub.deezerspringbootstarter.cache.CacheMetrics;
+import io.github.javirub.deezerspringbootstarter.cache.CacheWarmer;
+import io.github.javirub.deezerspringbootstarter.cache.EntityIndex;
+import io.github.javirub.deezerspringbootstarter.cache.NormalizingReactiveCache;
+import io.github.javirub.deezerspringbootstarter.cache.PartitionedReactiveCache;
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationBus;
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationTransport;
 import io.github.javirub.deezerspringbootstarter.cache.ReactiveCache;
+import io.github.javirub.deezerspringbootstarter.client.AsyncDeezerClientImpl;
 import io.github.javirub.deezerspringbootstarter.client.DeezerClientImpl;
 import io.github.javirub.deezerspringbootstarter.client.ReactiveDeezerClientImpl;
+import io.github.javirub.deezerspringbootstarter.hedge.DeezerRequestHedger;
+import io.github.javirub.deezerspringbootstarter.hedge.HedgeMetrics;
 import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import io.github.javirub.deezerspringbootstarter.ratelimit.DeezerRateLimiter;
+import io.github.javirub.deezerspringbootstarter.ratelimit.RateLimiterMetrics;
+import io.github.javirub.deezerspringbootstarter.resilience.DeezerBulkhead;
+import io.github.javirub.deezerspringbootstarter.resilience.DeezerCircuitBreaker;
+import io.github.javirub.deezerspringbootstarter.resilience.ResilienceMetrics;
+import io.github.javirub.deezerspringbootstarter.retry.DeezerRetryPolicy;
+import io.github.javirub.deezerspringbootstarter.retry.RetryMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
-import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Autoconfiguration for the Deezer API client.
@@ -24,7 +52,6 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(DeezerProperties.class)
-@EnableScheduling
 @Import({DeezerWebClientConfig.class, DeezerRestTemplateConfig.class})
 @ConditionalOnProperty(prefix = "deezer", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class DeezerAutoConfiguration {
@@ -36,16 +63,127 @@ public class DeezerAutoConfiguration {
         // Default constructor
     }
 
+    /**
+     * Creates the index of entities seen nested in API responses when deezer.cache.normalization.enabled is set.
+     * The index can be queried directly to tell partial from full representations.
+     *
+     * @param properties The Deezer configuration properties
+     * @return The entity index
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "deezer.cache.normalization", name = "enabled", havingValue = "true")
+    public EntityIndex deezerEntityIndex(DeezerProperties properties) {
+        DeezerProperties.Cache cache = properties.getCache();
+        DeezerProperties.Cache.Normalization normalization = cache.getNormalization();
+        int ttl = normalization.getTtl() != null ? normalization.getTtl() : cache.getTtl();
+        return new EntityIndex(normalization.getMaxSize(), Duration.ofSeconds(ttl));
+    }
+
+    /**
+     * Creates the bus broadcasting cache invalidations to the other nodes when an InvalidationTransport bean is declared.
+     *
+     * @param transport The transport carrying invalidations between nodes
+     * @param properties The Deezer configuration properties
+     * @return The invalidation bus
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(InvalidationTransport.class)
+    public InvalidationBus deezerInvalidationBus(InvalidationTransport transport, DeezerProperties properties) {
+        DeezerProperties.Cache.Invalidation invalidation = properties.getCache().getInvalidation();
+        return new InvalidationBus(transport, Duration.ofMillis(invalidation.getBatchWindow()),
+                invalidation.getMaxBatchSize(), invalidation.isPublishUpdates());
+    }
+
     /**
      * Creates a reactive cache for the Deezer client.
+     * Each resource configured under deezer.cache.endpoints gets its own partition.
+     * When an entity index is available, entities nested in responses are served from it, and the
+     * normalizing cache returned as the bean starts and stops the partitioned cache it wraps.
+     * When an invalidation bus is available, invalidations are shared with the other nodes.
      *
      * @param properties The Deezer configuration properties
+     * @param deezerEntityIndex The entity index, if normalization is enabled
+     * @param deezerInvalidationBus The invalidation bus, if an InvalidationTransport is declared
      * @return A reactive cache
      */
     @Bean
     @ConditionalOnMissingBean
-    public ReactiveCache<String, Object> deezerCache(DeezerProperties properties) {
-        return new InMemoryReactiveCache<>(properties);
+    public ReactiveCache<String, Object> deezerCache(DeezerProperties properties, ObjectProvider<EntityIndex> deezerEntityIndex,
+                                                     ObjectProvider<InvalidationBus> deezerInvalidationBus) {
+        InvalidationBus bus = deezerInvalidationBus.getIfAvailable();
+        ReactiveCache<String, Object> cache = new PartitionedReactiveCache<>(properties, bus);
+        EntityIndex index = deezerEntityIndex.getIfAvailable();
+        if (index == null) {
+            return cache;
+        }
+        return new NormalizingReactiveCache<>(cache, index, properties.getCache().getNormalization().isAcceptPartial(), bus);
+    }
+
+    /**
+     * Creates the rate limiter shared by the Deezer clients.
+     * Grants every permit immediately unless deezer.rate-limit.enabled is set.
+     *
+     * @param properties The Deezer configuration properties
+     * @return The rate limiter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DeezerRateLimiter deezerRateLimiter(DeezerProperties properties) {
+        return DeezerRateLimiter.of(properties.getRateLimit());
+    }
+
+    /**
+     * Creates the hedger of the reactive client's requests.
+     * Never hedges unless deezer.hedge.enabled is set.
+     *
+     * @param properties The Deezer configuration properties
+     * @param deezerRateLimiter The rate limiter hedged requests take their permits from
+     * @return The request hedger
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DeezerRequestHedger deezerRequestHedger(DeezerProperties properties, DeezerRateLimiter deezerRateLimiter) {
+        return DeezerRequestHedger.of(properties.getHedge(), deezerRateLimiter);
+    }
+
+    /**
+     * Creates the circuit breaker shared by the Deezer clients.
+     * Never opens unless deezer.circuit-breaker.enabled is set.
+     *
+     * @param properties The Deezer configuration properties
+     * @return The circuit breaker
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DeezerCircuitBreaker deezerCircuitBreaker(DeezerProperties properties) {
+        return DeezerCircuitBreaker.of(properties.getCircuitBreaker());
+    }
+
+    /**
+     * Creates the bulkhead shared by the Deezer clients.
+     * Never rejects calls unless deezer.bulkhead.enabled is set.
+     *
+     * @param properties The Deezer configuration properties
+     * @return The bulkhead
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DeezerBulkhead deezerBulkhead(DeezerProperties properties) {
+        return DeezerBulkhead.of(properties.getBulkhead());
+    }
+
+    /**
+     * Creates the retry policy shared by the Deezer clients, with a single retry budget.
+     *
+     * @param properties The Deezer configuration properties
+     * @return The retry policy
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DeezerRetryPolicy deezerRetryPolicy(DeezerProperties properties) {
+        return DeezerRetryPolicy.of(properties);
     }
 
     /**
@@ -53,27 +191,216 @@ public class DeezerAutoConfiguration {
      *
      * @param deezerWebClient The WebClient for making API requests
      * @param deezerCache The reactive cache for caching API responses
+     * @param deezerRateLimiter The rate limiter shared by the Deezer clients
+     * @param deezerRequestHedger The hedger of slow requests
+     * @param deezerCircuitBreaker The circuit breaker shared by the Deezer clients
+     * @param deezerBulkhead The bulkhead shared by the Deezer clients
+     * @param deezerRetryPolicy The retry policy shared by the Deezer clients
      * @param properties The Deezer configuration properties
      * @return A configured reactive Deezer client
      */
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "deezer", name = "client-type", havingValue = "REACTIVE", matchIfMissing = true)
-    public ReactiveDeezerClient reactiveDeezerClient(WebClient deezerWebClient, ReactiveCache<String, Object> deezerCache, DeezerProperties properties) {
-        return new ReactiveDeezerClientImpl(deezerWebClient, deezerCache, properties);
+    public ReactiveDeezerClient reactiveDeezerClient(WebClient deezerWebClient, ReactiveCache<String, Object> deezerCache,
+                                                     DeezerRateLimiter deezerRateLimiter,
+                                                     DeezerRequestHedger deezerRequestHedger,
+                                                     DeezerCircuitBreaker deezerCircuitBreaker,
+                                                     DeezerBulkhead deezerBulkhead,
+                                                     DeezerRetryPolicy deezerRetryPolicy, DeezerProperties properties) {
+        return ReactiveDeezerClientImpl.builder()
+                .webClient(deezerWebClient)
+                .cache(deezerCache)
+                .properties(properties)
+                .rateLimiter(deezerRateLimiter)
+                .hedger(deezerRequestHedger)
+                .circuitBreaker(deezerCircuitBreaker)
+                .bulkhead(deezerBulkhead)
+                .retryPolicy(deezerRetryPolicy)
+                .build();
+    }
+
+    /**
+     * Creates the startup cache warm-up when deezer.cache.warm-up.enabled is set.
+     * Requires the reactive client, which fetches the configured resources.
+     *
+     * @param reactiveDeezerClient The reactive Deezer client
+     * @param properties The Deezer configuration properties
+     * @param resourceLoader The loader used to read the warm-up manifest
+     * @return The cache warmer, run once the application context is refreshed
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ReactiveDeezerClient.class)
+    @ConditionalOnProperty(prefix = "deezer.cache.warm-up", name = "enabled", havingValue = "true")
+    public CacheWarmer deezerCacheWarmer(ReactiveDeezerClient reactiveDeezerClient, DeezerProperties properties,
+                                         ResourceLoader resourceLoader) {
+        return new CacheWarmer(reactiveDeezerClient, properties.getCache().getWarmUp(), resourceLoader);
+    }
+
+    /**
+     * Creates the executor of the cache loads of the blocking client, one virtual thread per load,
+     * when deezer.client-type is BLOCKING and deezer.http.blocking-engine is JDK.
+     * The executor is closed with the application context. It is only injected where it is asked for by name.
+     *
+     * @return An executor starting a new virtual thread for each load
+     */
+    @Bean(destroyMethod = "close", defaultCandidate = false)
+    @ConditionalOnProperty(prefix = "deezer", name = "client-type", havingValue = "BLOCKING")
+    @ConditionalOnProperty(prefix = "deezer.http", name = "blocking-engine", havingValue = "JDK")
+    public ExecutorService deezerLoadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Creates the scheduler of the cache loads of the blocking client when deezer.client-type is BLOCKING and
+     * deezer.http.blocking-engine is JDK, so that loads block virtual threads instead of bounded elastic platform threads.
+     * The scheduler is disposed with the application context.
+     *
+     * @param deezerLoadExecutor The executor of the cache loads
+     * @return A scheduler running each load on the executor
+     */
+    @Bean(destroyMethod = "dispose", defaultCandidate = false)
+    @ConditionalOnProperty(prefix = "deezer", name = "client-type", havingValue = "BLOCKING")
+    @ConditionalOnProperty(prefix = "deezer.http", name = "blocking-engine", havingValue = "JDK")
+    public Scheduler deezerLoadScheduler(@Qualifier("deezerLoadExecutor") ExecutorService deezerLoadExecutor) {
+        return Schedulers.fromExecutorService(deezerLoadExecutor, "deezer-loads");
     }
 
     /**
      * Creates the blocking Deezer client when clientType is BLOCKING.
+     * With deezer.http.blocking-engine set to JDK, cache loads run on virtual threads.
      *
      * @param deezerRestTemplate The RestTemplate for making API requests
+     * @param deezerCache The reactive cache for caching API responses
+     * @param deezerRateLimiter The rate limiter shared by the Deezer clients
+     * @param deezerCircuitBreaker The circuit breaker shared by the Deezer clients
+     * @param deezerBulkhead The bulkhead shared by the Deezer clients
+     * @param deezerRetryPolicy The retry policy shared by the Deezer clients
+     * @param deezerLoadScheduler The scheduler of the cache loads, available with the JDK engine
      * @param properties The Deezer configuration properties
      * @return A configured blocking Deezer client
      */
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "deezer", name = "client-type", havingValue = "BLOCKING")
-    public DeezerClient blockingDeezerClient(RestTemplate deezerRestTemplate, DeezerProperties properties) {
-        return new DeezerClientImpl(deezerRestTemplate, properties.getBaseUrl());
+    public DeezerClient blockingDeezerClient(RestTemplate deezerRestTemplate, ReactiveCache<String, Object> deezerCache,
+                                             DeezerRateLimiter deezerRateLimiter,
+                                             DeezerCircuitBreaker deezerCircuitBreaker,
+                                             DeezerBulkhead deezerBulkhead, DeezerRetryPolicy deezerRetryPolicy,
+                                             @Qualifier("deezerLoadScheduler") ObjectProvider<Scheduler> deezerLoadScheduler,
+                                             DeezerProperties properties) {
+        return DeezerClientImpl.builder()
+                .restTemplate(deezerRestTemplate)
+                .baseUrl(properties.getBaseUrl())
+                .cache(deezerCache)
+                .rateLimiter(deezerRateLimiter)
+                .bulk(properties.getBulk())
+                .circuitBreaker(deezerCircuitBreaker)
+                .bulkhead(deezerBulkhead)
+                .retryPolicy(deezerRetryPolicy)
+                .loadScheduler(deezerLoadScheduler.getIfAvailable(Schedulers::boundedElastic))
+                .build();
+    }
+
+    /**
+     * Creates the executor of the asynchronous Deezer client when clientType is BLOCKING,
+     * one virtual thread per call.
+     * The executor is closed with the application context. It is only injected where it is asked for by name.
+     *
+     * @return An executor starting a new virtual thread for each call
+     */
+    @Bean(destroyMethod = "close", defaultCandidate = false)
+    @ConditionalOnProperty(prefix = "deezer", name = "client-type", havingValue = "BLOCKING")
+    public ExecutorService deezerAsyncExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Creates the asynchronous Deezer client when clientType is BLOCKING.
+     * Each call runs the blocking client on a new virtual thread.
+     *
+     * @param blockingDeezerClient The blocking Deezer client
+     * @param deezerAsyncExecutor The executor running the calls
+     * @return A configured asynchronous Deezer client
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "deezer", name = "client-type", havingValue = "BLOCKING")
+    public AsyncDeezerClient asyncDeezerClient(DeezerClient blockingDeezerClient,
+                                               @Qualifier("deezerAsyncExecutor") ExecutorService deezerAsyncExecutor) {
+        return new AsyncDeezerClientImpl(blockingDeezerClient, deezerAsyncExecutor);
+    }
+
+    /**
+     * Exports the cache, rate limiter, hedging, circuit breaker, bulkhead and retry statistics as Micrometer meters
+     * when Micrometer is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class DeezerMetricsConfiguration {
+
+        /**
+         * Creates the meters of the Deezer cache, tagged by resource.
+         * They are bound to every MeterRegistry of the application.
+         *
+         * @param deezerCache The reactive cache used by the Deezer client
+         * @return The cache metrics
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public CacheMetrics deezerCacheMetrics(ReactiveCache<String, Object> deezerCache) {
+            return CacheMetrics.of(deezerCache);
+        }
+
+        /**
+         * Creates the meters of the rate limiter shared by the Deezer clients.
+         *
+         * @param deezerRateLimiter The rate limiter
+         * @return The rate limiter metrics
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public RateLimiterMetrics deezerRateLimiterMetrics(DeezerRateLimiter deezerRateLimiter) {
+            return new RateLimiterMetrics(deezerRateLimiter);
+        }
+
+        /**
+         * Creates the meters of the request hedger.
+         *
+         * @param deezerRequestHedger The request hedger
+         * @return The hedge metrics
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public HedgeMetrics deezerHedgeMetrics(DeezerRequestHedger deezerRequestHedger) {
+            return new HedgeMetrics(deezerRequestHedger);
+        }
+
+        /**
+         * Creates the meters of the circuit breaker and the bulkhead.
+         *
+         * @param deezerCircuitBreaker The circuit breaker
+         * @param deezerBulkhead The bulkhead
+         * @return The resilience metrics
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ResilienceMetrics deezerResilienceMetrics(DeezerCircuitBreaker deezerCircuitBreaker,
+                                                         DeezerBulkhead deezerBulkhead) {
+            return new ResilienceMetrics(deezerCircuitBreaker, deezerBulkhead);
+        }
+
+        /**
+         * Creates the meters of the retry policy.
+         *
+         * @param deezerRetryPolicy The retry policy
+         * @return The retry metrics
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public RetryMetrics deezerRetryMetrics(DeezerRetryPolicy deezerRetryPolicy) {
+            return new RetryMetrics(deezerRetryPolicy);
+        }
     }
-}
\ No newline at end of file
+}
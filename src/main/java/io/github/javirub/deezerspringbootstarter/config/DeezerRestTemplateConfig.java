@@ -1,7 +1,11 @@
 package io.github.javirub.deezerspringbootstarter.config;
 
 import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +13,8 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Configuration class for creating and configuring RestTemplate instances for the Deezer API.
@@ -17,6 +23,8 @@ import java.time.Duration;
  * <ul>
  *   <li>Base URL configuration pointing to the Deezer API</li>
  *   <li>Connection and read timeout settings from DeezerProperties</li>
+ *   <li>With {@code deezer.http.blocking-engine=JDK}, a JDK HttpClient keeping connections alive between
+ *       requests and running its tasks on virtual threads</li>
  *   <li>Request logging interceptor for debugging purposes</li>
  * </ul>
  * 
@@ -34,20 +42,52 @@ public class DeezerRestTemplateConfig {
     public DeezerRestTemplateConfig() {
     }
 
+    /**
+     * Creates the executor running the tasks of the JDK HttpClient, one virtual thread per task,
+     * when deezer.http.blocking-engine is JDK.
+     * The executor is closed with the application context. It is only injected where it is asked for by name.
+     *
+     * @return An executor starting a new virtual thread for each task.
+     */
+    @Bean(destroyMethod = "close", defaultCandidate = false)
+    @ConditionalOnProperty(prefix = "deezer.http", name = "blocking-engine", havingValue = "JDK")
+    public ExecutorService deezerHttpClientExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
     /**
      * Creates and configures the RestTemplate for Deezer API.
      *
      * @param properties The Deezer configuration properties.
+     * @param deezerHttpClientExecutor The executor of the JDK HttpClient, available with the JDK engine.
      * @return A configured RestTemplate.
      */
     @Bean
-    public RestTemplate deezerRestTemplate(DeezerProperties properties) {
-        return new RestTemplateBuilder()
+    public RestTemplate deezerRestTemplate(DeezerProperties properties,
+                                           @Qualifier("deezerHttpClientExecutor")
+                                           ObjectProvider<ExecutorService> deezerHttpClientExecutor) {
+        RestTemplateBuilder builder = new RestTemplateBuilder()
                 .rootUri(properties.getBaseUrl())
                 .connectTimeout(Duration.ofMillis(properties.getConnectionTimeout()))
                 .readTimeout(Duration.ofMillis(properties.getReadTimeout()))
-                .interceptors(logRequestInterceptor())
-                .build();
+                .interceptors(logRequestInterceptor());
+        if (properties.getHttp().getBlockingEngine() == DeezerProperties.BlockingEngine.JDK) {
+            builder = builder.requestFactoryBuilder(jdkRequestFactoryBuilder(deezerHttpClientExecutor.getObject()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates the builder of request factories backed by the JDK HttpClient.
+     * The HttpClient keeps its connections alive between requests and runs its tasks on virtual threads,
+     * so a blocked call only parks the calling thread, which is cheap when it is itself virtual.
+     *
+     * @param executor The executor running the tasks of the HttpClient.
+     * @return A ClientHttpRequestFactoryBuilder for the JDK HttpClient.
+     */
+    private ClientHttpRequestFactoryBuilder<?> jdkRequestFactoryBuilder(ExecutorService executor) {
+        return ClientHttpRequestFactoryBuilder.jdk()
+                .withHttpClientCustomizer(httpClient -> httpClient.executor(executor));
     }
 
     /**
@@ -12,7 +12,9 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import org.springframework.util.ClassUtils;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -23,6 +25,7 @@ import java.util.concurrent.TimeUnit;
  * <p>This configuration provides a properly configured WebClient bean that includes:
  * <ul>
  *   <li>Connection and read timeout settings from DeezerProperties</li>
+ *   <li>A dedicated connection pool sized by the {@code deezer.http.pool.*} properties</li>
  *   <li>Optimized HTTP client with Netty for reactive operations</li>
  *   <li>Increased buffer size to handle large API responses</li>
  *   <li>Request logging for debugging purposes</li>
@@ -41,15 +44,41 @@ public class DeezerWebClientConfig {
     public DeezerWebClientConfig() {
     }
 
+    /**
+     * Creates the connection pool used by the WebClient for the Deezer API.
+     * The pool is disposed with the application context. Its metrics are published to the global
+     * Micrometer registry when enabled and Micrometer is on the classpath.
+     *
+     * @param properties The Deezer configuration properties.
+     * @return A dedicated ConnectionProvider.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider deezerConnectionProvider(DeezerProperties properties) {
+        DeezerProperties.Http.Pool pool = properties.getHttp().getPool();
+        boolean metrics = pool.isMetrics()
+                && ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry", getClass().getClassLoader());
+        return ConnectionProvider.builder(pool.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeout()))
+                .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTime()))
+                .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTime()))
+                .evictInBackground(Duration.ofMillis(pool.getEvictionInterval()))
+                .metrics(metrics)
+                .build();
+    }
+
     /**
      * Creates and configures the WebClient for Deezer API.
      *
      * @param properties The Deezer configuration properties.
+     * @param deezerConnectionProvider The connection pool dedicated to the Deezer API.
      * @return A configured WebClient.Builder.
      */
     @Bean
-    public WebClient deezerWebClient(DeezerProperties properties) {
-        HttpClient httpClient = HttpClient.create()
+    public WebClient deezerWebClient(DeezerProperties properties, ConnectionProvider deezerConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(deezerConnectionProvider)
+                .keepAlive(properties.getHttp().isKeepAlive())
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectionTimeout())
                 .responseTimeout(Duration.ofMillis(properties.getReadTimeout()))
                 .doOnConnected(connection -> connection
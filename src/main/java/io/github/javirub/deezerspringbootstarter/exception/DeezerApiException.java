@@ -0,0 +1,96 @@
+package io.github.javirub.deezerspringbootstarter.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+/**
+ * Exception raised when the Deezer API answers with an error object.
+ *
+ * <p>Deezer reports most errors with HTTP 200 and a body of the form:
+ * <pre>
+ * {"error": {"type": "DataException", "message": "no data", "code": 800}}
+ * </pre>
+ * The {@code type}, {@code message} and {@code code} of that object are exposed by this exception.
+ * See <a href="https://developers.deezer.com/api/errors">Deezer API errors</a> for the list of codes.
+ */
+@Getter
+public class DeezerApiException extends RuntimeException {
+
+    /**
+     * Error code returned by Deezer when the requested data does not exist.
+     */
+    public static final int DATA_NOT_FOUND = 800;
+
+    /**
+     * Error code returned by Deezer when the request quota (50 requests per 5 seconds) is exceeded.
+     */
+    public static final int QUOTA_EXCEEDED = 4;
+
+    /**
+     * Error code returned by Deezer when the service is too busy to answer.
+     */
+    public static final int SERVICE_BUSY = 700;
+
+    /**
+     * The Deezer error code, or 0 if none was provided.
+     */
+    private final int code;
+
+    /**
+     * The Deezer error type (e.g. DataException, QuotaException), or null if none was provided.
+     */
+    private final String type;
+
+    /**
+     * Creates a new DeezerApiException.
+     *
+     * @param code The Deezer error code
+     * @param type The Deezer error type
+     * @param message The error message
+     */
+    public DeezerApiException(int code, String type, String message) {
+        super(type != null ? type + " (" + code + "): " + message : message);
+        this.code = code;
+        this.type = type;
+    }
+
+    /**
+     * Creates a new DeezerApiException with the code, type and message of another one,
+     * but none of its stack trace, cause or suppressed exceptions.
+     *
+     * @param other The exception to copy
+     */
+    protected DeezerApiException(DeezerApiException other) {
+        super(other.getMessage());
+        this.code = other.code;
+        this.type = other.type;
+    }
+
+    /**
+     * Creates the exception matching an error object returned by Deezer.
+     * Code 800 ("no data") is mapped to {@link DeezerNotFoundException}.
+     *
+     * @param error The {@code error} object of the response body
+     * @return The matching exception
+     */
+    public static DeezerApiException fromError(JsonNode error) {
+        int code = error.path("code").asInt();
+        String type = error.hasNonNull("type") ? error.get("type").asText() : null;
+        String message = error.path("message").asText();
+        if (code == DATA_NOT_FOUND) {
+            return new DeezerNotFoundException(code, type, message);
+        }
+        return new DeezerApiException(code, type, message);
+    }
+
+    /**
+     * Returns the error object of a Deezer response body, if it contains one.
+     *
+     * @param body The response body
+     * @return The {@code error} object, or null if the body is not an error envelope
+     */
+    public static JsonNode errorOf(JsonNode body) {
+        JsonNode error = body != null ? body.get("error") : null;
+        return error != null && error.isObject() ? error : null;
+    }
+}
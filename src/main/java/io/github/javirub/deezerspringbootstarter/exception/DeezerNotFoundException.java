@@ -0,0 +1,36 @@
+package io.github.javirub.deezerspringbootstarter.exception;
+
+/**
+ * Exception raised when the requested Deezer resource does not exist.
+ *
+ * <p>Not-found results are cached for {@code deezer.cache.negative-ttl} seconds,
+ * so repeated lookups of unknown IDs fail fast without calling the API.
+ */
+public class DeezerNotFoundException extends DeezerApiException {
+
+    /**
+     * Creates a new DeezerNotFoundException.
+     *
+     * @param code The Deezer error code
+     * @param type The Deezer error type
+     * @param message The error message
+     */
+    public DeezerNotFoundException(int code, String type, String message) {
+        super(code, type, message);
+    }
+
+    private DeezerNotFoundException(DeezerNotFoundException other) {
+        super(other);
+    }
+
+    /**
+     * Creates a new exception with the same code, type and message as this one.
+     * Cached not-found results are replayed as copies, so that traces added by one caller
+     * never show up in the error of another.
+     *
+     * @return A new DeezerNotFoundException
+     */
+    public DeezerNotFoundException copy() {
+        return new DeezerNotFoundException(this);
+    }
+}
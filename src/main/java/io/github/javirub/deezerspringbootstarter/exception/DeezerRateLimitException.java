@@ -0,0 +1,19 @@
+package io.github.javirub.deezerspringbootstarter.exception;
+
+/**
+ * Exception raised when a request is rejected by the client-side rate limiter, without being sent.
+ *
+ * <p>It carries the {@link #QUOTA_EXCEEDED} code, so callers handle it like the quota error Deezer
+ * itself would have returned.
+ */
+public class DeezerRateLimitException extends DeezerApiException {
+
+    /**
+     * Creates a new DeezerRateLimitException.
+     *
+     * @param message The error message
+     */
+    public DeezerRateLimitException(String message) {
+        super(QUOTA_EXCEEDED, null, message);
+    }
+}
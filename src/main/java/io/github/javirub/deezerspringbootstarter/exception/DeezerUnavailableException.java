@@ -0,0 +1,20 @@
+package io.github.javirub.deezerspringbootstarter.exception;
+
+/**
+ * Exception raised when a request is refused by the client without being sent, because the circuit
+ * breaker is open or too many requests are already outstanding.
+ *
+ * <p>It carries the {@link #SERVICE_BUSY} code, so callers handle it like Deezer telling them it is
+ * too busy to answer.
+ */
+public class DeezerUnavailableException extends DeezerApiException {
+
+    /**
+     * Creates a new DeezerUnavailableException.
+     *
+     * @param message The error message
+     */
+    public DeezerUnavailableException(String message) {
+        super(SERVICE_BUSY, null, message);
+    }
+}
@@ -0,0 +1,243 @@
+package io.github.javirub.deezerspringbootstarter.hedge;
+
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import io.github.javirub.deezerspringbootstarter.ratelimit.DeezerRateLimiter;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends hedged requests to cut the latency tail of idempotent Deezer calls.
+ *
+ * <p>When an attempt has not answered after the hedge delay, a second, identical attempt is sent, and
+ * whichever answers first wins while the other one is cancelled. Since the first attempt still holds its
+ * connection, the second one goes out on another connection of the pool. The hedge delay is the
+ * configured percentile of the latencies of the last {@value #WINDOW} answers, kept between
+ * {@code min-delay} and {@code max-delay}. Until enough answers have been seen, {@code max-delay} is used.
+ * Latencies are measured from the start of the first attempt, also when the hedge answers: the first
+ * attempt would have taken at least that long, while the hedge's own latency would pull the delay down
+ * to the latency of the requests that did not need a hedge.
+ *
+ * <p>Hedges are paid from a budget: every request credits {@code budget} of a hedge, so hedges never exceed
+ * that fraction of the requests over time, with a burst of at most {@value #MAX_BURST} hedges. A hedge is
+ * also only sent if the {@link DeezerRateLimiter} has a permit free right away, so hedges never queue
+ * behind, or delay, regular requests. A failed hedge leaves the answer to the first attempt.
+ */
+public class DeezerRequestHedger {
+
+    private static final DeezerRequestHedger DISABLED = new DeezerRequestHedger();
+
+    static final int WINDOW = 1024;
+
+    private static final int MIN_SAMPLES = 32;
+
+    private static final int UPDATE_INTERVAL = 64;
+
+    static final int MAX_BURST = 10;
+
+    private static final long CREDIT_UNIT = 1_000_000;
+
+    private final DeezerRateLimiter rateLimiter;
+    private final double percentile;
+    private final long minDelay;
+    private final long maxDelay;
+    private final long creditPerRequest;
+    private final long[] samples;
+    private final AtomicLong credit = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private volatile long delay;
+    private int next;
+    private int count;
+    private int sinceUpdate;
+
+    /**
+     * Creates a new DeezerRequestHedger.
+     *
+     * @param percentile The latency percentile used as hedge delay, between 0 and 100
+     * @param minDelay The shortest hedge delay
+     * @param maxDelay The longest hedge delay, also used until enough latencies are known
+     * @param budget The maximum fraction of requests that may be hedged
+     * @param rateLimiter The rate limiter hedges take their permits from
+     */
+    public DeezerRequestHedger(double percentile, Duration minDelay, Duration maxDelay, double budget,
+                               DeezerRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        this.percentile = Math.min(100, Math.max(0, percentile));
+        this.minDelay = minDelay.toNanos();
+        this.maxDelay = Math.max(this.minDelay, maxDelay.toNanos());
+        this.creditPerRequest = Math.round(Math.min(1, Math.max(0, budget)) * CREDIT_UNIT);
+        this.samples = new long[WINDOW];
+        this.delay = this.maxDelay;
+    }
+
+    private DeezerRequestHedger() {
+        this.rateLimiter = null;
+        this.percentile = 0;
+        this.minDelay = 0;
+        this.maxDelay = 0;
+        this.creditPerRequest = 0;
+        this.samples = null;
+    }
+
+    /**
+     * Creates the hedger described by the configuration.
+     *
+     * @param hedge The hedging configuration
+     * @param rateLimiter The rate limiter hedges take their permits from
+     * @return The hedger, disabled if hedging is disabled
+     */
+    public static DeezerRequestHedger of(DeezerProperties.Hedge hedge, DeezerRateLimiter rateLimiter) {
+        if (!hedge.isEnabled()) {
+            return disabled();
+        }
+        return new DeezerRequestHedger(hedge.getPercentile(), Duration.ofMillis(hedge.getMinDelay()),
+                Duration.ofMillis(hedge.getMaxDelay()), hedge.getBudget(), rateLimiter);
+    }
+
+    /**
+     * Returns a hedger that never hedges.
+     *
+     * @return The disabled hedger
+     */
+    public static DeezerRequestHedger disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Hedges an idempotent request.
+     * The attempt must be cold: each subscription sends a new request, which must already hold a permit
+     * for the first subscription only.
+     *
+     * @param attempt The request
+     * @param <T> The type of the response
+     * @return A Mono emitting the response of whichever attempt answers first
+     */
+    public <T> Mono<T> hedge(Mono<T> attempt) {
+        if (samples == null) {
+            return attempt;
+        }
+        return Mono.defer(() -> {
+            requests.increment();
+            credit.accumulateAndGet(creditPerRequest, (current, added) -> Math.min(MAX_BURST * CREDIT_UNIT, current + added));
+            long start = System.nanoTime();
+            Mono<T> hedged = Mono.delay(Duration.ofNanos(delay))
+                    .flatMap(tick -> tryHedge() ? timed(attempt, start, true) : Mono.<T>never())
+                    // A failed hedge leaves the answer to the first attempt
+                    .onErrorResume(error -> Mono.never());
+            return Mono.firstWithSignal(timed(attempt, start, false), hedged);
+        });
+    }
+
+    /**
+     * Decides whether a hedge may be sent, taking its cost from the budget and a permit from the rate limiter.
+     *
+     * @return true if the hedge may be sent
+     */
+    private boolean tryHedge() {
+        long current;
+        do {
+            current = credit.get();
+            if (current < CREDIT_UNIT) {
+                skipped.increment();
+                return false;
+            }
+        } while (!credit.compareAndSet(current, current - CREDIT_UNIT));
+        if (!rateLimiter.tryAcquire()) {
+            credit.addAndGet(CREDIT_UNIT);
+            skipped.increment();
+            return false;
+        }
+        sent.increment();
+        return true;
+    }
+
+    /**
+     * Records the latency of the request when an attempt answers.
+     *
+     * @param attempt The request
+     * @param start When the first attempt was sent, from {@link System#nanoTime()}
+     * @param hedge Whether the attempt is the hedge
+     * @param <T> The type of the response
+     * @return The attempt, recording the latency of the request
+     */
+    private <T> Mono<T> timed(Mono<T> attempt, long start, boolean hedge) {
+        return attempt.doOnNext(response -> {
+            record(System.nanoTime() - start);
+            if (hedge) {
+                won.increment();
+            }
+        });
+    }
+
+    /**
+     * Adds a latency to the window, updating the hedge delay every {@value #UPDATE_INTERVAL} latencies.
+     *
+     * @param latency The latency in nanoseconds
+     */
+    private void record(long latency) {
+        synchronized (samples) {
+            samples[next] = latency;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (++sinceUpdate >= UPDATE_INTERVAL && count >= MIN_SAMPLES) {
+                sinceUpdate = 0;
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int rank = (int) Math.ceil(percentile / 100 * count) - 1;
+                long observed = sorted[Math.max(0, Math.min(count - 1, rank))];
+                delay = Math.min(maxDelay, Math.max(minDelay, observed));
+            }
+        }
+    }
+
+    /**
+     * Returns the current hedge delay.
+     *
+     * @return The delay in nanoseconds, 0 if hedging is disabled
+     */
+    public long getDelay() {
+        return samples != null ? delay : 0;
+    }
+
+    /**
+     * Returns the number of requests that could have been hedged.
+     *
+     * @return The number of hedgeable requests
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of hedges sent.
+     *
+     * @return The number of hedges sent
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * Returns the number of hedges that answered before the attempt they hedged.
+     *
+     * @return The number of hedges won
+     */
+    public long getWonCount() {
+        return won.sum();
+    }
+
+    /**
+     * Returns the number of hedges not sent because the budget was spent or no permit was free.
+     *
+     * @return The number of skipped hedges
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.javirub.deezerspringbootstarter.hedge;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the state of the {@link DeezerRequestHedger} as Micrometer meters:
+ * <ul>
+ *   <li>{@code deezer.hedge.requests}: requests that could have been hedged</li>
+ *   <li>{@code deezer.hedge.sent}: hedges sent</li>
+ *   <li>{@code deezer.hedge.won}: hedges that answered before the attempt they hedged</li>
+ *   <li>{@code deezer.hedge.skipped}: hedges not sent because of the budget or the rate limit</li>
+ *   <li>{@code deezer.hedge.delay}: current delay before a request is hedged</li>
+ * </ul>
+ */
+public class HedgeMetrics implements MeterBinder {
+
+    private final DeezerRequestHedger hedger;
+
+    /**
+     * Creates a new HedgeMetrics.
+     *
+     * @param hedger The request hedger
+     */
+    public HedgeMetrics(DeezerRequestHedger hedger) {
+        this.hedger = hedger;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("deezer.hedge.requests", hedger, DeezerRequestHedger::getRequestCount)
+                .description("Requests that could have been hedged")
+                .register(registry);
+        FunctionCounter.builder("deezer.hedge.sent", hedger, DeezerRequestHedger::getSentCount)
+                .description("Hedged requests sent")
+                .register(registry);
+        FunctionCounter.builder("deezer.hedge.won", hedger, DeezerRequestHedger::getWonCount)
+                .description("Hedged requests that answered first")
+                .register(registry);
+        FunctionCounter.builder("deezer.hedge.skipped", hedger, DeezerRequestHedger::getSkippedCount)
+                .description("Hedged requests not sent because of the hedge budget or the rate limit")
+                .register(registry);
+        TimeGauge.builder("deezer.hedge.delay", hedger, TimeUnit.NANOSECONDS, DeezerRequestHedger::getDelay)
+                .description("Delay after which a request is hedged")
+                .register(registry);
+    }
+}
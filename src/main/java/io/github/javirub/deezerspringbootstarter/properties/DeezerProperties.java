@@ -3,6 +3,10 @@ package io.github.javirub.deezerspringbootstarter.properties;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Configuration properties for the Deezer API client.
  *
@@ -19,12 +23,85 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * deezer.read-timeout=5000
  * deezer.max-retries=3
  * deezer.backoff-delay=300
+ * deezer.retry.max-delay=10000
+ * deezer.retry.budget=0.1
+ * deezer.page-size=100
+ *
+ * # Connection pool of the reactive client
+ * deezer.http.pool.max-connections=50
+ * deezer.http.pool.max-idle-time=30000
+ *
+ * # Pooled JDK HttpClient and virtual threads for the blocking client
+ * deezer.http.blocking-engine=JDK
+ *
+ * # Client-side rate limiting (Deezer allows 50 requests per 5 seconds)
+ * deezer.rate-limit.enabled=true
+ * deezer.rate-limit.max-queue-size=100
+ *
+ * # Hedge requests slower than the 95th percentile, at most 5% of them
+ * deezer.hedge.enabled=true
+ * deezer.hedge.percentile=95
+ * deezer.hedge.budget=0.05
+ *
+ * # Stop calling Deezer while most calls fail, and bound outstanding calls
+ * deezer.circuit-breaker.enabled=true
+ * deezer.circuit-breaker.failure-rate-threshold=50
+ * deezer.circuit-breaker.open-duration=30000
+ * deezer.bulkhead.enabled=true
+ * deezer.bulkhead.max-concurrent-calls=50
+ *
+ * # Bulk lookups by ID
+ * deezer.bulk.batch-size=100
+ * deezer.bulk.batch-timeout=50
+ * deezer.bulk.concurrency=8
  *
  * # Cache configuration
  * deezer.cache.enabled=true
  * deezer.cache.ttl=60
  * deezer.cache.max-size=1000
  * deezer.cache.cleanup-interval=60000
+ * deezer.cache.eviction-policy=LRU
+ * deezer.cache.refresh-ahead-factor=0.8
+ * deezer.cache.stale-while-revalidate=30
+ * deezer.cache.negative-ttl=30
+ *
+ * # Off-heap second cache tier
+ * deezer.cache.off-heap.enabled=true
+ * deezer.cache.off-heap.max-bytes=268435456
+ * deezer.cache.off-heap.slab-bytes=4194304
+ *
+ * # Persistent disk cache tier
+ * deezer.cache.disk.enabled=true
+ * deezer.cache.disk.path=/var/cache/deezer
+ * deezer.cache.disk.max-bytes=1073741824
+ *
+ * # Shared Redis cache tier
+ * deezer.cache.redis.enabled=true
+ * deezer.cache.redis.host=redis.internal
+ * deezer.cache.redis.port=6379
+ *
+ * # Serve entities seen nested in other responses (e.g. an album's tracks)
+ * deezer.cache.normalization.enabled=true
+ * deezer.cache.normalization.accept-partial=false
+ *
+ * # Startup warm-up
+ * deezer.cache.warm-up.enabled=true
+ * deezer.cache.warm-up.manifest=classpath:deezer-warm-up.txt
+ * deezer.cache.warm-up.ids.track=3135556,1109731
+ * deezer.cache.warm-up.readiness-threshold=80
+ *
+ * # Cross-node invalidation (active when an InvalidationTransport bean is declared)
+ * deezer.cache.invalidation.batch-window=5
+ * deezer.cache.invalidation.publish-updates=true
+ *
+ * # Compression of large entries in the off-heap, disk and Redis tiers
+ * deezer.cache.compression.enabled=true
+ * deezer.cache.compression.threshold=8192
+ *
+ * # Per-resource cache overrides (album, artist, editorial, genre, playlist, radio, track, user, search)
+ * deezer.cache.endpoints.genre.ttl=86400
+ * deezer.cache.endpoints.search.ttl=30
+ * deezer.cache.endpoints.search.max-size=5000
  * </pre>
  */
 @Data
@@ -73,22 +150,67 @@ public class DeezerProperties {
 
     /**
      * Maximum number of retry attempts for failed requests.
-     * Only applies to server errors (5xx) and network issues.
+     * Only applies to Deezer quota and busy errors, HTTP 429, 500, 502, 503 and 504 responses, and network issues.
      */
     private int maxRetries = 3;
 
     /**
-     * Initial backoff delay in milliseconds for retry attempts.
-     * The delay increases exponentially with each retry.
+     * Shortest backoff delay in milliseconds for retry attempts.
+     * Each retry waits a random delay between this and three times the previous delay (decorrelated jitter).
      */
     private long backoffDelay = 300;
 
+    /**
+     * Number of elements requested per page when paging through list endpoints.
+     * Pages are fetched one ahead of the consumer, so at most two pages are held in memory.
+     */
+    private int pageSize = 100;
+
     /**
      * Cache configuration properties.
      * Controls caching behavior for API responses to improve performance.
      */
     private Cache cache = new Cache();
 
+    /**
+     * HTTP transport configuration of the reactive client.
+     */
+    private Http http = new Http();
+
+    /**
+     * Client-side rate limiting.
+     * Keeps both clients under the Deezer request quota instead of hitting it and retrying.
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * Bulk lookups of several resources by ID.
+     */
+    private Bulk bulk = new Bulk();
+
+    /**
+     * Hedged requests of the reactive client.
+     * Sends a second attempt for requests that are slower than usual, to cut the latency tail.
+     */
+    private Hedge hedge = new Hedge();
+
+    /**
+     * Circuit breaker of both clients.
+     * Fails calls immediately while Deezer is failing or too slow, instead of piling up timeouts and retries.
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Concurrency bulkhead of both clients.
+     * Fails calls immediately when too many are outstanding.
+     */
+    private Bulkhead bulkhead = new Bulkhead();
+
+    /**
+     * Retry delays and budget of both clients.
+     */
+    private Retry retry = new Retry();
+
     /**
      * Cache configuration properties.
      * Helps reduce API calls and improve application performance.
@@ -117,15 +239,710 @@ public class DeezerProperties {
 
         /**
          * Maximum number of entries in the cache.
-         * When exceeded, the least recently used entries are evicted.
+         * When exceeded, entries are evicted according to the eviction policy.
          */
         private int maxSize = 1000;
 
+        /**
+         * Policy used to choose which entry to evict when the cache is full.
+         * @see EvictionPolicy
+         */
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+        /**
+         * Fraction of the TTL after which a cached entry is refreshed in the background.
+         * The cached value is still returned immediately while a single reload runs.
+         * Must be between 0 and 1 (exclusive); 0 disables refresh-ahead.
+         */
+        private double refreshAheadFactor = 0;
+
+        /**
+         * Time in seconds an expired entry may still be served while it is reloaded in the background.
+         * 0 disables stale-while-revalidate, so expired entries are always reloaded before being returned.
+         */
+        private int staleWhileRevalidate = 0;
+
+        /**
+         * Time in seconds "not found" answers are cached.
+         * Repeated lookups of unknown IDs fail fast without calling the API during this time.
+         * 0 disables negative caching.
+         */
+        private int negativeTtl = 30;
+
         /**
          * Cache cleanup interval in milliseconds.
          * How often expired entries are removed from the cache.
          */
         private long cleanupInterval = 60000;
+
+        /**
+         * Per-resource cache policies keyed by resource name
+         * (album, artist, editorial, genre, playlist, radio, track, user, search).
+         * Each configured resource gets its own cache partition; unset values inherit the global settings.
+         */
+        private Map<String, Endpoint> endpoints = new HashMap<>();
+
+        /**
+         * Off-heap second cache tier.
+         * Holds serialized responses outside the Java heap.
+         */
+        private OffHeap offHeap = new OffHeap();
+
+        /**
+         * Persistent disk cache tier.
+         * Keeps responses in memory-mapped files so the cache is warm after a restart.
+         */
+        private Disk disk = new Disk();
+
+        /**
+         * Shared Redis cache tier.
+         * Lets all application instances share cached responses.
+         */
+        private Redis redis = new Redis();
+
+        /**
+         * Normalized entity cache.
+         * Indexes entities nested in responses so lookups by their ID can be served locally.
+         */
+        private Normalization normalization = new Normalization();
+
+        /**
+         * Startup cache warm-up.
+         * Prefetches a known set of resources before the application accepts traffic.
+         */
+        private WarmUp warmUp = new WarmUp();
+
+        /**
+         * Cross-node invalidation.
+         * Used when an InvalidationTransport bean is declared.
+         */
+        private Invalidation invalidation = new Invalidation();
+
+        /**
+         * Compression of large entries in the tiers storing serialized values (off-heap, disk and Redis).
+         */
+        private Compression compression = new Compression();
+
+        /**
+         * Cache policy of a single resource.
+         * Unset values inherit the global cache settings.
+         */
+        @Data
+        public static class Endpoint {
+
+            /**
+             * Default constructor for Endpoint configuration.
+             */
+            public Endpoint() {
+                // Default constructor
+            }
+
+            /**
+             * Whether to cache responses of this resource.
+             * Inherits deezer.cache.enabled when not set.
+             */
+            private Boolean enabled;
+
+            /**
+             * Time-to-live in seconds of this resource's entries.
+             * Inherits deezer.cache.ttl when not set.
+             */
+            private Integer ttl;
+
+            /**
+             * Maximum number of entries of this resource.
+             * Inherits deezer.cache.max-size when not set.
+             */
+            private Integer maxSize;
+        }
+
+        /**
+         * Off-heap cache tier configuration.
+         * Entries are stored serialized in direct memory slabs reclaimed oldest first.
+         */
+        @Data
+        public static class OffHeap {
+
+            /**
+             * Default constructor for OffHeap configuration.
+             */
+            public OffHeap() {
+                // Default constructor
+            }
+
+            /**
+             * Whether to enable the off-heap cache tier.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Maximum number of bytes held off-heap.
+             * When full, the oldest slab of entries is reclaimed.
+             */
+            private long maxBytes = 64L * 1024 * 1024;
+
+            /**
+             * Size of each off-heap slab in bytes.
+             * Serialized responses larger than a slab are not stored off-heap.
+             */
+            private int slabBytes = 4 * 1024 * 1024;
+
+            /**
+             * Time-to-live in seconds of off-heap entries.
+             * Inherits deezer.cache.ttl when not set. Entries never outlive the TTL of their resource's partition.
+             */
+            private Integer ttl;
+        }
+
+        /**
+         * Disk cache tier configuration.
+         * Entries are appended to memory-mapped segment files reclaimed oldest first.
+         */
+        @Data
+        public static class Disk {
+
+            /**
+             * Default constructor for Disk configuration.
+             */
+            public Disk() {
+                // Default constructor
+            }
+
+            /**
+             * Whether to enable the persistent disk cache tier.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Directory holding the cache segment files.
+             * Must be on persistent storage for entries to survive restarts.
+             */
+            private String path = System.getProperty("java.io.tmpdir") + "/deezer-cache";
+
+            /**
+             * Maximum number of bytes stored on disk.
+             * When full, the oldest segment of entries is reclaimed.
+             */
+            private long maxBytes = 256L * 1024 * 1024;
+
+            /**
+             * Size of each segment file in bytes.
+             * Responses larger than a segment are not stored on disk.
+             */
+            private int segmentBytes = 16 * 1024 * 1024;
+
+            /**
+             * Time-to-live in seconds of disk entries.
+             * Inherits deezer.cache.ttl when not set. Entries never outlive the TTL of their resource's partition.
+             */
+            private Integer ttl;
+        }
+
+        /**
+         * Shared Redis cache tier configuration.
+         * Entries are stored with a server-side expiration; lookups fall back to the API
+         * when Redis is unreachable.
+         */
+        @Data
+        public static class Redis {
+
+            /**
+             * Default constructor for Redis configuration.
+             */
+            public Redis() {
+                // Default constructor
+            }
+
+            /**
+             * Whether to enable the shared Redis cache tier.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Redis server host.
+             */
+            private String host = "localhost";
+
+            /**
+             * Redis server port.
+             */
+            private int port = 6379;
+
+            /**
+             * Prefix added to every cache key stored in Redis.
+             * Also scopes which keys are removed when the whole cache is invalidated.
+             */
+            private String keyPrefix = "deezer:";
+
+            /**
+             * Maximum time in milliseconds to wait for a connection or a reply.
+             * Slower lookups are treated as cache misses.
+             */
+            private long timeout = 500;
+
+            /**
+             * Time-to-live in seconds of Redis entries.
+             * Inherits deezer.cache.ttl when not set. Entries never outlive the TTL of their resource's partition.
+             */
+            private Integer ttl;
+        }
+
+        /**
+         * Normalized entity cache configuration.
+         * Entities embedded in responses (an album's tracks, contributors and genres) are indexed
+         * by type and ID; nested representations are marked as partial.
+         */
+        @Data
+        public static class Normalization {
+
+            /**
+             * Default constructor for Normalization configuration.
+             */
+            public Normalization() {
+                // Default constructor
+            }
+
+            /**
+             * Whether to index entities nested in responses.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Whether lookups may be answered with partial representations seen nested in other responses.
+             * When false, only full representations are served from the index.
+             */
+            private boolean acceptPartial = true;
+
+            /**
+             * Maximum number of indexed entities.
+             * When exceeded, the least recently used entities are evicted.
+             */
+            private int maxSize = 10000;
+
+            /**
+             * Time-to-live in seconds of indexed entities.
+             * Inherits deezer.cache.ttl when not set.
+             */
+            private Integer ttl;
+        }
+
+        /**
+         * Startup warm-up configuration.
+         * Resources are fetched through the reactive client, so the warm-up requires the REACTIVE client type.
+         */
+        @Data
+        public static class WarmUp {
+
+            /**
+             * Default constructor for WarmUp configuration.
+             */
+            public WarmUp() {
+                // Default constructor
+            }
+
+            /**
+             * Whether to prefetch the configured resources at startup.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Location of a manifest listing one cache key (e.g. track:3135556) per line.
+             * Blank lines and lines starting with # are ignored.
+             */
+            private String manifest;
+
+            /**
+             * IDs to prefetch, keyed by resource name (album, artist, editorial, genre, playlist, radio, track, user).
+             */
+            private Map<String, List<Long>> ids = new HashMap<>();
+
+            /**
+             * Maximum number of concurrent warm-up requests.
+             */
+            private int concurrency = 4;
+
+            /**
+             * Maximum number of warm-up requests started per second.
+             * Keeps the warm-up under the Deezer quota of 50 requests per 5 seconds; 0 disables pacing.
+             */
+            private int requestsPerSecond = 8;
+
+            /**
+             * Percentage of the resources that must be processed before startup completes.
+             * 0 lets the application accept traffic immediately while the warm-up runs in the background.
+             */
+            private int readinessThreshold = 0;
+
+            /**
+             * Maximum time in seconds startup waits for the readiness threshold.
+             */
+            private long readinessTimeout = 60;
+        }
+
+        /**
+         * Cross-node invalidation configuration.
+         * Invalidations are batched and de-duplicated before being sent to the other nodes.
+         */
+        @Data
+        public static class Invalidation {
+
+            /**
+             * Default constructor for Invalidation configuration.
+             */
+            public Invalidation() {
+                // Default constructor
+            }
+
+            /**
+             * Time in milliseconds invalidations are collected before being published as one batch.
+             */
+            private long batchWindow = 5;
+
+            /**
+             * Number of pending invalidations that triggers an immediate publication.
+             */
+            private int maxBatchSize = 256;
+
+            /**
+             * Whether to also announce freshly loaded values, so other nodes drop their older copy.
+             */
+            private boolean publishUpdates = false;
+        }
+
+        /**
+         * Compression configuration.
+         * Entries whose serialized form exceeds the threshold are deflated before being stored.
+         */
+        @Data
+        public static class Compression {
+
+            /**
+             * Default constructor for Compression configuration.
+             */
+            public Compression() {
+                // Default constructor
+            }
+
+            /**
+             * Whether to compress large entries.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Minimum serialized size in bytes of the entries to compress; smaller entries are stored as is.
+             */
+            private int threshold = 8192;
+
+            /**
+             * Deflate compression level, from 1 (fastest) to 9 (smallest).
+             */
+            private int level = 1;
+        }
+    }
+
+    /**
+     * HTTP transport configuration.
+     */
+    @Data
+    public static class Http {
+
+        /**
+         * Default constructor for Http configuration.
+         */
+        public Http() {
+            // Default constructor
+        }
+
+        /**
+         * Whether to keep connections open between requests (HTTP keep-alive).
+         */
+        private boolean keepAlive = true;
+
+        /**
+         * Connection pool dedicated to the Deezer API.
+         */
+        private Pool pool = new Pool();
+
+        /**
+         * HTTP client used by the blocking client.
+         * With {@code JDK}, requests go through a pooled JDK HttpClient and loads run on virtual threads.
+         */
+        private BlockingEngine blockingEngine = BlockingEngine.SIMPLE;
+
+        /**
+         * Connection pool configuration.
+         * The pool is only used by the Deezer client, so its limits apply to the Deezer host alone.
+         */
+        @Data
+        public static class Pool {
+
+            /**
+             * Default constructor for Pool configuration.
+             */
+            public Pool() {
+                // Default constructor
+            }
+
+            /**
+             * Name of the pool, used as the {@code name} tag of its metrics.
+             */
+            private String name = "deezer";
+
+            /**
+             * Maximum number of open connections.
+             */
+            private int maxConnections = 50;
+
+            /**
+             * Maximum number of requests waiting for a connection; -1 for no limit.
+             */
+            private int pendingAcquireMaxCount = 500;
+
+            /**
+             * Maximum time in milliseconds a request waits for a connection.
+             */
+            private long pendingAcquireTimeout = 45000;
+
+            /**
+             * Time in milliseconds after which an idle connection is closed.
+             */
+            private long maxIdleTime = 30000;
+
+            /**
+             * Time in milliseconds after which a connection is closed once released, however busy it is.
+             */
+            private long maxLifeTime = 300000;
+
+            /**
+             * Interval in milliseconds between background checks closing idle and expired connections;
+             * 0 to only check when connections are acquired.
+             */
+            private long evictionInterval = 60000;
+
+            /**
+             * Whether to publish the Reactor Netty pool metrics, when Micrometer is on the classpath.
+             */
+            private boolean metrics = true;
+        }
+    }
+
+    /**
+     * Rate limiting configuration.
+     * At most {@code permits} requests are sent in any window of {@code period} milliseconds.
+     */
+    @Data
+    public static class RateLimit {
+
+        /**
+         * Default constructor for RateLimit configuration.
+         */
+        public RateLimit() {
+            // Default constructor
+        }
+
+        /**
+         * Whether to limit the rate of requests sent to the Deezer API.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of requests sent within one period.
+         */
+        private int permits = 50;
+
+        /**
+         * Length in milliseconds of the sliding window the permits apply to.
+         */
+        private long period = 5000;
+
+        /**
+         * Maximum number of requests waiting for a permit; further requests are rejected.
+         */
+        private int maxQueueSize = 100;
+
+        /**
+         * Maximum time in milliseconds a request waits for a permit before being rejected.
+         */
+        private long timeout = 10000;
+    }
+
+    /**
+     * Bulk lookup configuration.
+     * IDs are resolved in batches: each batch is looked up in the cache at once, and only its misses are fetched.
+     */
+    @Data
+    public static class Bulk {
+
+        /**
+         * Default constructor for Bulk configuration.
+         */
+        public Bulk() {
+            // Default constructor
+        }
+
+        /**
+         * Number of IDs looked up in the cache with a single multi-get.
+         */
+        private int batchSize = 100;
+
+        /**
+         * Longest time in milliseconds a partial batch waits for more IDs before being looked up.
+         */
+        private long batchTimeout = 50;
+
+        /**
+         * Maximum number of cache misses fetched from the Deezer API at the same time.
+         */
+        private int concurrency = 8;
+    }
+
+    /**
+     * Request hedging configuration.
+     * A request still unanswered after the {@code percentile} of recent latencies is sent a second time,
+     * and the first answer wins.
+     */
+    @Data
+    public static class Hedge {
+
+        /**
+         * Default constructor for Hedge configuration.
+         */
+        public Hedge() {
+            // Default constructor
+        }
+
+        /**
+         * Whether to hedge slow requests of the reactive client.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Percentile of recent latencies after which a request is hedged.
+         */
+        private double percentile = 95;
+
+        /**
+         * Shortest delay in milliseconds before a request is hedged.
+         */
+        private long minDelay = 20;
+
+        /**
+         * Longest delay in milliseconds before a request is hedged, also used until enough latencies are known.
+         */
+        private long maxDelay = 1000;
+
+        /**
+         * Maximum fraction of requests that may be hedged, capping the extra load sent to Deezer.
+         */
+        private double budget = 0.05;
+    }
+
+    /**
+     * Circuit breaker configuration.
+     * The circuit opens when too many of the last {@code window-size} calls failed or were slow, and lets
+     * {@code half-open-calls} probe calls through after {@code open-duration} to decide whether it closes.
+     */
+    @Data
+    public static class CircuitBreaker {
+
+        /**
+         * Default constructor for CircuitBreaker configuration.
+         */
+        public CircuitBreaker() {
+            // Default constructor
+        }
+
+        /**
+         * Whether to enable the circuit breaker.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of recent calls the failure and slow call rates are computed on.
+         */
+        private int windowSize = 50;
+
+        /**
+         * Number of calls needed in the window before the circuit may open.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * Percentage of failed calls opening the circuit.
+         * Error responses of the Deezer API, such as unknown resources, are not failures.
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * Duration in milliseconds above which a call is slow.
+         */
+        private long slowCallDuration = 3000;
+
+        /**
+         * Percentage of slow calls opening the circuit.
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * Time in milliseconds the circuit stays open before probe calls are let through.
+         */
+        private long openDuration = 30000;
+
+        /**
+         * Number of probe calls deciding whether a half-open circuit closes.
+         */
+        private int halfOpenCalls = 3;
+    }
+
+    /**
+     * Bulkhead configuration.
+     */
+    @Data
+    public static class Bulkhead {
+
+        /**
+         * Default constructor for Bulkhead configuration.
+         */
+        public Bulkhead() {
+            // Default constructor
+        }
+
+        /**
+         * Whether to bound the number of outstanding calls.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of calls outstanding at once, including calls waiting for the rate limiter.
+         * Calls beyond this fail immediately.
+         */
+        private int maxConcurrentCalls = 50;
+    }
+
+    /**
+     * Retry configuration.
+     * The number of retries and the shortest delay are set by {@code max-retries} and {@code backoff-delay}.
+     */
+    @Data
+    public static class Retry {
+
+        /**
+         * Default constructor for Retry configuration.
+         */
+        public Retry() {
+            // Default constructor
+        }
+
+        /**
+         * Longest delay in milliseconds before a retry.
+         * Failures asking for a longer wait, through a quota window or a Retry-After header, are not retried.
+         */
+        private long maxDelay = 10000;
+
+        /**
+         * Maximum ratio of retries to requests, so that retries cannot multiply the load during an outage.
+         */
+        private double budget = 0.1;
     }
 
     /**
@@ -142,4 +959,35 @@ public class DeezerProperties {
          */
         BLOCKING
     }
+
+    /**
+     * Enumeration of available HTTP clients of the blocking client.
+     */
+    public enum BlockingEngine {
+        /**
+         * JDK HttpURLConnection, with a connection and a platform thread blocked per call.
+         */
+        SIMPLE,
+
+        /**
+         * JDK HttpClient, keeping connections alive between requests, with virtual threads.
+         */
+        JDK
+    }
+
+    /**
+     * Enumeration of available cache eviction policies.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used entry.
+         */
+        LRU,
+
+        /**
+         * Window TinyLFU: admits new entries through a small LRU window and keeps
+         * the most frequently used entries when the cache is full.
+         */
+        W_TINY_LFU
+    }
 }
\ No newline at end of file
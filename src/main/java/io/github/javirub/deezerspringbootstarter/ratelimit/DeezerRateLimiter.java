@@ -0,0 +1,219 @@
+package io.github.javirub.deezerspringbootstarter.ratelimit;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerRateLimitException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sliding-window rate limiter shared by the reactive and blocking clients.
+ *
+ * <p>At most {@code permits} requests are let through in any window of {@code period}: the limiter
+ * remembers when each of the last {@code permits} requests was scheduled, and a new request is scheduled
+ * one period after the oldest of them. Unlike a token bucket, a burst can never exceed the quota when
+ * it straddles two windows.
+ *
+ * <p>Requests are scheduled when they ask for a permit, so the time they have to wait is known up front.
+ * Requests that would wait longer than the timeout, or find the queue of waiting requests full, fail
+ * immediately with a {@link DeezerRateLimitException} instead of waiting to time out. Reactive callers
+ * wait on a timer ({@link #acquire()}); blocking callers sleep ({@link #acquirePermit()}). A permit
+ * is consumed once granted, even if the caller cancels while waiting. Optional requests, such as hedged
+ * attempts, use {@link #tryAcquire()} and are only sent if a permit is free right away.
+ */
+public class DeezerRateLimiter {
+
+    private static final DeezerRateLimiter UNLIMITED = new DeezerRateLimiter();
+
+    private final long[] scheduled;
+    private final long period;
+    private final int maxQueueSize;
+    private final long timeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private int oldest;
+
+    /**
+     * Creates a new DeezerRateLimiter.
+     *
+     * @param permits Maximum number of requests within one period
+     * @param period Length of the sliding window
+     * @param maxQueueSize Maximum number of requests waiting for a permit
+     * @param timeout Maximum time a request waits for a permit
+     */
+    public DeezerRateLimiter(int permits, Duration period, int maxQueueSize, Duration timeout) {
+        this.scheduled = new long[Math.max(1, permits)];
+        this.period = period.toNanos();
+        this.maxQueueSize = Math.max(0, maxQueueSize);
+        this.timeout = timeout.toNanos();
+        long now = System.nanoTime();
+        for (int i = 0; i < scheduled.length; i++) {
+            scheduled[i] = now - this.period;
+        }
+    }
+
+    private DeezerRateLimiter() {
+        this.scheduled = null;
+        this.period = 0;
+        this.maxQueueSize = 0;
+        this.timeout = 0;
+    }
+
+    /**
+     * Creates the rate limiter described by the configuration.
+     *
+     * @param rateLimit The rate limit configuration
+     * @return The rate limiter, unlimited if rate limiting is disabled
+     */
+    public static DeezerRateLimiter of(DeezerProperties.RateLimit rateLimit) {
+        if (!rateLimit.isEnabled()) {
+            return unlimited();
+        }
+        return new DeezerRateLimiter(rateLimit.getPermits(), Duration.ofMillis(rateLimit.getPeriod()),
+                rateLimit.getMaxQueueSize(), Duration.ofMillis(rateLimit.getTimeout()));
+    }
+
+    /**
+     * Returns a rate limiter granting every permit immediately.
+     *
+     * @return The unlimited rate limiter
+     */
+    public static DeezerRateLimiter unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Waits for a permit without blocking.
+     *
+     * @return A Mono completing when the request may be sent, or failing with a
+     *         {@link DeezerRateLimitException} if it is rejected
+     */
+    public Mono<Void> acquire() {
+        if (scheduled == null) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            long wait = reserve();
+            if (wait == 0) {
+                return Mono.empty();
+            }
+            return Mono.delay(Duration.ofNanos(wait))
+                    .doFinally(signal -> waiting.decrementAndGet())
+                    .then();
+        });
+    }
+
+    /**
+     * Blocks the calling thread until a permit is granted.
+     *
+     * @throws DeezerRateLimitException if the request is rejected or the thread is interrupted while waiting
+     */
+    public void acquirePermit() {
+        if (scheduled == null) {
+            return;
+        }
+        long wait = reserve();
+        if (wait == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(wait));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeezerRateLimitException("Interrupted while waiting for a Deezer API permit");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Takes a permit only if one is available without waiting.
+     * Declined requests are not counted as rejected, since their caller simply does not send them.
+     *
+     * @return true if a permit was granted, false if the request would have to wait
+     */
+    public boolean tryAcquire() {
+        if (scheduled == null) {
+            return true;
+        }
+        synchronized (scheduled) {
+            long now = System.nanoTime();
+            if (scheduled[oldest] + period > now) {
+                return false;
+            }
+            scheduled[oldest] = now;
+            oldest = (oldest + 1) % scheduled.length;
+        }
+        acquired.increment();
+        return true;
+    }
+
+    /**
+     * Returns the number of requests currently waiting for a permit.
+     *
+     * @return The queue depth
+     */
+    public int getQueueSize() {
+        return waiting.get();
+    }
+
+    /**
+     * Returns the number of permits granted.
+     *
+     * @return The number of granted permits
+     */
+    public long getAcquiredCount() {
+        return acquired.sum();
+    }
+
+    /**
+     * Returns the number of requests rejected because the queue was full or the wait too long.
+     *
+     * @return The number of rejected requests
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the time granted requests spent waiting for their permit.
+     *
+     * @return The total wait time in nanoseconds
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime.sum();
+    }
+
+    /**
+     * Schedules a request in the first slot that keeps the window under the quota.
+     * A request that has to wait is counted in the queue until its caller releases it.
+     *
+     * @return The time to wait in nanoseconds, 0 if the request may be sent now
+     * @throws DeezerRateLimitException if the request is rejected
+     */
+    private long reserve() {
+        long wait;
+        synchronized (scheduled) {
+            long now = System.nanoTime();
+            long at = Math.max(now, scheduled[oldest] + period);
+            wait = at - now;
+            if (wait > 0 && (wait > timeout || waiting.get() >= maxQueueSize)) {
+                rejected.increment();
+                throw new DeezerRateLimitException("Deezer API rate limit reached, request would wait "
+                        + Duration.ofNanos(wait).toMillis() + " ms with " + waiting.get() + " requests queued");
+            }
+            if (wait > 0) {
+                waiting.incrementAndGet();
+            }
+            scheduled[oldest] = at;
+            oldest = (oldest + 1) % scheduled.length;
+        }
+        acquired.increment();
+        totalWaitTime.add(wait);
+        return wait;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.javirub.deezerspringbootstarter.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the state of the {@link DeezerRateLimiter} as Micrometer meters:
+ * <ul>
+ *   <li>{@code deezer.rate-limit.queue}: requests currently waiting for a permit</li>
+ *   <li>{@code deezer.rate-limit.wait}: time granted requests waited for their permit</li>
+ *   <li>{@code deezer.rate-limit.rejected}: requests rejected without being sent</li>
+ * </ul>
+ */
+public class RateLimiterMetrics implements MeterBinder {
+
+    private final DeezerRateLimiter rateLimiter;
+
+    /**
+     * Creates a new RateLimiterMetrics.
+     *
+     * @param rateLimiter The rate limiter
+     */
+    public RateLimiterMetrics(DeezerRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("deezer.rate-limit.queue", rateLimiter, DeezerRateLimiter::getQueueSize)
+                .description("Requests waiting for a permit")
+                .register(registry);
+        FunctionTimer.builder("deezer.rate-limit.wait", rateLimiter,
+                        DeezerRateLimiter::getAcquiredCount, DeezerRateLimiter::getTotalWaitTime, TimeUnit.NANOSECONDS)
+                .description("Time requests waited for a permit")
+                .register(registry);
+        FunctionCounter.builder("deezer.rate-limit.rejected", rateLimiter, DeezerRateLimiter::getRejectedCount)
+                .description("Requests rejected by the rate limiter without being sent")
+                .register(registry);
+    }
+}
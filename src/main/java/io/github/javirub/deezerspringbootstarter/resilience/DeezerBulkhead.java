@@ -0,0 +1,160 @@
+package io.github.javirub.deezerspringbootstarter.resilience;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerUnavailableException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead bounding the number of Deezer calls outstanding at once, shared by the reactive and blocking clients.
+ *
+ * <p>A call is outstanding from the moment it is accepted until it answers, fails or is cancelled, including
+ * the time it waits for the rate limiter. Calls beyond {@code max-concurrent-calls} fail immediately with a
+ * {@link DeezerUnavailableException} rather than queueing, so a slow or unreachable Deezer cannot pile up
+ * waiting requests and threads in the application.
+ */
+public class DeezerBulkhead {
+
+    private static final DeezerBulkhead UNLIMITED = new DeezerBulkhead(Integer.MAX_VALUE);
+
+    private final int maxConcurrentCalls;
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates a new DeezerBulkhead.
+     *
+     * @param maxConcurrentCalls Maximum number of calls outstanding at once
+     */
+    public DeezerBulkhead(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+    }
+
+    /**
+     * Creates the bulkhead described by the configuration.
+     *
+     * @param bulkhead The bulkhead configuration
+     * @return The bulkhead, unlimited if the bulkhead is disabled
+     */
+    public static DeezerBulkhead of(DeezerProperties.Bulkhead bulkhead) {
+        return bulkhead.isEnabled() ? new DeezerBulkhead(bulkhead.getMaxConcurrentCalls()) : unlimited();
+    }
+
+    /**
+     * Returns a bulkhead that never rejects calls.
+     *
+     * @return The unlimited bulkhead
+     */
+    public static DeezerBulkhead unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Protects a call, holding a slot from subscription until it terminates or is cancelled.
+     *
+     * @param call The call
+     * @param <T> The type of the response
+     * @return The protected call, failing with a {@link DeezerUnavailableException} if no slot is free
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        if (this == UNLIMITED) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(rejection());
+            }
+            AtomicBoolean released = new AtomicBoolean();
+            return call.doFinally(signal -> release(released));
+        });
+    }
+
+    /**
+     * Protects a streamed call, holding a slot from subscription until it terminates or is cancelled.
+     *
+     * @param call The call
+     * @param <T> The type of the elements
+     * @return The protected call, failing with a {@link DeezerUnavailableException} if no slot is free
+     */
+    public <T> Flux<T> protect(Flux<T> call) {
+        if (this == UNLIMITED) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            if (!tryAcquire()) {
+                return Flux.error(rejection());
+            }
+            AtomicBoolean released = new AtomicBoolean();
+            return call.doFinally(signal -> release(released));
+        });
+    }
+
+    /**
+     * Takes a slot for a blocking call, which must give it back with {@link #release()}.
+     *
+     * @throws DeezerUnavailableException if no slot is free
+     */
+    public void acquirePermit() {
+        if (this != UNLIMITED && !tryAcquire()) {
+            throw rejection();
+        }
+    }
+
+    /**
+     * Gives back the slot taken by {@link #acquirePermit()}.
+     */
+    public void release() {
+        if (this != UNLIMITED) {
+            active.decrementAndGet();
+        }
+    }
+
+    private void release(AtomicBoolean released) {
+        if (released.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    /**
+     * Takes a slot if one is free.
+     *
+     * @return true if a slot was taken
+     */
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = active.get();
+            if (current >= maxConcurrentCalls) {
+                return false;
+            }
+        } while (!active.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private DeezerUnavailableException rejection() {
+        rejected.increment();
+        return new DeezerUnavailableException("Too many outstanding Deezer API requests (max " + maxConcurrentCalls + ")");
+    }
+
+    /**
+     * Returns the number of calls currently outstanding.
+     *
+     * @return The number of outstanding calls, 0 for the unlimited bulkhead
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Returns the number of calls rejected because too many were outstanding.
+     *
+     * @return The number of rejected calls
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,375 @@
+package io.github.javirub.deezerspringbootstarter.resilience;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerRateLimitException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerUnavailableException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker shared by the reactive and blocking clients.
+ *
+ * <p>The outcomes of the last {@code window-size} calls are kept in a ring. Once at least
+ * {@code minimum-calls} are known, the circuit opens when the share of failed calls reaches
+ * {@code failure-rate-threshold} percent, or the share of calls slower than {@code slow-call-duration}
+ * reaches {@code slow-call-rate-threshold} percent. While open, calls fail immediately with a
+ * {@link DeezerUnavailableException} instead of waiting for timeouts and retries. After {@code open-duration},
+ * the circuit is half-open: {@code half-open-calls} probe calls are let through, and their outcomes decide
+ * whether it closes again or stays open for another period.
+ *
+ * <p>Transport failures and error statuses count as failures, and so do Deezer's
+ * {@link DeezerApiException#SERVICE_BUSY service busy} and {@link DeezerApiException#QUOTA_EXCEEDED quota exceeded}
+ * errors, which Deezer sends with HTTP 200 precisely when it is degraded. Any other {@link DeezerApiException}
+ * is a valid answer from Deezer and counts as a successful call, as do the refusals of the client itself
+ * ({@link DeezerRateLimitException}, {@link DeezerUnavailableException}). Calls cancelled, or refused by the
+ * rate limiter before being sent, are not counted at all.
+ */
+public class DeezerCircuitBreaker {
+
+    private static final DeezerCircuitBreaker DISABLED = new DeezerCircuitBreaker();
+
+    /**
+     * State of the circuit.
+     */
+    public enum State {
+        /**
+         * Calls go through and their outcomes are recorded.
+         */
+        CLOSED,
+
+        /**
+         * Calls fail immediately.
+         */
+        OPEN,
+
+        /**
+         * A few probe calls go through to decide whether the circuit closes.
+         */
+        HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final byte[] outcomes;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final long slowCallDuration;
+    private final float slowCallRateThreshold;
+    private final long openDuration;
+    private final int halfOpenCalls;
+    private final LongAdder notPermitted = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+    private volatile State state = State.CLOSED;
+    private int next;
+    private int count;
+    private int failures;
+    private int slowCalls;
+    private long openedAt;
+    private int probesStarted;
+
+    /**
+     * Creates a new DeezerCircuitBreaker.
+     *
+     * @param windowSize Number of recent calls the rates are computed on
+     * @param minimumCalls Number of calls needed before the circuit may open
+     * @param failureRateThreshold Percentage of failed calls opening the circuit
+     * @param slowCallDuration Duration above which a call is slow
+     * @param slowCallRateThreshold Percentage of slow calls opening the circuit
+     * @param openDuration Time the circuit stays open before probe calls are let through
+     * @param halfOpenCalls Number of probe calls deciding whether the circuit closes
+     */
+    public DeezerCircuitBreaker(int windowSize, int minimumCalls, float failureRateThreshold, Duration slowCallDuration,
+                                float slowCallRateThreshold, Duration openDuration, int halfOpenCalls) {
+        this.outcomes = new byte[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDuration = slowCallDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDuration = openDuration.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+    }
+
+    private DeezerCircuitBreaker() {
+        this.outcomes = null;
+        this.minimumCalls = 0;
+        this.failureRateThreshold = 0;
+        this.slowCallDuration = 0;
+        this.slowCallRateThreshold = 0;
+        this.openDuration = 0;
+        this.halfOpenCalls = 0;
+    }
+
+    /**
+     * Creates the circuit breaker described by the configuration.
+     *
+     * @param circuitBreaker The circuit breaker configuration
+     * @return The circuit breaker, never opening if the circuit breaker is disabled
+     */
+    public static DeezerCircuitBreaker of(DeezerProperties.CircuitBreaker circuitBreaker) {
+        if (!circuitBreaker.isEnabled()) {
+            return disabled();
+        }
+        return new DeezerCircuitBreaker(circuitBreaker.getWindowSize(), circuitBreaker.getMinimumCalls(),
+                circuitBreaker.getFailureRateThreshold(), Duration.ofMillis(circuitBreaker.getSlowCallDuration()),
+                circuitBreaker.getSlowCallRateThreshold(), Duration.ofMillis(circuitBreaker.getOpenDuration()),
+                circuitBreaker.getHalfOpenCalls());
+    }
+
+    /**
+     * Returns a circuit breaker that never opens.
+     *
+     * @return The disabled circuit breaker
+     */
+    public static DeezerCircuitBreaker disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Protects a call that is sent once admitted, for instance by the rate limiter.
+     * Permission is checked before admission, so refused calls never wait; the call is timed from admission.
+     *
+     * @param admission Completes when the call may be sent
+     * @param call The call
+     * @param <T> The type of the response
+     * @return The protected call, failing with a {@link DeezerUnavailableException} while the circuit is open
+     */
+    public <T> Mono<T> protect(Mono<Void> admission, Mono<T> call) {
+        if (outcomes == null) {
+            return admission.then(call);
+        }
+        return Mono.defer(() -> {
+            if (!tryAcquirePermission()) {
+                return Mono.error(refusal());
+            }
+            AtomicBoolean recorded = new AtomicBoolean();
+            return admission.then(Mono.defer(() -> {
+                        long start = System.nanoTime();
+                        return call
+                                .doOnSuccess(response -> record(recorded, System.nanoTime() - start, null))
+                                .doOnError(error -> record(recorded, System.nanoTime() - start, error));
+                    }))
+                    .doFinally(signal -> ignore(recorded));
+        });
+    }
+
+    /**
+     * Protects a streamed call that is sent once admitted.
+     * The call succeeds when the stream completes.
+     *
+     * @param admission Completes when the call may be sent
+     * @param call The call
+     * @param <T> The type of the elements
+     * @return The protected call, failing with a {@link DeezerUnavailableException} while the circuit is open
+     * @see #protect(Mono, Mono)
+     */
+    public <T> Flux<T> protect(Mono<Void> admission, Flux<T> call) {
+        if (outcomes == null) {
+            return admission.thenMany(call);
+        }
+        return Flux.defer(() -> {
+            if (!tryAcquirePermission()) {
+                return Flux.error(refusal());
+            }
+            AtomicBoolean recorded = new AtomicBoolean();
+            return admission.thenMany(Flux.defer(() -> {
+                        long start = System.nanoTime();
+                        return call
+                                .doOnComplete(() -> record(recorded, System.nanoTime() - start, null))
+                                .doOnError(error -> record(recorded, System.nanoTime() - start, error));
+                    }))
+                    .doFinally(signal -> ignore(recorded));
+        });
+    }
+
+    /**
+     * Asks permission for a blocking call.
+     * The caller must then report the call with {@link #onResult(long, Throwable)}, or {@link #onIgnored()}
+     * if it was not sent.
+     *
+     * @throws DeezerUnavailableException if the circuit is open
+     */
+    public void acquirePermission() {
+        if (outcomes != null && !tryAcquirePermission()) {
+            throw refusal();
+        }
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param duration The duration of the call in nanoseconds
+     * @param error The error the call failed with, or null if it succeeded
+     */
+    public void onResult(long duration, Throwable error) {
+        if (outcomes == null) {
+            return;
+        }
+        boolean failed = isFailure(error);
+        boolean slow = duration > slowCallDuration;
+        synchronized (outcomes) {
+            if (state == State.HALF_OPEN) {
+                recordProbe(failed, slow);
+            } else if (state == State.CLOSED) {
+                recordInWindow(failed, slow);
+            }
+        }
+    }
+
+    /**
+     * Tells whether the outcome of a call counts as a failure.
+     *
+     * @param error The error the call failed with, or null if it succeeded
+     * @return true if the call failed, false otherwise
+     */
+    private static boolean isFailure(Throwable error) {
+        if (error == null || error instanceof DeezerRateLimitException || error instanceof DeezerUnavailableException) {
+            return false;
+        }
+        if (error instanceof DeezerApiException apiException) {
+            return apiException.getCode() == DeezerApiException.SERVICE_BUSY
+                    || apiException.getCode() == DeezerApiException.QUOTA_EXCEEDED;
+        }
+        return true;
+    }
+
+    /**
+     * Releases the permission of a call that was not sent, without recording an outcome.
+     */
+    public void onIgnored() {
+        if (outcomes == null) {
+            return;
+        }
+        synchronized (outcomes) {
+            if (state == State.HALF_OPEN && probesStarted > count) {
+                probesStarted--;
+            }
+        }
+    }
+
+    private void record(AtomicBoolean recorded, long duration, Throwable error) {
+        if (recorded.compareAndSet(false, true)) {
+            onResult(duration, error);
+        }
+    }
+
+    private void ignore(AtomicBoolean recorded) {
+        if (recorded.compareAndSet(false, true)) {
+            onIgnored();
+        }
+    }
+
+    private DeezerUnavailableException refusal() {
+        notPermitted.increment();
+        return new DeezerUnavailableException("Deezer API circuit breaker is open, request not sent");
+    }
+
+    /**
+     * Lets a call through unless the circuit is open, moving to half-open once the open duration has elapsed.
+     *
+     * @return true if the call may be sent
+     */
+    private boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (outcomes) {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < openDuration) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesStarted >= halfOpenCalls) {
+                    return false;
+                }
+                probesStarted++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Adds an outcome to the window of a closed circuit, opening it if a threshold is reached.
+     */
+    private void recordInWindow(boolean failed, boolean slow) {
+        if (count == outcomes.length) {
+            byte evicted = outcomes[next];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            count++;
+        }
+        outcomes[next] = (byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0));
+        next = (next + 1) % outcomes.length;
+        failures += failed ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+        if (count >= minimumCalls && thresholdReached(count)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Records the outcome of a probe call, closing or reopening the circuit once every probe has answered.
+     * In the half-open state, {@code count} is the number of probes that answered.
+     */
+    private void recordProbe(boolean failed, boolean slow) {
+        count++;
+        failures += failed ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+        if (count >= halfOpenCalls) {
+            transitionTo(thresholdReached(count) ? State.OPEN : State.CLOSED);
+        }
+    }
+
+    private boolean thresholdReached(int calls) {
+        return failures * 100f / calls >= failureRateThreshold
+                || slowCalls * 100f / calls >= slowCallRateThreshold;
+    }
+
+    private void transitionTo(State target) {
+        state = target;
+        next = 0;
+        count = 0;
+        failures = 0;
+        slowCalls = 0;
+        probesStarted = 0;
+        if (target == State.OPEN) {
+            openedAt = System.nanoTime();
+            opened.increment();
+        }
+    }
+
+    /**
+     * Returns the current state of the circuit.
+     *
+     * @return The state, always {@link State#CLOSED} if the circuit breaker is disabled
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of calls refused while the circuit was open.
+     *
+     * @return The number of refused calls
+     */
+    public long getNotPermittedCount() {
+        return notPermitted.sum();
+    }
+
+    /**
+     * Returns the number of times the circuit opened.
+     *
+     * @return The number of openings
+     */
+    public long getOpenedCount() {
+        return opened.sum();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.javirub.deezerspringbootstarter.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exports the state of the {@link DeezerCircuitBreaker} and the {@link DeezerBulkhead} as Micrometer meters:
+ * <ul>
+ *   <li>{@code deezer.circuit-breaker.state}: 1 for the current state of the circuit, 0 for the others,
+ *       tagged by {@code state}</li>
+ *   <li>{@code deezer.circuit-breaker.opened}: times the circuit opened</li>
+ *   <li>{@code deezer.circuit-breaker.not-permitted}: calls refused while the circuit was open</li>
+ *   <li>{@code deezer.bulkhead.active}: calls currently outstanding</li>
+ *   <li>{@code deezer.bulkhead.rejected}: calls rejected because too many were outstanding</li>
+ * </ul>
+ */
+public class ResilienceMetrics implements MeterBinder {
+
+    private final DeezerCircuitBreaker circuitBreaker;
+    private final DeezerBulkhead bulkhead;
+
+    /**
+     * Creates a new ResilienceMetrics.
+     *
+     * @param circuitBreaker The circuit breaker
+     * @param bulkhead The bulkhead
+     */
+    public ResilienceMetrics(DeezerCircuitBreaker circuitBreaker, DeezerBulkhead bulkhead) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (DeezerCircuitBreaker.State state : DeezerCircuitBreaker.State.values()) {
+            Gauge.builder("deezer.circuit-breaker.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .tag("state", state.name().toLowerCase())
+                    .description("Current state of the circuit breaker")
+                    .register(registry);
+        }
+        FunctionCounter.builder("deezer.circuit-breaker.opened", circuitBreaker, DeezerCircuitBreaker::getOpenedCount)
+                .description("Times the circuit breaker opened")
+                .register(registry);
+        FunctionCounter.builder("deezer.circuit-breaker.not-permitted", circuitBreaker,
+                        DeezerCircuitBreaker::getNotPermittedCount)
+                .description("Requests refused while the circuit breaker was open")
+                .register(registry);
+        Gauge.builder("deezer.bulkhead.active", bulkhead, DeezerBulkhead::getActiveCount)
+                .description("Requests currently outstanding")
+                .register(registry);
+        FunctionCounter.builder("deezer.bulkhead.rejected", bulkhead, DeezerBulkhead::getRejectedCount)
+                .description("Requests rejected because too many were outstanding")
+                .register(registry);
+    }
+}
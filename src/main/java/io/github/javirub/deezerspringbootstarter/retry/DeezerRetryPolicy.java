@@ -0,0 +1,319 @@
+package io.github.javirub.deezerspringbootstarter.retry;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerRateLimitException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerUnavailableException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Retry policy shared by the reactive and blocking clients.
+ *
+ * <p>Only failures that another attempt may fix are retried:
+ * <ul>
+ *   <li>Deezer error objects with the {@link DeezerApiException#QUOTA_EXCEEDED quota exceeded} or
+ *       {@link DeezerApiException#SERVICE_BUSY service busy} codes, which Deezer sends with HTTP 200</li>
+ *   <li>HTTP 429, 500, 502, 503 and 504 responses</li>
+ *   <li>Connection failures and timeouts</li>
+ * </ul>
+ * Requests refused by the client itself (rate limiter, circuit breaker or bulkhead) are never retried.
+ *
+ * <p>Retries wait with decorrelated jitter: each delay is drawn between {@code backoff-delay} and three times
+ * the previous delay, up to {@code retry.max-delay}, so that clients failing together do not retry together.
+ * A quota error waits at least one quota window ({@code rate-limit.period}), and a {@code Retry-After} header
+ * is honored; a failure asking for a wait longer than {@code retry.max-delay} is not retried.
+ *
+ * <p>Retries are paid from a budget: every request credits {@code retry.budget} of a retry, so retries never
+ * exceed that fraction of the requests over time, with a burst of at most {@value #MAX_BURST} retries. When
+ * Deezer is down, every instance thus adds at most that fraction of extra load instead of multiplying it.
+ */
+public class DeezerRetryPolicy {
+
+    private static final DeezerRetryPolicy NONE = new DeezerRetryPolicy(0, Duration.ZERO, Duration.ZERO, 0, Duration.ZERO);
+
+    static final int MAX_BURST = 10;
+
+    private static final long CREDIT_UNIT = 1_000_000;
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+            HttpStatus.BAD_GATEWAY.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.GATEWAY_TIMEOUT.value());
+
+    private final int maxRetries;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final long creditPerRequest;
+    private final long quotaWindow;
+    private final AtomicLong credit = new AtomicLong(MAX_BURST * CREDIT_UNIT);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final Retry retry = Retry.from(signals -> companion(signals, () -> true));
+
+    /**
+     * Creates a new DeezerRetryPolicy.
+     *
+     * @param maxRetries Maximum number of retries of a request
+     * @param baseDelay Shortest delay before a retry
+     * @param maxDelay Longest delay before a retry
+     * @param budget Maximum ratio of retries to requests
+     * @param quotaWindow Time a quota error waits before being retried
+     */
+    public DeezerRetryPolicy(int maxRetries, Duration baseDelay, Duration maxDelay, double budget, Duration quotaWindow) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.baseDelay = baseDelay.toNanos();
+        this.maxDelay = Math.max(this.baseDelay, maxDelay.toNanos());
+        this.creditPerRequest = Math.round(Math.min(1, Math.max(0, budget)) * CREDIT_UNIT);
+        this.quotaWindow = quotaWindow.toNanos();
+    }
+
+    /**
+     * Creates the retry policy described by the configuration.
+     *
+     * @param properties The Deezer configuration properties
+     * @return The retry policy
+     */
+    public static DeezerRetryPolicy of(DeezerProperties properties) {
+        return new DeezerRetryPolicy(properties.getMaxRetries(), Duration.ofMillis(properties.getBackoffDelay()),
+                Duration.ofMillis(properties.getRetry().getMaxDelay()), properties.getRetry().getBudget(),
+                Duration.ofMillis(properties.getRateLimit().getPeriod()));
+    }
+
+    /**
+     * Creates the retry policy of the default configuration: {@code deezer.max-retries} and the other
+     * retry settings at their documented defaults.
+     * This is the policy the clients use when none is provided.
+     *
+     * @return The default retry policy
+     */
+    public static DeezerRetryPolicy defaults() {
+        return of(new DeezerProperties());
+    }
+
+    /**
+     * Returns a retry policy that never retries.
+     *
+     * @return The policy without retries
+     */
+    public static DeezerRetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the retry specification of reactive requests, for {@code retryWhen}.
+     * Each subscription counts as one request.
+     *
+     * @return The retry specification
+     */
+    public Retry retry() {
+        return retry;
+    }
+
+    /**
+     * Returns the retry specification of reactive requests that may only be retried until some point,
+     * such as streams that must not be retried once they have emitted an element.
+     * Failures after that point are propagated without taking a retry from the budget.
+     *
+     * @param retryable Tells whether the request may still be retried when it fails
+     * @return The retry specification
+     */
+    public Retry retryWhile(BooleanSupplier retryable) {
+        return Retry.from(signals -> companion(signals, retryable));
+    }
+
+    /**
+     * Runs a blocking request, retrying it on the calling thread.
+     *
+     * @param request The request
+     * @param <T> The type of the response
+     * @return The response
+     */
+    public <T> T execute(Supplier<T> request) {
+        onRequest();
+        Backoff backoff = new Backoff();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return request.get();
+            } catch (RuntimeException e) {
+                long retryAfter = admit(e, attempt);
+                if (retryAfter < 0) {
+                    throw e;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay(retryAfter, backoff));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Flux<Long> companion(Flux<Retry.RetrySignal> signals, BooleanSupplier retryable) {
+        onRequest();
+        Backoff backoff = new Backoff();
+        return signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            long retryAfter = retryable.getAsBoolean() ? admit(failure, signal.totalRetries()) : -1;
+            if (retryAfter < 0) {
+                return Mono.<Long>error(failure);
+            }
+            return Mono.delay(Duration.ofNanos(delay(retryAfter, backoff)));
+        });
+    }
+
+    private void onRequest() {
+        requests.increment();
+        credit.accumulateAndGet(creditPerRequest, (current, added) -> Math.min(MAX_BURST * CREDIT_UNIT, current + added));
+    }
+
+    /**
+     * Decides whether a failed attempt is retried, taking the cost of the retry from the budget.
+     *
+     * @param failure The failure of the attempt
+     * @param retriesSoFar The number of retries already made for the request
+     * @return The minimum delay in nanoseconds before the retry, or -1 if the attempt is not retried
+     */
+    private long admit(Throwable failure, long retriesSoFar) {
+        if (retriesSoFar >= maxRetries) {
+            return -1;
+        }
+        long retryAfter = retryAfter(failure);
+        if (retryAfter < 0 || retryAfter > maxDelay) {
+            return -1;
+        }
+        long current;
+        do {
+            current = credit.get();
+            if (current < CREDIT_UNIT) {
+                exhausted.increment();
+                return -1;
+            }
+        } while (!credit.compareAndSet(current, current - CREDIT_UNIT));
+        retries.increment();
+        return retryAfter;
+    }
+
+    /**
+     * Computes the delay before a retry.
+     *
+     * @param retryAfter The minimum delay in nanoseconds asked for by the failure, or 0
+     * @param backoff The backoff of the request
+     * @return The delay in nanoseconds
+     */
+    private long delay(long retryAfter, Backoff backoff) {
+        long delay = backoff.next();
+        if (retryAfter > 0) {
+            // Spread the retries of clients that were told to wait the same time
+            delay = Math.max(delay, retryAfter + ThreadLocalRandom.current().nextLong(baseDelay + 1));
+        }
+        return delay;
+    }
+
+    /**
+     * Tells whether a failure may be retried, and after how long.
+     *
+     * @param failure The failure
+     * @return The minimum delay in nanoseconds before a retry, 0 if there is none, or -1 if it is not retryable
+     */
+    long retryAfter(Throwable failure) {
+        if (failure instanceof DeezerRateLimitException || failure instanceof DeezerUnavailableException) {
+            // Refused by the client itself: retrying would only queue up behind the same limits
+            return -1;
+        }
+        if (failure instanceof DeezerApiException apiException) {
+            return switch (apiException.getCode()) {
+                case DeezerApiException.QUOTA_EXCEEDED -> quotaWindow;
+                case DeezerApiException.SERVICE_BUSY -> 0;
+                default -> -1;
+            };
+        }
+        if (failure instanceof WebClientResponseException response) {
+            return retryAfter(response.getStatusCode(), response.getHeaders());
+        }
+        if (failure instanceof RestClientResponseException response) {
+            return retryAfter(response.getStatusCode(), response.getResponseHeaders());
+        }
+        if (failure instanceof WebClientRequestException || failure instanceof ResourceAccessException) {
+            return 0;
+        }
+        return -1;
+    }
+
+    private long retryAfter(HttpStatusCode status, HttpHeaders headers) {
+        if (!RETRYABLE_STATUSES.contains(status.value())) {
+            return -1;
+        }
+        String header = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (header != null) {
+            try {
+                return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(header.trim())));
+            } catch (NumberFormatException e) {
+                // HTTP dates are not used by Deezer, fall back to the default delay
+            }
+        }
+        return status.value() == HttpStatus.TOO_MANY_REQUESTS.value() ? quotaWindow : 0;
+    }
+
+    /**
+     * Returns the number of requests the policy applied to.
+     *
+     * @return The number of requests
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of retries made.
+     *
+     * @return The number of retries
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of retryable failures not retried because the retry budget was spent.
+     *
+     * @return The number of retries denied by the budget
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * Decorrelated jitter of the retries of one request.
+     */
+    private final class Backoff {
+
+        private long previous = baseDelay;
+
+        long next() {
+            long upper = Math.min(maxDelay, Math.max(baseDelay, previous * 3));
+            previous = baseDelay + ThreadLocalRandom.current().nextLong(upper - baseDelay + 1);
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.javirub.deezerspringbootstarter.retry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exports the state of the {@link DeezerRetryPolicy} as Micrometer meters:
+ * <ul>
+ *   <li>{@code deezer.retry.requests}: requests the retry policy applied to</li>
+ *   <li>{@code deezer.retry.retries}: retries made</li>
+ *   <li>{@code deezer.retry.exhausted}: retryable failures not retried because the retry budget was spent</li>
+ * </ul>
+ */
+public class RetryMetrics implements MeterBinder {
+
+    private final DeezerRetryPolicy retryPolicy;
+
+    /**
+     * Creates a new RetryMetrics.
+     *
+     * @param retryPolicy The retry policy
+     */
+    public RetryMetrics(DeezerRetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("deezer.retry.requests", retryPolicy, DeezerRetryPolicy::getRequestCount)
+                .description("Requests the retry policy applied to")
+                .register(registry);
+        FunctionCounter.builder("deezer.retry.retries", retryPolicy, DeezerRetryPolicy::getRetryCount)
+                .description("Retried requests")
+                .register(registry);
+        FunctionCounter.builder("deezer.retry.exhausted", retryPolicy, DeezerRetryPolicy::getExhaustedCount)
+                .description("Retryable failures not retried because the retry budget was spent")
+                .register(registry);
+    }
+}
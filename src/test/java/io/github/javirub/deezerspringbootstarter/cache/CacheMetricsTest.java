@@ -0,0 +1,69 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for CacheMetrics.
+ */
+class CacheMetricsTest {
+
+    @Test
+    void shouldExportMetersTaggedByResource_whenBoundToRegistry() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().getEndpoints().put("track", new DeezerProperties.Cache.Endpoint());
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CacheMetrics.of(cache).bindTo(registry);
+
+        cache.get("track:1", key -> Mono.just("track")).block();
+        cache.get("track:1", key -> Mono.just("reloaded")).block();
+
+        assertThat(registry.get("deezer.cache.gets").tags("resource", "track", "result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("deezer.cache.gets").tags("resource", "track", "result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("deezer.cache.load.duration").tag("resource", "track").functionTimer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("deezer.cache.size").tag("resource", "track").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("deezer.cache.size").tag("resource", "default").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldTagLookupsWithKeyResource_whenResourceSharesDefaultPartition() {
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(new DeezerProperties());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CacheMetrics.of(cache).bindTo(registry);
+
+        cache.get("album", 302127L, id -> Mono.just("album")).block();
+        cache.get("album", 302127L, id -> Mono.just("reloaded")).block();
+
+        assertThat(registry.get("deezer.cache.gets").tags("resource", "album", "result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("deezer.cache.gets").tags("resource", "album", "result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("deezer.cache.gets").tags("resource", "default", "result", "hit").functionCounter().count())
+                .isZero();
+        assertThat(registry.get("deezer.cache.size").tag("resource", "default").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadDelegateStats_whenCacheIsNormalizing() {
+        PartitionedReactiveCache<Object> partitioned = new PartitionedReactiveCache<>(new DeezerProperties());
+        NormalizingReactiveCache<Object> cache = new NormalizingReactiveCache<>(partitioned,
+                new EntityIndex(100, Duration.ofMinutes(1)), true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CacheMetrics.of(cache).bindTo(registry);
+
+        cache.get("search:eminem", key -> Mono.just("results")).block();
+
+        assertThat(registry.get("deezer.cache.loads").tags("resource", "default", "result", "success").functionCounter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.client.ReactiveDeezerClientImpl;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for CacheWarmer, using a stubbed exchange function instead of the real API.
+ */
+class CacheWarmerTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    void shouldPrefetchManifestAndConfiguredIds_whenReadinessThresholdIsFull(@TempDir Path directory) throws IOException {
+        Path manifest = Files.writeString(directory.resolve("warm-up.txt"), """
+                # Top albums
+                album:302127
+
+                track:3135556
+                unknown:1
+                """);
+        DeezerProperties properties = new DeezerProperties();
+        DeezerProperties.Cache.WarmUp warmUp = properties.getCache().getWarmUp();
+        warmUp.setManifest(manifest.toUri().toString());
+        warmUp.getIds().put("track", List.of(3135556L, 1109731L));
+        warmUp.setRequestsPerSecond(0);
+        warmUp.setReadinessThreshold(100);
+        ReactiveDeezerClientImpl client = newClient(properties);
+        CacheWarmer warmer = new CacheWarmer(client, warmUp, new DefaultResourceLoader());
+
+        warmer.run(new DefaultApplicationArguments());
+        client.getTrackById(1109731L).block();
+
+        assertThat(warmer.getLoaded()).isEqualTo(3);
+        assertThat(requests).hasValue(3);
+    }
+
+    private ReactiveDeezerClientImpl newClient(DeezerProperties properties) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"id\":1}")
+                            .build());
+                })
+                .build();
+        return new ReactiveDeezerClientImpl(webClient, new PartitionedReactiveCache<>(properties), properties);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for CompressingValueCodec.
+ */
+class CompressingValueCodecTest {
+
+    private static final ValueCodec<String> UTF8 = new ValueCodec<>() {
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private final CompressingValueCodec<String> codec = new CompressingValueCodec<>(UTF8, 1024, 1);
+
+    private static String playlist(int tracks) {
+        StringBuilder json = new StringBuilder("{\"id\":908622995,\"tracks\":[");
+        for (int i = 0; i < tracks; i++) {
+            json.append("{\"id\":").append(3135556 + i)
+                    .append(",\"artist\":{\"id\":27,\"name\":\"Daft Punk\",")
+                    .append("\"picture\":\"https://api.deezer.com/artist/27/image\"},")
+                    .append("\"album\":{\"cover\":\"https://e-cdns-images.dzcdn.net/images/cover/2e018122cb56986277102d2041a592c8/250x250-000000-80-0-0.jpg\"}},");
+        }
+        return json.append("]}").toString();
+    }
+
+    @Test
+    void shouldShrinkAndRestore_whenValueIsLarge() {
+        String value = playlist(300);
+
+        byte[] encoded = codec.encode(value);
+
+        assertThat(encoded.length).isLessThan(value.length() / 4);
+        assertThat(codec.decode(encoded)).isEqualTo(value);
+        assertThat(codec.stats().compressedCount()).isEqualTo(1);
+        assertThat(codec.stats().decodeCount()).isEqualTo(1);
+        assertThat(codec.stats().compressionRatio()).isGreaterThan(4);
+    }
+
+    @Test
+    void shouldStoreAsIs_whenValueIsBelowThreshold() {
+        String value = "{\"id\":27,\"name\":\"Daft Punk\"}";
+
+        byte[] encoded = codec.encode(value);
+
+        assertThat(encoded).isEqualTo(UTF8.encode(value));
+        assertThat(codec.decode(encoded)).isEqualTo(value);
+        assertThat(codec.stats().compressedCount()).isZero();
+    }
+
+    @Test
+    void shouldDecodeUncompressedEntries_whenWrittenWithoutCompression() {
+        String value = playlist(300);
+
+        assertThat(codec.decode(UTF8.encode(value))).isEqualTo(value);
+    }
+
+    @Test
+    void shouldRejectValue_whenCompressedBytesAreTruncated() {
+        byte[] encoded = codec.encode(playlist(300));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length / 2);
+
+        assertThatThrownBy(() -> codec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.domain.Genre;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for DiskReactiveCache.
+ */
+class DiskReactiveCacheTest {
+
+    private final ValueCodec<Object> codec = new JsonValueCodec<>(Jackson2ObjectMapperBuilder.json().build());
+
+    @TempDir
+    Path directory;
+
+    private DiskReactiveCache<Object> open() {
+        return new DiskReactiveCache<>(directory, 64 * 1024, 16 * 1024, Duration.ofMinutes(1), codec);
+    }
+
+    @Test
+    void shouldServeEntries_whenCacheIsReopened() {
+        Genre genre = new Genre(132L, "Pop", "picture", null, null, null, null);
+        DiskReactiveCache<Object> cache = open();
+        cache.get("genre:132", key -> Mono.just(genre)).block();
+        cache.close();
+
+        DiskReactiveCache<Object> reopened = open();
+
+        assertThat(reopened.get("genre:132", key -> Mono.just("reloaded")).block()).isEqualTo(genre);
+        reopened.close();
+    }
+
+    @Test
+    void shouldForgetInvalidatedEntries_whenCacheIsReopened() {
+        DiskReactiveCache<Object> cache = open();
+        cache.get("genre:1", key -> Mono.just(new Genre(1L, "Rock", null, null, null, null, null))).block();
+        cache.invalidate("genre:1").block();
+        cache.close();
+
+        DiskReactiveCache<Object> reopened = open();
+
+        assertThat(reopened.get("genre:1", key -> Mono.just("reloaded")).block()).isEqualTo("reloaded");
+        reopened.close();
+    }
+
+    @Test
+    void shouldReclaimOldestSegment_whenByteBudgetIsExhausted() {
+        DiskReactiveCache<Object> cache = open();
+        for (long id = 0; id < 1000; id++) {
+            Genre genre = new Genre(id, "Genre " + id, null, null, null, null, null);
+            cache.get("genre:" + id, key -> Mono.just(genre)).block();
+        }
+        cache.close();
+
+        DiskReactiveCache<Object> reopened = open();
+
+        assertThat(reopened.get("genre:0", key -> Mono.just("reloaded")).block()).isEqualTo("reloaded");
+        assertThat(reopened.get("genre:999", key -> Mono.just("reloaded")).block()).isInstanceOf(Genre.class);
+        reopened.close();
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for InMemoryReactiveCache.
+ */
+class InMemoryReactiveCacheTest {
+
+    private InMemoryReactiveCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new InMemoryReactiveCache<>(new DeezerProperties());
+    }
+
+    @Test
+    void shouldShareInFlightLoad_whenConcurrentMissesForSameKey() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        List<Mono<String>> callers = Flux.range(0, 200)
+                .map(i -> cache.get("album:302127", key -> {
+                    loads.incrementAndGet();
+                    return upstream.asMono();
+                }))
+                .collectList()
+                .block();
+
+        StepVerifier.create(Flux.merge(callers).collectList())
+                .then(() -> upstream.tryEmitValue("album"))
+                .assertNext(values -> assertThat(values).hasSize(200).containsOnly("album"))
+                .verifyComplete();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotInvokeLoader_whenValueIsCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        StepVerifier.create(cache.get("track:1", key -> Mono.just("first")))
+                .expectNext("first")
+                .verifyComplete();
+
+        StepVerifier.create(cache.get("track:1", key -> {
+                    loads.incrementAndGet();
+                    return Mono.just("second");
+                }))
+                .expectNext("first")
+                .verifyComplete();
+
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void shouldReleaseInFlightLoad_whenLoaderFails() {
+        StepVerifier.create(cache.get("track:2", key -> Mono.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+
+        StepVerifier.create(cache.get("track:2", key -> Mono.just("recovered")))
+                .expectNext("recovered")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCancelUpstreamAndRetry_whenAllSubscribersCancel() {
+        AtomicInteger cancellations = new AtomicInteger();
+
+        StepVerifier.create(cache.get("track:3", key -> Mono.<String>never()
+                        .doOnCancel(cancellations::incrementAndGet)))
+                .thenAwait(Duration.ofMillis(10))
+                .thenCancel()
+                .verify();
+
+        assertThat(cancellations).hasValue(1);
+
+        StepVerifier.create(cache.get("track:3", key -> Mono.just("reloaded")))
+                .expectNext("reloaded")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotStoreLoadedValue_whenKeyIsInvalidatedWhileLoading() {
+        Sinks.One<String> upstream = Sinks.one();
+
+        StepVerifier.create(cache.get("album:4", key -> upstream.asMono()))
+                .then(() -> cache.invalidate("album:4").block())
+                .then(() -> upstream.tryEmitValue("outdated"))
+                .expectNext("outdated")
+                .verifyComplete();
+
+        StepVerifier.create(cache.get("album:4", key -> Mono.just("current")))
+                .expectNext("current")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReplayFreshNotFoundError_whenNotFoundIsCached() {
+        DeezerNotFoundException notFound = new DeezerNotFoundException(800, "DataException", "no data");
+        StepVerifier.create(cache.get("album:0", key -> Mono.error(notFound)))
+                .verifyErrorSatisfies(error -> assertThat(error).isSameAs(notFound));
+
+        List<Throwable> replays = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(cache.get("album:0", key -> Mono.just("unexpected")))
+                    .verifyErrorSatisfies(replays::add);
+        }
+
+        assertThat(replays).allSatisfy(error -> assertThat(error)
+                .isInstanceOf(DeezerNotFoundException.class)
+                .hasMessage(notFound.getMessage())
+                .isNotSameAs(notFound));
+        assertThat(replays.get(0)).isNotSameAs(replays.get(1));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry_whenLruCacheIsFull() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setMaxSize(2);
+        InMemoryReactiveCache<String, String> lru = new InMemoryReactiveCache<>(properties);
+
+        lru.get("a", key -> Mono.just("a")).block();
+        lru.get("b", key -> Mono.just("b")).block();
+        lru.get("a", key -> Mono.just("reloaded")).block();
+        lru.get("c", key -> Mono.just("c")).block();
+
+        assertThat(lru.get("a", key -> Mono.just("reloaded")).block()).isEqualTo("a");
+        assertThat(lru.get("b", key -> Mono.just("reloaded")).block()).isEqualTo("reloaded");
+    }
+
+    @Test
+    void shouldReleaseEvictedValues_whenCacheIsFilledPastMaxSize() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setMaxSize(2);
+        InMemoryReactiveCache<String, Object> lru = new InMemoryReactiveCache<>(properties);
+        List<WeakReference<Object>> evicted = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            WeakReference<Object> value = new WeakReference<>(lru.get("album:" + i, key -> Mono.just(new Object())).block());
+            if (i < 8) {
+                evicted.add(value);
+            }
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            System.gc();
+            return evicted.stream().allMatch(value -> value.get() == null);
+        });
+        assertThat(lru.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepFrequentlyUsedEntries_whenTinyLfuCacheIsFloodedWithOneOffKeys() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setMaxSize(100);
+        properties.getCache().setEvictionPolicy(DeezerProperties.EvictionPolicy.W_TINY_LFU);
+        InMemoryReactiveCache<String, String> tinyLfu = new InMemoryReactiveCache<>(properties);
+
+        for (int i = 0; i < 10; i++) {
+            tinyLfu.get("album:1", key -> Mono.just("hot")).block();
+        }
+        for (int i = 0; i < 1000; i++) {
+            String query = "search:" + i;
+            tinyLfu.get(query, key -> Mono.just(query)).block();
+        }
+
+        assertThat(tinyLfu.get("album:1", key -> Mono.just("reloaded")).block()).isEqualTo("hot");
+    }
+
+    @Test
+    void shouldServeCachedValueAndReloadInBackground_whenRefreshAheadIsDue() throws InterruptedException {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setTtl(1);
+        properties.getCache().setRefreshAheadFactor(0.1);
+        InMemoryReactiveCache<String, String> refreshing = new InMemoryReactiveCache<>(properties);
+        AtomicInteger loads = new AtomicInteger();
+
+        refreshing.get("chart:0", key -> Mono.just("v" + loads.incrementAndGet())).block();
+        Thread.sleep(200);
+
+        assertThat(refreshing.get("chart:0", key -> Mono.just("v" + loads.incrementAndGet())).block()).isEqualTo("v1");
+        assertThat(refreshing.get("chart:0", key -> Mono.just("unused")).block()).isEqualTo("v2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldServeExpiredValue_whenWithinStaleWhileRevalidateWindow() throws InterruptedException {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setTtl(0);
+        properties.getCache().setStaleWhileRevalidate(60);
+        InMemoryReactiveCache<String, String> stale = new InMemoryReactiveCache<>(properties);
+        Sinks.One<String> reload = Sinks.one();
+
+        stale.get("playlist:1", key -> Mono.just("old")).block();
+        Thread.sleep(5);
+
+        assertThat(stale.get("playlist:1", key -> reload.asMono()).block()).isEqualTo("old");
+        reload.tryEmitValue("new");
+        assertThat(stale.get("playlist:1", key -> Mono.just("unused")).block()).isIn("old", "new");
+    }
+
+    @Test
+    void shouldRemoveOnlyExpiredEntries_whenCleanupRuns() throws InterruptedException {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setTtl(0);
+        InMemoryReactiveCache<String, String> expiring = new InMemoryReactiveCache<>(properties);
+        properties.getCache().setTtl(60);
+        InMemoryReactiveCache<String, String> lasting = new InMemoryReactiveCache<>(properties);
+        expiring.get("track:1", key -> Mono.just("track")).block();
+        lasting.get("track:1", key -> Mono.just("track")).block();
+        Thread.sleep(5);
+
+        expiring.cleanExpiredEntries();
+        lasting.cleanExpiredEntries();
+
+        assertThat(expiring.freshUntil("track:1")).isZero();
+        assertThat(lasting.freshUntil("track:1")).isPositive();
+    }
+
+    @Test
+    void shouldCountHitsMissesAndLoads_whenValuesAreLookedUp() {
+        cache.get("track:1", key -> Mono.just("track")).block();
+        cache.get("track:1", key -> Mono.just("reloaded")).block();
+        cache.get("track:1", key -> Mono.just("reloaded")).block();
+        StepVerifier.create(cache.get("track:2", key -> Mono.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+
+        CacheStats stats = cache.stats();
+
+        assertThat(stats.hitCount()).isEqualTo(2);
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.loadSuccessCount()).isEqualTo(1);
+        assertThat(stats.loadFailureCount()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldCountEviction_whenCacheIsFull() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setMaxSize(2);
+        InMemoryReactiveCache<String, String> small = new InMemoryReactiveCache<>(properties);
+
+        for (int i = 0; i < 3; i++) {
+            small.get("track:" + i, key -> Mono.just(key)).block();
+        }
+
+        assertThat(small.stats().evictionCount()).isEqualTo(1);
+        assertThat(small.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnOnlyCachedKeys_whenSeveralKeysAreLookedUpAtOnce() {
+        cache.get("track:3", key -> Mono.just("three")).block();
+        cache.get("track:1", key -> Mono.just("one")).block();
+
+        StepVerifier.create(cache.getAllPresent(List.of("track:1", "track:2", "track:3")))
+                .assertNext(values -> assertThat(values).containsExactly(
+                        Map.entry("track:1", "one"), Map.entry("track:3", "three")))
+                .verifyComplete();
+
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationBatch;
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationBus;
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.InvalidationMessage;
+import io.github.javirub.deezerspringbootstarter.cache.invalidation.LoopbackInvalidationTransport;
+import io.github.javirub.deezerspringbootstarter.domain.Album;
+import io.github.javirub.deezerspringbootstarter.domain.Artist;
+import io.github.javirub.deezerspringbootstarter.domain.Track;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for NormalizingReactiveCache and EntityIndex.
+ */
+class NormalizingReactiveCacheTest {
+
+    private final EntityIndex index = new EntityIndex(100, Duration.ofMinutes(1));
+
+    @Test
+    void shouldServeNestedEntities_whenAlbumWasLoaded() {
+        NormalizingReactiveCache<Object> cache = newCache(true);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("album:302127", key -> Mono.just(album(302127L, track(3135556L), artist(27L)))).block();
+
+        Object track = cache.get("track:3135556", key -> {
+            loads.incrementAndGet();
+            return Mono.just(track(3135556L));
+        }).block();
+
+        assertThat(track).isInstanceOf(Track.class);
+        assertThat(loads).hasValue(0);
+        assertThat(index.find(Artist.class, 27L)).hasValueSatisfying(artist -> assertThat(artist.partial()).isTrue());
+        assertThat(index.find(Album.class, 302127L)).hasValueSatisfying(album -> assertThat(album.partial()).isFalse());
+    }
+
+    @Test
+    void shouldCallLoader_whenOnlyPartialRepresentationIsKnownAndPartialIsNotAccepted() {
+        NormalizingReactiveCache<Object> cache = newCache(false);
+        cache.get("album:302127", key -> Mono.just(album(302127L, track(3135556L), artist(27L)))).block();
+
+        Object artist = cache.get("artist:27", key -> Mono.just("full artist")).block();
+
+        assertThat(artist).isEqualTo("full artist");
+    }
+
+    @Test
+    void shouldKeepFullRepresentation_whenPartialOneIsSeenLater() {
+        NormalizingReactiveCache<Object> cache = newCache(true);
+        Artist full = artist(27L);
+        cache.get("artist:27", key -> Mono.just(full)).block();
+
+        cache.get("album:302127", key -> Mono.just(album(302127L, track(3135556L), artist(27L)))).block();
+
+        assertThat(index.find(Artist.class, 27L)).hasValueSatisfying(artist -> {
+            assertThat(artist.partial()).isFalse();
+            assertThat(artist.value()).isSameAs(full);
+        });
+    }
+
+    @Test
+    void shouldUseDelegateIdLookup_whenLookingUpByResourceAndId() {
+        AtomicInteger idLookups = new AtomicInteger();
+        PartitionedReactiveCache<Object> partitions = new PartitionedReactiveCache<>(new DeezerProperties()) {
+            @Override
+            public Mono<Object> get(String resource, long id, LongFunction<Mono<Object>> valueLoader) {
+                idLookups.incrementAndGet();
+                return super.get(resource, id, valueLoader);
+            }
+        };
+        NormalizingReactiveCache<Object> cache = new NormalizingReactiveCache<>(partitions, index, true);
+
+        cache.get("album", 302127L, id -> Mono.just(album(id, track(3135556L), artist(27L)))).block();
+        Object track = cache.get("track", 3135556L, id -> Mono.just("loaded")).block();
+
+        assertThat(idLookups).hasValue(1);
+        assertThat(track).isInstanceOf(Track.class);
+        assertThat(index.find(Album.class, 302127L)).hasValueSatisfying(album -> assertThat(album.partial()).isFalse());
+    }
+
+    @Test
+    void shouldStopApplyingRemoteInvalidations_whenStopped() {
+        LoopbackInvalidationTransport transport = new LoopbackInvalidationTransport();
+        InvalidationBus bus = new InvalidationBus(transport, Duration.ofHours(1), 100, false);
+        NormalizingReactiveCache<Object> cache = new NormalizingReactiveCache<>(
+                new PartitionedReactiveCache<>(new DeezerProperties()), index, true, bus);
+        cache.get("album:302127", key -> Mono.just(album(302127L, track(3135556L), artist(27L)))).block();
+
+        transport.publish(new InvalidationBatch("other-node", List.of(InvalidationMessage.invalidate("artist:27")))).block();
+        cache.stop();
+        transport.publish(new InvalidationBatch("other-node", List.of(InvalidationMessage.invalidateAll()))).block();
+
+        assertThat(index.find(Artist.class, 27L)).isEmpty();
+        assertThat(index.find(Album.class, 302127L)).isPresent();
+    }
+
+    private NormalizingReactiveCache<Object> newCache(boolean acceptPartial) {
+        PartitionedReactiveCache<Object> partitions = new PartitionedReactiveCache<>(new DeezerProperties());
+        return new NormalizingReactiveCache<>(partitions, index, acceptPartial);
+    }
+
+    private static Album album(Long id, Track track, Artist contributor) {
+        return new Album(id, "Discovery", null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, List.of(contributor), null, null, null,
+                List.of(track));
+    }
+
+    private static Track track(Long id) {
+        return new Track(id, null, null, "One More Time", null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private static Artist artist(Long id) {
+        return new Artist(id, null, "Daft Punk", null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.domain.Genre;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for OffHeapReactiveCache.
+ */
+class OffHeapReactiveCacheTest {
+
+    private final ValueCodec<Object> codec = new JsonValueCodec<>(Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    void shouldDecodeStoredValue_whenKeyIsRequestedAgain() {
+        OffHeapReactiveCache<String, Object> cache =
+                new OffHeapReactiveCache<>(1024 * 1024, 64 * 1024, Duration.ofMinutes(1), codec);
+        Genre genre = new Genre(132L, "Pop", "picture", null, null, null, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("genre:132", key -> Mono.just(genre)).block();
+        Object cached = cache.get("genre:132", key -> {
+            loads.incrementAndGet();
+            return Mono.just(new Object());
+        }).block();
+
+        assertThat(cached).isEqualTo(genre);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void shouldReclaimOldestSlab_whenByteBudgetIsExhausted() {
+        OffHeapReactiveCache<String, Object> cache =
+                new OffHeapReactiveCache<>(2048, 1024, Duration.ofMinutes(1), codec);
+
+        for (long id = 0; id < 100; id++) {
+            Genre genre = new Genre(id, "Genre " + id, null, null, null, null, null);
+            cache.get("genre:" + id, key -> Mono.just(genre)).block();
+        }
+
+        assertThat(cache.get("genre:0", key -> Mono.just("reloaded")).block()).isEqualTo("reloaded");
+        assertThat(cache.get("genre:99", key -> Mono.just("reloaded")).block()).isInstanceOf(Genre.class);
+    }
+}
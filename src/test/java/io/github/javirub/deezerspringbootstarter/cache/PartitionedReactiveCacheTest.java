@@ -0,0 +1,175 @@
+package io.github.javirub.deezerspringbootstarter.cache;
+
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for PartitionedReactiveCache.
+ */
+class PartitionedReactiveCacheTest {
+
+    @Test
+    void shouldNotEvictOtherResources_whenSearchPartitionIsFull() {
+        DeezerProperties properties = new DeezerProperties();
+        DeezerProperties.Cache.Endpoint search = new DeezerProperties.Cache.Endpoint();
+        search.setMaxSize(10);
+        properties.getCache().getEndpoints().put("search", search);
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(properties);
+
+        cache.get("album:1", key -> Mono.just("album")).block();
+        for (int i = 0; i < 100; i++) {
+            String query = "search:" + i;
+            cache.get(query, key -> Mono.just(query)).block();
+        }
+
+        assertThat(cache.get("album:1", key -> Mono.just("reloaded")).block()).isEqualTo("album");
+        assertThat(cache.get("search:0", key -> Mono.just("reloaded")).block()).isEqualTo("reloaded");
+    }
+
+    @Test
+    void shouldBypassCache_whenEndpointIsDisabled() {
+        DeezerProperties properties = new DeezerProperties();
+        DeezerProperties.Cache.Endpoint user = new DeezerProperties.Cache.Endpoint();
+        user.setEnabled(false);
+        properties.getCache().getEndpoints().put("user", user);
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(properties);
+
+        cache.get("user:1", key -> Mono.just("first")).block();
+
+        assertThat(cache.get("user:1", key -> Mono.just("second")).block()).isEqualTo("second");
+    }
+
+    @Test
+    void shouldReturnSameMonoWithoutLoader_whenIdIsLookedUpAgain() {
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(new DeezerProperties());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("track", 3135556L, id -> Mono.just("track")).block();
+        Mono<Object> first = cache.get("track", 3135556L, id -> {
+            loads.incrementAndGet();
+            return Mono.just("reloaded");
+        });
+        Mono<Object> second = cache.get("track", 3135556L, id -> Mono.just("reloaded"));
+
+        assertThat(first.block()).isEqualTo("track");
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(0);
+        assertThat(cache.get("track:3135556", key -> Mono.just("reloaded")).block()).isEqualTo("track");
+    }
+
+    @Test
+    void shouldKeepIdReadThroughFastPath_whenPartitionFillsUp() {
+        DeezerProperties properties = new DeezerProperties();
+        DeezerProperties.Cache.Endpoint album = new DeezerProperties.Cache.Endpoint();
+        album.setMaxSize(3);
+        properties.getCache().getEndpoints().put("album", album);
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(properties);
+
+        cache.get("album", 1L, id -> Mono.just("hot")).block();
+        cache.get("album", 2L, id -> Mono.just("two")).block();
+        cache.get("album", 3L, id -> Mono.just("three")).block();
+        for (int i = 0; i < 5; i++) {
+            cache.get("album", 1L, id -> Mono.just("reloaded")).block();
+        }
+        cache.get("album", 4L, id -> Mono.just("four")).block();
+
+        assertThat(cache.get("album:1", key -> Mono.just("reloaded")).block()).isEqualTo("hot");
+        assertThat(cache.get("album", 2L, id -> Mono.just("reloaded")).block()).isEqualTo("reloaded");
+    }
+
+    @Test
+    void shouldReload_whenEndpointTtlEndsBeforeLowerTierTtl() throws InterruptedException {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setTtl(3600);
+        properties.getCache().getOffHeap().setEnabled(true);
+        DeezerProperties.Cache.Endpoint search = new DeezerProperties.Cache.Endpoint();
+        search.setTtl(1);
+        properties.getCache().getEndpoints().put("search", search);
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(properties);
+
+        cache.get("search:daft punk", key -> Mono.just("first")).block();
+        Thread.sleep(1100);
+
+        assertThat(cache.get("search:daft punk", key -> Mono.just("second")).block()).isEqualTo("second");
+    }
+
+    @Test
+    void shouldRefreshFromLoader_whenLowerTierHoldsTheRefreshedValue() throws InterruptedException {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().setRefreshAheadFactor(0.01);
+        properties.getCache().getOffHeap().setEnabled(true);
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(properties);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("chart:0", key -> Mono.just("v" + loads.incrementAndGet())).block();
+        Thread.sleep(700);
+
+        assertThat(cache.get("chart:0", key -> Mono.just("v" + loads.incrementAndGet())).block()).isEqualTo("v1");
+        assertThat(cache.get("chart:0", key -> Mono.just("unused")).block()).isEqualTo("v2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReload_whenIdKeyIsInvalidatedByString() {
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(new DeezerProperties());
+        cache.get("album", 302127L, id -> Mono.just("first")).block();
+        cache.get("album", 302127L, id -> Mono.just("first")).block();
+
+        cache.invalidate("album:302127").block();
+
+        assertThat(cache.get("album", 302127L, id -> Mono.just("second")).block()).isEqualTo("second");
+    }
+
+    @Test
+    void shouldReportStatsPerPartition_whenResourcesAreLookedUp() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().getEndpoints().put("search", new DeezerProperties.Cache.Endpoint());
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(properties);
+
+        cache.get("search:eminem", key -> Mono.just("results")).block();
+        cache.get("search:eminem", key -> Mono.just("reloaded")).block();
+        cache.get("album", 1L, id -> Mono.just("album")).block();
+        cache.get("album", 1L, id -> Mono.just("reloaded")).block();
+
+        assertThat(cache.statsByPartition()).containsOnlyKeys("search", PartitionedReactiveCache.DEFAULT_PARTITION);
+        assertThat(cache.statsByPartition().get("search").hitCount()).isEqualTo(1);
+        assertThat(cache.statsByPartition().get(PartitionedReactiveCache.DEFAULT_PARTITION).hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountLookupsPerResource_whenResourcesShareDefaultPartition() {
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(new DeezerProperties());
+
+        cache.get("album", 1L, id -> Mono.just("album")).block();
+        cache.get("album", 1L, id -> Mono.just("reloaded")).block();
+        cache.get("artist:27", key -> Mono.just("artist")).block();
+        cache.get("chart:0", key -> Mono.just("chart")).block();
+
+        assertThat(cache.lookupsByResource().get("album").hitCount()).isEqualTo(1);
+        assertThat(cache.lookupsByResource().get("album").missCount()).isEqualTo(1);
+        assertThat(cache.lookupsByResource().get("artist").missCount()).isEqualTo(1);
+        assertThat(cache.lookupsByResource().get(PartitionedReactiveCache.DEFAULT_PARTITION).missCount()).isEqualTo(1);
+        assertThat(cache.statsByPartition()).containsOnlyKeys(PartitionedReactiveCache.DEFAULT_PARTITION);
+    }
+
+    @Test
+    void shouldLookUpKeysOfEveryPartition_whenSeveralKeysAreLookedUpAtOnce() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.getCache().getEndpoints().put("search", new DeezerProperties.Cache.Endpoint());
+        PartitionedReactiveCache<Object> cache = new PartitionedReactiveCache<>(properties);
+        cache.get("album:1", key -> Mono.just("album")).block();
+        cache.get("search:daft punk", key -> Mono.just("search")).block();
+
+        Map<String, Object> values = cache.getAllPresent(List.of("search:daft punk", "album:2", "album:1")).block();
+
+        assertThat(values).containsExactly(Map.entry("search:daft punk", "search"), Map.entry("album:1", "album"));
+    }
+}
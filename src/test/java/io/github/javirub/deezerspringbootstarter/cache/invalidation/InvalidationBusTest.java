@@ -0,0 +1,87 @@
+package io.github.javirub.deezerspringbootstarter.cache.invalidation;
+
+import io.github.javirub.deezerspringbootstarter.cache.PartitionedReactiveCache;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for InvalidationBus, using two nodes connected by a LoopbackInvalidationTransport.
+ */
+class InvalidationBusTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final LoopbackInvalidationTransport transport = new LoopbackInvalidationTransport();
+
+    @Test
+    void shouldDropEntryOnOtherNode_whenItIsInvalidatedLocally() {
+        InvalidationBus firstBus = new InvalidationBus(transport, NEVER, 100, false);
+        InvalidationBus secondBus = new InvalidationBus(transport, NEVER, 100, false);
+        PartitionedReactiveCache<Object> first = new PartitionedReactiveCache<>(new DeezerProperties(), firstBus);
+        PartitionedReactiveCache<Object> second = new PartitionedReactiveCache<>(new DeezerProperties(), secondBus);
+        first.get("playlist:1", key -> Mono.just("old")).block();
+        second.get("playlist:1", key -> Mono.just("old")).block();
+
+        first.invalidate("playlist:1").block();
+        firstBus.flush();
+
+        assertThat(second.get("playlist:1", key -> Mono.just("new")).block()).isEqualTo("new");
+    }
+
+    @Test
+    void shouldPublishOneDeduplicatedBatch_whenKeysAreInvalidatedRepeatedly() {
+        InvalidationBus bus = new InvalidationBus(transport, NEVER, 100, true);
+        List<InvalidationBatch> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = transport.receive().subscribe(received::add);
+
+        bus.updated("album:1");
+        bus.invalidated("album:1");
+        bus.invalidated("album:1");
+        bus.updated("album:2");
+        bus.flush();
+        subscription.dispose();
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).messages()).containsExactly(
+                InvalidationMessage.invalidate("album:1"),
+                InvalidationMessage.updated("album:2"));
+    }
+
+    @Test
+    void shouldSupersedePendingKeys_whenWholeCacheIsInvalidated() {
+        InvalidationBus bus = new InvalidationBus(transport, NEVER, 100, false);
+        List<InvalidationBatch> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = transport.receive().subscribe(received::add);
+
+        bus.invalidated("album:1");
+        bus.invalidatedAll();
+        bus.invalidated("album:2");
+        bus.flush();
+        subscription.dispose();
+
+        assertThat(received.get(0).messages()).containsExactly(
+                InvalidationMessage.invalidateAll(),
+                InvalidationMessage.invalidate("album:2"));
+    }
+
+    @Test
+    void shouldIgnoreOwnBatches_whenListening() {
+        InvalidationBus bus = new InvalidationBus(transport, NEVER, 100, false);
+        List<InvalidationMessage> remote = new CopyOnWriteArrayList<>();
+        Disposable subscription = bus.subscribe(remote::add);
+
+        bus.invalidated("album:1");
+        bus.flush();
+        subscription.dispose();
+
+        assertThat(remote).isEmpty();
+    }
+}
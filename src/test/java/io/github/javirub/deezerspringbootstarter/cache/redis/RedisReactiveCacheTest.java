@@ -0,0 +1,109 @@
+package io.github.javirub.deezerspringbootstarter.cache.redis;
+
+import io.github.javirub.deezerspringbootstarter.cache.JsonValueCodec;
+import io.github.javirub.deezerspringbootstarter.cache.ValueCodec;
+import io.github.javirub.deezerspringbootstarter.domain.Genre;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for RedisReactiveCache, run against an InProcessRedisServer.
+ */
+class RedisReactiveCacheTest {
+
+    private final ValueCodec<Object> codec = new JsonValueCodec<>(Jackson2ObjectMapperBuilder.json().build());
+
+    private InProcessRedisServer server;
+    private RedisReactiveCache<Object> cache;
+
+    @BeforeEach
+    void setUp() {
+        server = InProcessRedisServer.start();
+        cache = newCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+        server.close();
+    }
+
+    @Test
+    void shouldShareEntries_whenTwoInstancesUseTheSameServer() {
+        Genre genre = new Genre(132L, "Pop", "picture", null, null, null, null);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("genre:132", key -> Mono.just(genre)).block();
+        // Replies arrive in command order, so the pipelined SET is applied once this GET returns
+        cache.get("genre:132", key -> Mono.just(genre)).block();
+
+        RedisReactiveCache<Object> other = newCache();
+        try {
+            Object cached = other.get("genre:132", key -> {
+                loads.incrementAndGet();
+                return Mono.just(new Object());
+            }).block();
+
+            assertThat(cached).isEqualTo(genre);
+            assertThat(loads).hasValue(0);
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    void shouldReturnOnlyPresentValues_whenFetchingManyKeys() {
+        Genre pop = new Genre(132L, "Pop", null, null, null, null, null);
+        Genre rock = new Genre(152L, "Rock", null, null, null, null, null);
+        cache.get("genre:132", key -> Mono.just(pop)).block();
+        cache.get("genre:152", key -> Mono.just(rock)).block();
+
+        Map<String, Object> values = cache.getAllPresent(List.of("genre:132", "genre:1", "genre:152")).block();
+
+        assertThat(values).containsOnlyKeys("genre:132", "genre:152");
+        assertThat(values.get("genre:152")).isEqualTo(rock);
+    }
+
+    @Test
+    void shouldReload_whenAllEntriesAreInvalidated() {
+        Genre genre = new Genre(132L, "Pop", null, null, null, null, null);
+        cache.get("genre:132", key -> Mono.just(genre)).block();
+        assertThat(cache.getAllPresent(List.of("genre:132")).block()).containsKey("genre:132");
+
+        cache.invalidateAll().block();
+
+        assertThat(cache.get("genre:132", key -> Mono.just("second")).block()).isEqualTo("second");
+    }
+
+    @Test
+    void shouldCallLoader_whenServerIsUnavailable() {
+        server.close();
+
+        Object value = cache.get("genre:132", key -> Mono.just("loaded")).block(Duration.ofSeconds(5));
+
+        assertThat(value).isEqualTo("loaded");
+    }
+
+    @Test
+    void shouldCallLoader_whenServerDoesNotReply() {
+        server.stall();
+
+        Object value = cache.get("genre:132", key -> Mono.just("loaded")).block(Duration.ofSeconds(5));
+
+        assertThat(value).isEqualTo("loaded");
+    }
+
+    private RedisReactiveCache<Object> newCache() {
+        RespClient client = new RespClient("127.0.0.1", server.getPort(), Duration.ofSeconds(1));
+        return new RedisReactiveCache<>(client, codec, "test:", Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.javirub.deezerspringbootstarter.client;
+
+import io.github.javirub.deezerspringbootstarter.cache.PartitionedReactiveCache;
+import io.github.javirub.deezerspringbootstarter.domain.Album;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Tests for AsyncDeezerClientImpl, using a mock server instead of the real API.
+ */
+class AsyncDeezerClientImplTest {
+
+    private static final String BASE_URL = "https://api.deezer.com";
+
+    private final AtomicBoolean sentFromVirtualThread = new AtomicBoolean();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private MockRestServiceServer server;
+    private AsyncDeezerClientImpl client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            sentFromVirtualThread.set(Thread.currentThread().isVirtual());
+            return execution.execute(request, body);
+        });
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        DeezerProperties properties = new DeezerProperties();
+        // Loads run on the caller's thread, so the request is sent from the thread of the async call
+        DeezerClientImpl blockingClient = DeezerClientImpl.builder()
+                .restTemplate(restTemplate)
+                .baseUrl(BASE_URL)
+                .cache(new PartitionedReactiveCache<>(properties))
+                .loadScheduler(Schedulers.immediate())
+                .build();
+        client = new AsyncDeezerClientImpl(blockingClient, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void shouldCompleteWithAlbumOnVirtualThread_whenAlbumExists() {
+        server.expect(requestTo(BASE_URL + "/album/302127"))
+                .andRespond(withSuccess("{\"id\":302127,\"title\":\"Discovery\"}", MediaType.APPLICATION_JSON));
+
+        Album album = client.getAlbumById(302127L).join();
+
+        assertThat(album.title()).isEqualTo("Discovery");
+        assertThat(sentFromVirtualThread).isTrue();
+        server.verify();
+    }
+
+    @Test
+    void shouldCompleteExceptionally_whenAlbumIsUnknown() {
+        server.expect(requestTo(BASE_URL + "/album/1"))
+                .andRespond(withSuccess("{\"error\":{\"type\":\"DataException\",\"message\":\"no data\",\"code\":800}}",
+                        MediaType.APPLICATION_JSON));
+
+        CompletableFuture<Album> album = client.getAlbumById(1L);
+
+        assertThatThrownBy(album::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DeezerNotFoundException.class);
+    }
+}
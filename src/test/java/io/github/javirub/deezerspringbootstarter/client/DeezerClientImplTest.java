@@ -0,0 +1,152 @@
+package io.github.javirub.deezerspringbootstarter.client;
+
+import io.github.javirub.deezerspringbootstarter.cache.PartitionedReactiveCache;
+import io.github.javirub.deezerspringbootstarter.domain.Album;
+import io.github.javirub.deezerspringbootstarter.domain.Track;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withResourceNotFound;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Tests for DeezerClientImpl, using a mock server instead of the real API.
+ */
+class DeezerClientImplTest {
+
+    private static final String BASE_URL = "https://api.deezer.com";
+
+    private static final String NOT_FOUND_BODY =
+            "{\"error\":{\"type\":\"DataException\",\"message\":\"no data\",\"code\":800}}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            requests.incrementAndGet();
+            try {
+                // Keep the request in flight long enough for concurrent callers to pile up
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return execution.execute(request, body);
+        });
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    private DeezerClientImpl cachedClient() {
+        return DeezerClientImpl.builder()
+                .restTemplate(restTemplate)
+                .baseUrl(BASE_URL)
+                .cache(new PartitionedReactiveCache<>(new DeezerProperties()))
+                .build();
+    }
+
+    @Test
+    void shouldNotCallApiAgain_whenAlbumIsCached() {
+        server.expect(ExpectedCount.manyTimes(), requestTo(BASE_URL + "/album/302127"))
+                .andRespond(withSuccess("{\"id\":302127,\"title\":\"Discovery\"}", MediaType.APPLICATION_JSON));
+        DeezerClientImpl client = cachedClient();
+
+        Album first = client.getAlbumById(302127L);
+        Album second = client.getAlbumById(302127L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void shouldSendSingleRequest_whenManyThreadsAskForSameAlbum() throws Exception {
+        server.expect(ExpectedCount.manyTimes(), requestTo(BASE_URL + "/album/302127"))
+                .andRespond(withSuccess("{\"id\":302127,\"title\":\"Discovery\"}", MediaType.APPLICATION_JSON));
+        DeezerClientImpl client = cachedClient();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        try {
+            List<Future<Album>> albums = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                albums.add(executor.submit(() -> client.getAlbumById(302127L)));
+            }
+            for (Future<Album> album : albums) {
+                assertThat(album.get().title()).isEqualTo("Discovery");
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void shouldCacheNotFound_whenAlbumDoesNotExist() {
+        server.expect(ExpectedCount.manyTimes(), requestTo(BASE_URL + "/album/0"))
+                .andRespond(withSuccess(NOT_FOUND_BODY, MediaType.APPLICATION_JSON));
+        DeezerClientImpl client = cachedClient();
+
+        assertThatThrownBy(() -> client.getAlbumById(0L)).isInstanceOf(DeezerNotFoundException.class);
+        assertThatThrownBy(() -> client.getAlbumById(0L)).isInstanceOf(DeezerNotFoundException.class);
+
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void shouldCacheNotFound_whenApiRespondsWith404() {
+        server.expect(ExpectedCount.manyTimes(), requestTo(BASE_URL + "/album/1"))
+                .andRespond(withResourceNotFound());
+        DeezerClientImpl client = cachedClient();
+
+        assertThatThrownBy(() -> client.getAlbumById(1L)).isInstanceOf(DeezerNotFoundException.class);
+        assertThatThrownBy(() -> client.getAlbumById(1L)).isInstanceOf(DeezerNotFoundException.class);
+
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void shouldCallApiEveryTime_whenCreatedWithoutCache() {
+        server.expect(ExpectedCount.manyTimes(), requestTo(BASE_URL + "/album/302127"))
+                .andRespond(withSuccess("{\"id\":302127,\"title\":\"Discovery\"}", MediaType.APPLICATION_JSON));
+        DeezerClientImpl client = new DeezerClientImpl(restTemplate, BASE_URL);
+
+        client.getAlbumById(302127L);
+        client.getAlbumById(302127L);
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void shouldFetchOnlyMisses_whenTracksAreLookedUpInBulk() {
+        server.expect(ExpectedCount.manyTimes(), requestTo(startsWith(BASE_URL + "/track/")))
+                .andRespond(withSuccess("{\"title\":\"Around the World\"}", MediaType.APPLICATION_JSON));
+        DeezerClientImpl client = cachedClient();
+        client.getTrackById(1L);
+
+        Map<Long, Track> tracks = client.getTracksByIds(List.of(3L, 1L, 2L, 3L));
+
+        assertThat(tracks.keySet()).containsExactly(3L, 1L, 2L);
+        assertThat(requests).hasValue(3);
+    }
+}
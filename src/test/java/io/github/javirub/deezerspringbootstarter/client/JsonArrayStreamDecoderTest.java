@@ -0,0 +1,61 @@
+package io.github.javirub.deezerspringbootstarter.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.javirub.deezerspringbootstarter.domain.Artist;
+import io.github.javirub.deezerspringbootstarter.domain.Track;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for JsonArrayStreamDecoder.
+ */
+class JsonArrayStreamDecoderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(bytes, i * chunkSize, Math.min(bytes.length, (i + 1) * chunkSize))));
+    }
+
+    @Test
+    void shouldEmitElements_whenBodyArrivesInSmallChunks() {
+        String json = "{\"checksum\":\"abc\",\"next\":{\"url\":\"x\"},\"data\":["
+                + "{\"id\":1,\"title\":\"One\",\"contributors\":[{\"id\":27,\"name\":\"Daft Punk\"}]},"
+                + "{\"id\":2,\"title\":\"Two\",\"album\":{\"id\":302127}}"
+                + "],\"total\":2}";
+
+        StepVerifier.create(JsonArrayStreamDecoder.decode(chunks(json, 7), "data", Track.class, objectMapper))
+                .assertNext(track -> {
+                    assertThat(track.id()).isEqualTo(1L);
+                    assertThat(track.contributors()).singleElement().extracting(Artist::name).isEqualTo("Daft Punk");
+                })
+                .assertNext(track -> assertThat(track.id()).isEqualTo(2L))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldEmitNothing_whenArrayIsEmpty() {
+        StepVerifier.create(JsonArrayStreamDecoder.decode(chunks("{\"data\":[],\"total\":0}", 3), "data", Track.class, objectMapper))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFail_whenBodyIsTruncated() {
+        StepVerifier.create(JsonArrayStreamDecoder.decode(chunks("{\"data\":[{\"id\":1},{\"id\"", 5), "data", Track.class, objectMapper))
+                .expectNextCount(1)
+                .expectError()
+                .verify();
+    }
+}
@@ -0,0 +1,279 @@
+package io.github.javirub.deezerspringbootstarter.client;
+
+import io.github.javirub.deezerspringbootstarter.SearchOptions;
+import io.github.javirub.deezerspringbootstarter.cache.PartitionedReactiveCache;
+import io.github.javirub.deezerspringbootstarter.domain.Album;
+import io.github.javirub.deezerspringbootstarter.domain.Track;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
+import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ReactiveDeezerClientImpl, using a stubbed exchange function instead of the real API.
+ */
+class ReactiveDeezerClientImplTest {
+
+    private static final String NOT_FOUND_BODY =
+            "{\"error\":{\"type\":\"DataException\",\"message\":\"no data\",\"code\":800}}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final List<Integer> requestedIndexes = new CopyOnWriteArrayList<>();
+
+    private ReactiveDeezerClientImpl clientResponding(HttpStatus status, String body) {
+        DeezerProperties properties = new DeezerProperties();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new ReactiveDeezerClientImpl(webClient, new PartitionedReactiveCache<>(properties), properties);
+    }
+
+    private ReactiveDeezerClientImpl clientPaging(int total, int pageSize) {
+        DeezerProperties properties = new DeezerProperties();
+        properties.setPageSize(pageSize);
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    var params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+                    int index = Integer.parseInt(params.getFirst("index"));
+                    int limit = Integer.parseInt(params.getFirst("limit"));
+                    requestedIndexes.add(index);
+                    String data = IntStream.range(index, Math.min(total, index + limit))
+                            .mapToObj(id -> "{\"id\":" + id + "}")
+                            .collect(Collectors.joining(","));
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"data\":[" + data + "],\"total\":" + total + "}")
+                            .build());
+                })
+                .build();
+        return new ReactiveDeezerClientImpl(webClient, new PartitionedReactiveCache<>(properties), properties);
+    }
+
+    private static DataBuffer buffer(String content) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldDecodeAlbum_whenResponseIsValid() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK, "{\"id\":302127,\"title\":\"Discovery\"}");
+
+        StepVerifier.create(client.getAlbumById(302127L))
+                .assertNext(album -> {
+                    assertThat(album.id()).isEqualTo(302127L);
+                    assertThat(album.title()).isEqualTo("Discovery");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRaiseNotFoundAndCacheIt_whenResponseIsErrorEnvelope() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK, NOT_FOUND_BODY);
+
+        StepVerifier.create(client.getAlbumById(1L))
+                .expectError(DeezerNotFoundException.class)
+                .verify();
+        StepVerifier.create(client.getAlbumById(1L))
+                .expectError(DeezerNotFoundException.class)
+                .verify();
+
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void shouldRaiseApiException_whenResponseIsOtherError() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK,
+                "{\"error\":{\"type\":\"ParameterException\",\"message\":\"Wrong parameter\",\"code\":500}}");
+
+        StepVerifier.create(client.getTrackById(1L))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isExactlyInstanceOf(DeezerApiException.class);
+                    assertThat(((DeezerApiException) error).getCode()).isEqualTo(500);
+                })
+                .verify();
+    }
+
+    @Test
+    void shouldNotDecodeEmptyRecord_whenAlbumIsUnknown() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK, NOT_FOUND_BODY);
+
+        Album album = client.getAlbumById(2L).onErrorResume(DeezerNotFoundException.class, e -> Mono.empty()).block();
+
+        assertThat(album).isNull();
+    }
+
+    @Test
+    void shouldRetryAfterQuotaWindow_whenQuotaIsExceeded() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.setBackoffDelay(1);
+        properties.getRateLimit().setPeriod(10);
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(requests.getAndIncrement() == 0
+                                ? "{\"error\":{\"type\":\"Exception\",\"message\":\"Quota limit exceeded\",\"code\":4}}"
+                                : "{\"id\":3135556,\"title\":\"Harder, Better, Faster, Stronger\"}")
+                        .build()))
+                .build();
+        ReactiveDeezerClientImpl client = new ReactiveDeezerClientImpl(webClient,
+                new PartitionedReactiveCache<>(properties), properties);
+
+        StepVerifier.create(client.getTrackById(3135556L))
+                .assertNext(track -> assertThat(track.title()).isEqualTo("Harder, Better, Faster, Stronger"))
+                .verifyComplete();
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void shouldEmitEachTrack_whenPlaylistTracksAreStreamed() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK,
+                "{\"data\":[{\"id\":1,\"title\":\"One\"},{\"id\":2,\"title\":\"Two\"}],\"total\":2}");
+
+        StepVerifier.create(client.getPlaylistTracks(908622995L))
+                .assertNext(track -> assertThat(track.title()).isEqualTo("One"))
+                .assertNext(track -> assertThat(track.title()).isEqualTo("Two"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotRetryStreamedPage_whenItFailsAfterFirstElement() {
+        DeezerProperties properties = new DeezerProperties();
+        properties.setBackoffDelay(1);
+        properties.setPageSize(2);
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    String index = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams().getFirst("index");
+                    Flux<DataBuffer> body = "0".equals(index)
+                            ? Flux.just(buffer("{\"data\":[{\"id\":0},{\"id\":1}],\"total\":4}"))
+                            : Flux.concat(Flux.just(buffer("{\"data\":[{\"id\":2},")),
+                                    Flux.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null)));
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        ReactiveDeezerClientImpl client = new ReactiveDeezerClientImpl(webClient,
+                new PartitionedReactiveCache<>(properties), properties);
+
+        StepVerifier.create(client.getPlaylistTracks(908622995L).map(Track::id))
+                .expectNext(0L, 1L, 2L)
+                .expectError(WebClientResponseException.class)
+                .verify();
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void shouldRaiseNotFound_whenStreamedListIsErrorEnvelope() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK, NOT_FOUND_BODY);
+
+        StepVerifier.create(client.getAlbumTracks(1L))
+                .expectError(DeezerNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldWalkAllPages_whenListSpansSeveralPages() {
+        ReactiveDeezerClientImpl client = clientPaging(5, 2);
+
+        StepVerifier.create(client.getPlaylistTracks(908622995L).map(track -> track.id()))
+                .expectNext(0L, 1L, 2L, 3L, 4L)
+                .verifyComplete();
+
+        assertThat(requestedIndexes).containsExactly(0, 2, 4);
+    }
+
+    @Test
+    void shouldStopRequestingPages_whenMaxResultsIsReached() {
+        ReactiveDeezerClientImpl client = clientPaging(1000, 2);
+
+        StepVerifier.create(client.searchAll(SearchOptions.builder().query("daft punk").build(), 3))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertThat(requestedIndexes).containsExactly(0, 2);
+    }
+
+    @Test
+    void shouldPrefetchOnlyNextPage_whenConsumerIsSlow() {
+        ReactiveDeezerClientImpl client = clientPaging(1000, 10);
+
+        StepVerifier.create(client.getArtistTopTracks(27L), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void shouldFetchOnlyMissesInOrder_whenTracksAreLookedUpInBulk() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK, "{\"title\":\"Around the World\"}");
+        client.getTrackById(1L).block();
+
+        StepVerifier.create(client.getTracksByIds(Flux.just(1L, 2L, 1L, 3L)))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    void shouldEmitPartialBatch_whenIdsArriveSlowly() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK, "{\"title\":\"Around the World\"}");
+        Sinks.Many<Long> ids = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier.create(client.getTracksByIds(ids.asFlux()))
+                .then(() -> ids.tryEmitNext(1L))
+                .expectNextCount(1)
+                .then(() -> ids.tryEmitNext(2L))
+                .expectNextCount(1)
+                .then(ids::tryEmitComplete)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void shouldSkipUnknownIds_whenTracksAreLookedUpInBulk() {
+        ReactiveDeezerClientImpl client = clientResponding(HttpStatus.OK, NOT_FOUND_BODY);
+
+        StepVerifier.create(client.getTracksByIds(List.of(1L, 2L)))
+                .assertNext(tracks -> assertThat(tracks).isEmpty())
+                .verifyComplete();
+    }
+}
@@ -1,14 +1,23 @@
 package io.github.javirub.deezerspringbootstarter.config;
 
+import io.github.javirub.deezerspringbootstarter.AsyncDeezerClient;
+import io.github.javirub.deezerspringbootstarter.DeezerClient;
 import io.github.javirub.deezerspringbootstarter.client.ReactiveDeezerClientImpl;
+import io.github.javirub.deezerspringbootstarter.cache.NormalizingReactiveCache;
 import io.github.javirub.deezerspringbootstarter.cache.ReactiveCache;
+import io.github.javirub.deezerspringbootstarter.cache.redis.InProcessRedisServer;
 import io.github.javirub.deezerspringbootstarter.properties.DeezerProperties;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 /**
  * Tests for DeezerAutoConfiguration.
@@ -54,6 +63,26 @@ class DeezerAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void shouldBindEndpointCachePolicies_whenEndpointsAreConfigured() {
+        contextRunner
+                .withPropertyValues(
+                        "deezer.cache.endpoints.genre.ttl=86400",
+                        "deezer.cache.endpoints.search.max-size=5000",
+                        "deezer.cache.endpoints.user.enabled=false"
+                )
+                .run(context -> {
+                    DeezerProperties.Cache cache = context.getBean(DeezerProperties.class).getCache();
+
+                    assertThat(cache.getEndpoints()).containsOnlyKeys("genre", "search", "user");
+                    assertThat(cache.getEndpoints().get("genre").getTtl()).isEqualTo(86400);
+                    assertThat(cache.getEndpoints().get("genre").getMaxSize()).isNull();
+                    assertThat(cache.getEndpoints().get("search").getMaxSize()).isEqualTo(5000);
+                    assertThat(cache.getEndpoints().get("user").getEnabled()).isFalse();
+                    assertThat(context).hasSingleBean(ReactiveCache.class);
+                });
+    }
+
     @Test
     void shouldNotCreateDeezerClient_whenDisabled() {
         contextRunner
@@ -64,4 +93,75 @@ class DeezerAutoConfigurationTest {
                     assertThat(context).doesNotHaveBean(WebClient.class);
                 });
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCreateDedicatedConnectionPool_whenPoolIsConfigured() {
+        contextRunner
+                .withPropertyValues(
+                        "deezer.http.pool.max-connections=20",
+                        "deezer.http.pool.pending-acquire-timeout=2000",
+                        "deezer.http.pool.max-idle-time=10000"
+                )
+                .run(context -> {
+                    DeezerProperties.Http.Pool pool = context.getBean(DeezerProperties.class).getHttp().getPool();
+
+                    assertThat(pool.getMaxConnections()).isEqualTo(20);
+                    assertThat(pool.getPendingAcquireTimeout()).isEqualTo(2000);
+                    assertThat(pool.getMaxIdleTime()).isEqualTo(10000);
+                    assertThat(context).hasSingleBean(ConnectionProvider.class);
+                    assertThat(context.getBean(ConnectionProvider.class).maxConnections()).isEqualTo(20);
+                });
+    }
+
+    @Test
+    void shouldCreateAsyncClient_whenBlockingClientUsesJdkEngine() {
+        contextRunner
+                .withPropertyValues(
+                        "deezer.client-type=BLOCKING",
+                        "deezer.http.blocking-engine=JDK"
+                )
+                .run(context -> {
+                    assertThat(context.getBean(DeezerProperties.class).getHttp().getBlockingEngine())
+                            .isEqualTo(DeezerProperties.BlockingEngine.JDK);
+                    assertThat(context).hasSingleBean(DeezerClient.class);
+                    assertThat(context).hasSingleBean(AsyncDeezerClient.class);
+                    assertThat(context).hasBean("deezerLoadExecutor");
+                    assertThat(context).doesNotHaveBean(ReactiveDeezerClientImpl.class);
+                });
+    }
+
+    @Test
+    void shouldNotCreateLoadExecutor_whenReactiveClientIsUsedWithJdkEngine() {
+        contextRunner
+                .withPropertyValues("deezer.http.blocking-engine=JDK")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ReactiveDeezerClientImpl.class);
+                    assertThat(context).doesNotHaveBean("deezerLoadExecutor");
+                    assertThat(context).doesNotHaveBean("deezerLoadScheduler");
+                });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCloseCacheTiers_whenContextWithNormalizationIsClosed() {
+        try (InProcessRedisServer redis = InProcessRedisServer.start()) {
+            contextRunner
+                    .withPropertyValues(
+                            "deezer.cache.normalization.enabled=true",
+                            "deezer.cache.redis.enabled=true",
+                            "deezer.cache.redis.host=127.0.0.1",
+                            "deezer.cache.redis.port=" + redis.getPort()
+                    )
+                    .run(context -> {
+                        ReactiveCache<String, Object> cache = context.getBean(ReactiveCache.class);
+                        assertThat(cache).isInstanceOf(NormalizingReactiveCache.class);
+
+                        cache.get("album:302127", key -> Mono.just("album")).block();
+
+                        assertThat(redis.getConnectionCount()).isEqualTo(1);
+                    });
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> redis.getConnectionCount() == 0);
+        }
+    }
+}
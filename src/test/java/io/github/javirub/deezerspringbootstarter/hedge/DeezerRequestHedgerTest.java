@@ -0,0 +1,121 @@
+package io.github.javirub.deezerspringbootstarter.hedge;
+
+import io.github.javirub.deezerspringbootstarter.ratelimit.DeezerRateLimiter;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for DeezerRequestHedger.
+ */
+class DeezerRequestHedgerTest {
+
+    private static DeezerRequestHedger hedger(double budget, DeezerRateLimiter rateLimiter) {
+        return new DeezerRequestHedger(95, Duration.ofMillis(10), Duration.ofMillis(50), budget, rateLimiter);
+    }
+
+    private static Mono<String> attempts(List<Mono<String>> responses) {
+        AtomicInteger attempt = new AtomicInteger();
+        return Mono.defer(() -> responses.get(attempt.getAndIncrement()));
+    }
+
+    @Test
+    void shouldAnswerWithHedgeAndCancelFirstAttempt_whenFirstAttemptIsSlow() {
+        DeezerRequestHedger hedger = hedger(1, DeezerRateLimiter.unlimited());
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> request = attempts(List.of(
+                Mono.<String>never().doOnCancel(() -> cancelled.set(true)),
+                Mono.just("hedge")));
+
+        StepVerifier.create(hedger.hedge(request))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertThat(cancelled).isTrue();
+        assertThat(hedger.getSentCount()).isEqualTo(1);
+        assertThat(hedger.getWonCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepDelay_whenHedgesAnswerFasterThanFirstAttempts() {
+        DeezerRequestHedger hedger = new DeezerRequestHedger(95, Duration.ofMillis(1), Duration.ofMillis(5), 1,
+                DeezerRateLimiter.unlimited());
+
+        Flux.range(0, 64)
+                .concatMap(i -> hedger.hedge(attempts(List.of(Mono.never(), Mono.just("hedge")))))
+                .blockLast();
+
+        assertThat(hedger.getWonCount()).isEqualTo(64);
+        assertThat(hedger.getDelay()).isEqualTo(Duration.ofMillis(5).toNanos());
+    }
+
+    @Test
+    void shouldNotHedge_whenBudgetIsSpent() {
+        DeezerRequestHedger hedger = hedger(0, DeezerRateLimiter.unlimited());
+        Mono<String> request = attempts(List.of(
+                Mono.delay(Duration.ofMillis(200)).thenReturn("first"),
+                Mono.just("hedge")));
+
+        StepVerifier.create(hedger.hedge(request))
+                .expectNext("first")
+                .verifyComplete();
+
+        assertThat(hedger.getSentCount()).isZero();
+        assertThat(hedger.getSkippedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotHedge_whenRateLimiterHasNoFreePermit() {
+        DeezerRateLimiter rateLimiter = new DeezerRateLimiter(1, Duration.ofMinutes(1), 10, Duration.ofSeconds(5));
+        rateLimiter.acquirePermit();
+        DeezerRequestHedger hedger = hedger(1, rateLimiter);
+        Mono<String> request = attempts(List.of(
+                Mono.delay(Duration.ofMillis(200)).thenReturn("first"),
+                Mono.just("hedge")));
+
+        StepVerifier.create(hedger.hedge(request))
+                .expectNext("first")
+                .verifyComplete();
+
+        assertThat(hedger.getSkippedCount()).isEqualTo(1);
+        assertThat(rateLimiter.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void shouldKeepFirstAttempt_whenHedgeFails() {
+        DeezerRequestHedger hedger = hedger(1, DeezerRateLimiter.unlimited());
+        Mono<String> request = attempts(List.of(
+                Mono.delay(Duration.ofMillis(200)).thenReturn("first"),
+                Mono.error(new IllegalStateException("connection reset"))));
+
+        StepVerifier.create(hedger.hedge(request))
+                .expectNext("first")
+                .verifyComplete();
+
+        assertThat(hedger.getSentCount()).isEqualTo(1);
+        assertThat(hedger.getWonCount()).isZero();
+    }
+
+    @Test
+    void shouldPassRequestThrough_whenDisabled() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(100)).thenReturn("first");
+        });
+
+        StepVerifier.create(DeezerRequestHedger.disabled().hedge(request))
+                .expectNext("first")
+                .verifyComplete();
+
+        assertThat(subscriptions).hasValue(1);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.javirub.deezerspringbootstarter.ratelimit;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerRateLimitException;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for DeezerRateLimiter.
+ */
+class DeezerRateLimiterTest {
+
+    @Test
+    void shouldDelayRequest_whenQuotaIsUsedWithinPeriod() {
+        DeezerRateLimiter limiter = new DeezerRateLimiter(3, Duration.ofMillis(300), 10, Duration.ofSeconds(5));
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(limiter.acquire()).verifyComplete();
+        }
+        assertThat(limiter.getTotalWaitTime()).isZero();
+
+        long start = System.nanoTime();
+        StepVerifier.create(limiter.acquire()).verifyComplete();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+        assertThat(limiter.getAcquiredCount()).isEqualTo(4);
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    @Test
+    void shouldRejectRequest_whenQueueIsFull() {
+        DeezerRateLimiter limiter = new DeezerRateLimiter(1, Duration.ofSeconds(1), 1, Duration.ofSeconds(5));
+        limiter.acquirePermit();
+        Disposable queued = limiter.acquire().subscribe();
+
+        try {
+            assertThat(limiter.getQueueSize()).isEqualTo(1);
+            StepVerifier.create(limiter.acquire())
+                    .expectErrorSatisfies(error -> assertThat(error)
+                            .isInstanceOf(DeezerRateLimitException.class)
+                            .extracting(e -> ((DeezerApiException) e).getCode())
+                            .isEqualTo(DeezerApiException.QUOTA_EXCEEDED))
+                    .verify();
+            assertThat(limiter.getRejectedCount()).isEqualTo(1);
+        } finally {
+            queued.dispose();
+        }
+    }
+
+    @Test
+    void shouldRejectImmediately_whenWaitWouldExceedTimeout() {
+        DeezerRateLimiter limiter = new DeezerRateLimiter(1, Duration.ofSeconds(10), 10, Duration.ofMillis(100));
+        limiter.acquirePermit();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(limiter::acquirePermit).isInstanceOf(DeezerRateLimitException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldBlockUntilPermitIsGranted_whenCallerIsBlocking() {
+        DeezerRateLimiter limiter = new DeezerRateLimiter(1, Duration.ofMillis(200), 10, Duration.ofSeconds(5));
+        limiter.acquirePermit();
+
+        long start = System.nanoTime();
+        limiter.acquirePermit();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    void shouldGrantEveryPermit_whenUnlimited() {
+        DeezerRateLimiter limiter = DeezerRateLimiter.unlimited();
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.acquirePermit();
+        }
+
+        StepVerifier.create(limiter.acquire()).verifyComplete();
+    }
+
+    @Test
+    void shouldDeclineWithoutRejecting_whenTryingToAcquireWithoutFreePermit() {
+        DeezerRateLimiter limiter = new DeezerRateLimiter(1, Duration.ofSeconds(1), 10, Duration.ofSeconds(5));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getAcquiredCount()).isEqualTo(1);
+        assertThat(limiter.getRejectedCount()).isZero();
+    }
+}
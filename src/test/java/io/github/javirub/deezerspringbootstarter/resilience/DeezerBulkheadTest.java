@@ -0,0 +1,53 @@
+package io.github.javirub.deezerspringbootstarter.resilience;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerUnavailableException;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for DeezerBulkhead.
+ */
+class DeezerBulkheadTest {
+
+    @Test
+    void shouldRejectCall_whenTooManyCallsAreOutstanding() {
+        DeezerBulkhead bulkhead = new DeezerBulkhead(1);
+        Disposable outstanding = bulkhead.protect(Mono.never()).subscribe();
+
+        StepVerifier.create(bulkhead.protect(Mono.just("rejected")))
+                .verifyError(DeezerUnavailableException.class);
+
+        assertThat(bulkhead.getActiveCount()).isEqualTo(1);
+        assertThat(bulkhead.getRejectedCount()).isEqualTo(1);
+        outstanding.dispose();
+    }
+
+    @Test
+    void shouldReleaseSlot_whenCallIsCancelled() {
+        DeezerBulkhead bulkhead = new DeezerBulkhead(1);
+        bulkhead.protect(Mono.never()).subscribe().dispose();
+
+        StepVerifier.create(bulkhead.protect(Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(bulkhead.getActiveCount()).isZero();
+    }
+
+    @Test
+    void shouldThrowForBlockingCalls_whenNoSlotIsFree() {
+        DeezerBulkhead bulkhead = new DeezerBulkhead(1);
+        bulkhead.acquirePermit();
+
+        assertThatThrownBy(bulkhead::acquirePermit).isInstanceOf(DeezerUnavailableException.class);
+
+        bulkhead.release();
+        bulkhead.acquirePermit();
+        assertThat(bulkhead.getActiveCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.javirub.deezerspringbootstarter.resilience;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerNotFoundException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerRateLimitException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerUnavailableException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for DeezerCircuitBreaker.
+ */
+class DeezerCircuitBreakerTest {
+
+    private static DeezerCircuitBreaker circuitBreaker(Duration slowCallDuration, Duration openDuration) {
+        return new DeezerCircuitBreaker(4, 4, 50, slowCallDuration, 50, openDuration, 2);
+    }
+
+    private static void call(DeezerCircuitBreaker circuitBreaker, Mono<String> request) {
+        circuitBreaker.protect(Mono.empty(), request)
+                .onErrorResume(error -> Mono.empty())
+                .block();
+    }
+
+    private static void fail(DeezerCircuitBreaker circuitBreaker, int calls) {
+        for (int i = 0; i < calls; i++) {
+            call(circuitBreaker, Mono.error(new RuntimeException("Server error")));
+        }
+    }
+
+    @Test
+    void shouldRefuseCallsWithoutSendingThem_whenFailureRateIsReached() {
+        DeezerCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofSeconds(10), Duration.ofMinutes(1));
+        call(circuitBreaker, Mono.just("ok"));
+        call(circuitBreaker, Mono.just("ok"));
+        fail(circuitBreaker, 2);
+        AtomicBoolean sent = new AtomicBoolean();
+
+        StepVerifier.create(circuitBreaker.protect(Mono.empty(), Mono.fromCallable(() -> sent.getAndSet(true))))
+                .verifyError(DeezerUnavailableException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.OPEN);
+        assertThat(sent).isFalse();
+        assertThat(circuitBreaker.getNotPermittedCount()).isEqualTo(1);
+        assertThat(circuitBreaker.getOpenedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStayClosed_whenDeezerAnswersWithErrors() {
+        DeezerCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofSeconds(10), Duration.ofMinutes(1));
+        for (int i = 0; i < 8; i++) {
+            call(circuitBreaker, Mono.error(new DeezerNotFoundException(800, "DataException", "no data")));
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldOpen_whenDeezerAnswersThatItIsBusy() {
+        DeezerCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofSeconds(10), Duration.ofMinutes(1));
+        for (int i = 0; i < 4; i++) {
+            call(circuitBreaker, Mono.error(new DeezerApiException(DeezerApiException.SERVICE_BUSY, "Exception",
+                    "Service busy")));
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldStayClosed_whenClientRefusesCalls() {
+        DeezerCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofSeconds(10), Duration.ofMinutes(1));
+        for (int i = 0; i < 8; i++) {
+            call(circuitBreaker, Mono.error(new DeezerRateLimitException("Deezer API rate limit reached")));
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldOpen_whenSlowCallRateIsReached() {
+        DeezerCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofMillis(1), Duration.ofMinutes(1));
+        for (int i = 0; i < 4; i++) {
+            call(circuitBreaker, Mono.delay(Duration.ofMillis(20)).thenReturn("slow"));
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterProbes_whenProbesSucceed() {
+        DeezerCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofSeconds(10), Duration.ZERO);
+        fail(circuitBreaker, 4);
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.OPEN);
+
+        call(circuitBreaker, Mono.just("probe"));
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.HALF_OPEN);
+        call(circuitBreaker, Mono.just("probe"));
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldReopen_whenProbesFail() {
+        DeezerCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofSeconds(10), Duration.ZERO);
+        fail(circuitBreaker, 4);
+
+        fail(circuitBreaker, 2);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getOpenedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLetOtherProbesThrough_whenProbeIsCancelledBeforeBeingSent() {
+        DeezerCircuitBreaker circuitBreaker = new DeezerCircuitBreaker(4, 4, 50, Duration.ofSeconds(10), 50,
+                Duration.ZERO, 1);
+        fail(circuitBreaker, 4);
+
+        circuitBreaker.protect(Mono.never(), Mono.just("probe")).subscribe().dispose();
+        call(circuitBreaker, Mono.just("probe"));
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldThrowForBlockingCalls_whenCircuitIsOpen() {
+        DeezerCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofSeconds(10), Duration.ofMinutes(1));
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onResult(0, new RuntimeException("Server error"));
+        }
+
+        assertThatThrownBy(circuitBreaker::acquirePermission)
+                .isInstanceOf(DeezerUnavailableException.class);
+    }
+
+    @Test
+    void shouldNeverOpen_whenDisabled() {
+        DeezerCircuitBreaker circuitBreaker = DeezerCircuitBreaker.disabled();
+        fail(circuitBreaker, 100);
+
+        StepVerifier.create(circuitBreaker.protect(Mono.empty(), Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(circuitBreaker.getState()).isEqualTo(DeezerCircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.javirub.deezerspringbootstarter.retry;
+
+import io.github.javirub.deezerspringbootstarter.exception.DeezerApiException;
+import io.github.javirub.deezerspringbootstarter.exception.DeezerRateLimitException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for DeezerRetryPolicy.
+ */
+class DeezerRetryPolicyTest {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private static DeezerRetryPolicy policy(int maxRetries, double budget) {
+        return new DeezerRetryPolicy(maxRetries, Duration.ofMillis(1), Duration.ofSeconds(1), budget,
+                Duration.ofMillis(100));
+    }
+
+    private Mono<String> failingOnce(RuntimeException failure) {
+        return Mono.defer(() -> attempts.getAndIncrement() == 0 ? Mono.error(failure) : Mono.just("ok"));
+    }
+
+    @Test
+    void shouldRetryAfterQuotaWindow_whenDeezerQuotaIsExceeded() {
+        DeezerRetryPolicy policy = policy(3, 0.1);
+        Mono<String> request = failingOnce(new DeezerApiException(DeezerApiException.QUOTA_EXCEEDED, "Exception",
+                "Quota limit exceeded"));
+
+        Duration elapsed = StepVerifier.create(request.retryWhen(policy.retry()))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(2);
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(policy.getRetryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRetry_whenRequestWasRefusedByClient() {
+        DeezerRetryPolicy policy = policy(3, 0.1);
+        Mono<String> request = failingOnce(new DeezerRateLimitException("Deezer API rate limit reached"));
+
+        StepVerifier.create(request.retryWhen(policy.retry()))
+                .verifyError(DeezerRateLimitException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldNotRetry_whenDeezerErrorIsPermanent() {
+        DeezerRetryPolicy policy = policy(3, 0.1);
+        Mono<String> request = failingOnce(new DeezerApiException(500, "ParameterException", "Wrong parameter"));
+
+        StepVerifier.create(request.retryWhen(policy.retry()))
+                .verifyError(DeezerApiException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldNotRetry_whenRetryAfterExceedsMaxDelay() {
+        DeezerRetryPolicy policy = policy(3, 0.1);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "60");
+        Mono<String> request = failingOnce(WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE,
+                "Service Unavailable", headers, new byte[0], StandardCharsets.UTF_8, null));
+
+        StepVerifier.create(request.retryWhen(policy.retry()))
+                .verifyError(WebClientResponseException.ServiceUnavailable.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldStopRetrying_whenRetryBudgetIsSpent() {
+        DeezerRetryPolicy policy = policy(1, 0);
+        Mono<String> request = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new DeezerApiException(DeezerApiException.SERVICE_BUSY, "Exception", "Service busy"));
+        });
+
+        for (int i = 0; i < DeezerRetryPolicy.MAX_BURST + 2; i++) {
+            StepVerifier.create(request.retryWhen(policy.retry()))
+                    .verifyError(DeezerApiException.class);
+        }
+
+        assertThat(policy.getRetryCount()).isEqualTo(DeezerRetryPolicy.MAX_BURST);
+        assertThat(policy.getExhaustedCount()).isEqualTo(2);
+        assertThat(attempts).hasValue(2 * DeezerRetryPolicy.MAX_BURST + 2);
+    }
+
+    @Test
+    void shouldRetryBlockingRequest_whenServerErrorIsTransient() {
+        DeezerRetryPolicy policy = policy(3, 0.1);
+
+        String response = policy.execute(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }
+            return "ok";
+        });
+
+        assertThat(response).isEqualTo("ok");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void shouldGiveUpBlockingRequest_whenRetriesAreExhausted() {
+        DeezerRetryPolicy policy = policy(2, 0.1);
+
+        assertThatThrownBy(() -> policy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+        })).isInstanceOf(HttpServerErrorException.class);
+
+        assertThat(attempts).hasValue(3);
+    }
+}